@@ -0,0 +1,16 @@
+package com.kms.katalon.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for custom keyword classes whose keywords can all be invoked on one instance. The class is instantiated
+ * once and its constructor runs only once, so it must not keep state between keyword calls.
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SharedKeywordInstance {
+}
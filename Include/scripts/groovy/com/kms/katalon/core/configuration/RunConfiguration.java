@@ -131,6 +131,36 @@ public class RunConfiguration {
     
     public static final String LOG_TEST_STEPS = "logTestSteps";
 
+    public static final String LOG_TESTOPS_ATTRIBUTES = "logTestOpsAttributes";
+
+    public static final String ASYNC_LOGGING = "asyncLogging";
+
+    public static final String ASYNC_LOGGING_QUEUE_SIZE = "asyncLoggingQueueSize";
+
+    public static final String ASYNC_LOGGING_OVERFLOW_POLICY = "asyncLoggingOverflowPolicy";
+
+    public static final String INCREMENTAL_REPORT = "incrementalReport";
+
+    public static final String SCRIPT_BYTECODE_CACHE = "scriptBytecodeCache";
+
+    public static final String CSV_STREAMING_THRESHOLD = "csvStreamingThreshold";
+
+    public static final String EXCEL_STREAMING_THRESHOLD = "excelStreamingThreshold";
+
+    public static final String DB_CONNECTION_POOL_SIZE = "dbConnectionPoolSize";
+
+    public static final String DB_CONNECTION_POOL_IDLE_TIMEOUT = "dbConnectionPoolIdleTimeout";
+
+    public static final String DB_CONNECTION_POOL_LEAK_THRESHOLD = "dbConnectionPoolLeakThreshold";
+
+    public static final String DB_CONNECTION_POOL_VALIDATION_QUERY = "dbConnectionPoolValidationQuery";
+
+    public static final String DB_DATA_CURSOR = "dbDataCursor";
+
+    public static final String DB_DATA_FETCH_SIZE = "dbDataFetchSize";
+
+    public static final String MHTML_WAIT_TIMEOUT = "mhtmlWaitTimeout";
+
     public static final String XPATHS_PRIORITY = "xpathsPriority";
 
     public static final String ALLOW_CUSTOMIZE_REQUEST_TIMEOUT = "allowCustomizeRequestTimeout";
@@ -142,6 +172,16 @@ public class RunConfiguration {
     public static final String ALLOW_CUSTOMIZE_REQUEST_RESPONSE_SIZE_LIMIT = "allowCustomizeRequestResponseSizeLimit";
 
     public static final String REQUEST_MAX_RESPONSE_SIZE = "maxResponseSize";
+
+    public static final String REQUEST_VALIDATE_AFTER_INACTIVITY = "requestValidateAfterInactivity";
+
+    public static final String REQUEST_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+
+    public static final String REQUEST_MAX_CONCURRENT_REQUESTS_PER_HOST = "maxConcurrentRequestsPerHost";
+
+    public static final String REQUEST_MAX_WAITING_REQUESTS_PER_HOST = "maxWaitingRequestsPerHost";
+
+    public static final String RESPONSE_BODY_SPOOL_THRESHOLD = "responseBodySpoolThreshold";
     
     public static final String VM_ARGUMENTS = "vmArguments";
     
@@ -225,6 +265,14 @@ public class RunConfiguration {
         }
     }
 
+    /**
+     * @return the execution settings of the current thread, which can be given to
+     * {@link #setExecutionSetting(Map)} on another thread
+     */
+    public static Map<String, Object> getExecutionSetting() {
+        return localExecutionSettingMapStorage.get();
+    }
+
     public static void setExecutionSetting(Map<String, Object> executionSettingMap) {
         if (executionSettingMap == null) {
             return;
@@ -3,6 +3,29 @@ package com.kms.katalon.core.constants;
 public class CoreConstants {
     public static final Boolean DEFAULT_LOG_TEST_STEPS = true;
 
+    public static final Boolean DEFAULT_LOG_TESTOPS_ATTRIBUTES = true;
+
+    // CSV files larger than this size in bytes are read in streaming mode
+    public static final long DEFAULT_CSV_STREAMING_THRESHOLD = 100L * 1024 * 1024;
+
+    // Excel 2007+ files larger than this size in bytes are read in streaming mode, negative to read them as workbooks
+    public static final long DEFAULT_EXCEL_STREAMING_THRESHOLD = -1L;
+
+    // Database connections kept open for reuse per connection URL and user, 0 disables the pool
+    public static final int DEFAULT_DB_CONNECTION_POOL_SIZE = 4;
+
+    // Pooled database connections unused for this number of seconds are closed
+    public static final int DEFAULT_DB_CONNECTION_POOL_IDLE_TIMEOUT = 300;
+
+    // Database connections in use for this number of seconds are reported as leaked
+    public static final int DEFAULT_DB_CONNECTION_POOL_LEAK_THRESHOLD = 600;
+
+    // Number of rows the JDBC driver is asked to fetch at a time when reading database data, 0 lets the driver decide
+    public static final int DEFAULT_DB_DATA_FETCH_SIZE = 1000;
+
+    // Seconds to wait for the browser extension to send the MHTML of an ended test case, 0 does not wait
+    public static final int DEFAULT_MHTML_WAIT_TIMEOUT = 5;
+
     public static final String PLATFORM_WEB = "web";
 
     public static final String PLATFORM_MOBILE = "mobile";
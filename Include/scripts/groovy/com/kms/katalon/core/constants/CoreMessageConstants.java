@@ -37,6 +37,8 @@ public class CoreMessageConstants extends NLS {
     
     public static String MSG_ERR_UNABLE_TO_CREATE_LOGGER;
 
+    public static String MSG_WARN_DROPPED_DEBUG_LOG_RECORDS;
+
     public static String MSG_INFO_PARSING_LOG_FILES;
 
     public static String MSG_INFO_PARSING_X;
@@ -65,6 +67,8 @@ public class CoreMessageConstants extends NLS {
 
     public static String TO_LOG_WARNING_CANNOT_GET_TEST_OBJECT_X_BECAUSE_OF_Y;
 
+    public static String TO_LOG_DEBUG_TEST_OBJ_CACHE_STATISTICS;
+
     public static String KW_LOG_INFO_MATCHING_ACTUAL_TXT_W_EXPECTED_TXT;
 
     public static String KW_LOG_PASSED_ACTUAL_TXT_MATCHED_EXPECTED_TXT;
@@ -322,6 +326,12 @@ public class CoreMessageConstants extends NLS {
 
     public static String KRE_MSG_DRIVER_NOT_FOUND;
 
+    public static String DB_LOG_CONNECTION_POOL_METRICS;
+
+    public static String DB_LOG_CONNECTION_POOL_EXHAUSTED;
+
+    public static String DB_LOG_CONNECTION_LEAKED;
+
     static {
         // initialize resource bundle
         NLS.initializeMessages(BUNDLE_NAME, CoreMessageConstants.class);
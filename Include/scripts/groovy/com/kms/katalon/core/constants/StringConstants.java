@@ -99,6 +99,8 @@ public class StringConstants {
 
     public static final String TO_LOG_WARNING_CANNOT_GET_TEST_OBJECT_X_BECAUSE_OF_Y = CoreMessageConstants.TO_LOG_WARNING_CANNOT_GET_TEST_OBJECT_X_BECAUSE_OF_Y;
 
+    public static final String TO_LOG_DEBUG_TEST_OBJ_CACHE_STATISTICS = CoreMessageConstants.TO_LOG_DEBUG_TEST_OBJ_CACHE_STATISTICS;
+
     // BuiltinKeywords
     public static final String KW_LOG_INFO_MATCHING_ACTUAL_TXT_W_EXPECTED_TXT = CoreMessageConstants.KW_LOG_INFO_MATCHING_ACTUAL_TXT_W_EXPECTED_TXT;
 
@@ -524,4 +526,11 @@ public class StringConstants {
     public static final String UTIL_EXC_FILE_NOT_NULL = CoreMessageConstants.UTIL_EXC_FILE_NOT_NULL;
 
     public static final String KRE_MSG_DRIVER_NOT_FOUND = CoreMessageConstants.KRE_MSG_DRIVER_NOT_FOUND;
+
+    // ConnectionPool
+    public static final String DB_LOG_CONNECTION_POOL_METRICS = CoreMessageConstants.DB_LOG_CONNECTION_POOL_METRICS;
+
+    public static final String DB_LOG_CONNECTION_POOL_EXHAUSTED = CoreMessageConstants.DB_LOG_CONNECTION_POOL_EXHAUSTED;
+
+    public static final String DB_LOG_CONNECTION_LEAKED = CoreMessageConstants.DB_LOG_CONNECTION_LEAKED;
 }
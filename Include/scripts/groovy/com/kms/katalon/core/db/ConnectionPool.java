@@ -0,0 +1,560 @@
+package com.kms.katalon.core.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbutils.DbUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.constants.CoreConstants;
+import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.logging.KeywordLogger;
+import com.kms.katalon.core.util.internal.ExceptionsUtil;
+
+/**
+ * Pool of JDBC connections for one connection URL and user.
+ * <p>
+ * Closing a connection obtained from a pool rolls back its pending transaction, closes its statements, restores the
+ * auto-commit, read-only, transaction isolation, catalog and schema settings it was opened with and keeps it open for
+ * the next borrower. At most <code>dbConnectionPoolSize</code> connections are kept per pool. When all of
+ * them are in use, an unpooled connection is opened and closed as usual. Idle connections are closed after
+ * <code>dbConnectionPoolIdleTimeout</code> seconds, and connections are validated before being reused, with
+ * <code>dbConnectionPoolValidationQuery</code> when it is set. Connections in use for more than
+ * <code>dbConnectionPoolLeakThreshold</code> seconds are reported with the stack trace of the code that obtained
+ * them.
+ */
+public class ConnectionPool {
+
+    private static final KeywordLogger logger = KeywordLogger.getInstance(ConnectionPool.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    // Closed statements are forgotten when a connection has more open statements than this
+    private static final int MAX_TRACKED_STATEMENTS = 64;
+
+    private static final Map<Key, ConnectionPool> pools = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConnectionPool::closeIdleConnections));
+    }
+
+    /**
+     * Opens physical connections for a pool
+     */
+    public interface ConnectionFactory {
+        Connection openConnection() throws SQLException;
+    }
+
+    private final Key key;
+
+    private final int maxSize;
+
+    private final long idleTimeoutMillis;
+
+    private final long leakThresholdMillis;
+
+    private final String validationQuery;
+
+    // Most recently used first
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+
+    private final Set<PooledConnection> borrowedConnections = new LinkedHashSet<>();
+
+    // Pooled connections that are open, borrowed or idle, or being opened
+    private int openCount;
+
+    private long borrowCount;
+
+    private long reuseCount;
+
+    private long createCount;
+
+    private long overflowCount;
+
+    private long evictCount;
+
+    private long invalidCount;
+
+    private long leakCount;
+
+    private long reportedBorrowCount;
+
+    private ConnectionPool(Key key, int maxSize, long idleTimeoutMillis, long leakThresholdMillis,
+            String validationQuery) {
+        this.key = key;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.validationQuery = validationQuery;
+    }
+
+    /**
+     * Get the pool of a connection URL and user
+     *
+     * @return the pool, or null if connection pooling is disabled
+     */
+    public static ConnectionPool getPool(String connectionUrl, String user, String password, String driverClassName) {
+        int maxSize = getIntSetting(RunConfiguration.DB_CONNECTION_POOL_SIZE,
+                CoreConstants.DEFAULT_DB_CONNECTION_POOL_SIZE);
+        if (maxSize <= 0) {
+            return null;
+        }
+        return pools.computeIfAbsent(new Key(connectionUrl, user, password, driverClassName),
+                poolKey -> new ConnectionPool(poolKey, maxSize,
+                        TimeUnit.SECONDS.toMillis(getIntSetting(RunConfiguration.DB_CONNECTION_POOL_IDLE_TIMEOUT,
+                                CoreConstants.DEFAULT_DB_CONNECTION_POOL_IDLE_TIMEOUT)),
+                        TimeUnit.SECONDS.toMillis(getIntSetting(RunConfiguration.DB_CONNECTION_POOL_LEAK_THRESHOLD,
+                                CoreConstants.DEFAULT_DB_CONNECTION_POOL_LEAK_THRESHOLD)),
+                        getValidationQuery()));
+    }
+
+    private static int getIntSetting(String name, int defaultValue) {
+        Object value = getSetting(name);
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
+    private static String getValidationQuery() {
+        Object value = getSetting(RunConfiguration.DB_CONNECTION_POOL_VALIDATION_QUERY);
+        return value instanceof String && StringUtils.isNotBlank((String) value) ? (String) value : null;
+    }
+
+    private static Object getSetting(String name) {
+        if (RunConfiguration.getExecutionProperties() == null) {
+            return null;
+        }
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        return generalProperties != null ? generalProperties.get(name) : null;
+    }
+
+    /**
+     * Borrow a connection from this pool, it goes back to the pool when it is closed
+     *
+     * @param factory opens a new physical connection when no idle connection can be reused
+     * @return the borrowed connection
+     * @throws SQLException if a new connection cannot be opened
+     */
+    public Connection borrow(ConnectionFactory factory) throws SQLException {
+        PooledConnection candidate;
+        while ((candidate = takeIdleConnection()) != null) {
+            if (isValid(candidate.physicalConnection)) {
+                return lend(candidate, true);
+            }
+            discard(candidate, true);
+        }
+
+        if (!reserve()) {
+            logger.logInfo(MessageFormat.format(StringConstants.DB_LOG_CONNECTION_POOL_EXHAUSTED, key, maxSize));
+            return factory.openConnection();
+        }
+        Connection physicalConnection = null;
+        PooledConnection pooledConnection = null;
+        try {
+            physicalConnection = factory.openConnection();
+            if (physicalConnection != null) {
+                pooledConnection = new PooledConnection(physicalConnection);
+            }
+        } finally {
+            if (pooledConnection == null) {
+                DbUtils.closeQuietly(physicalConnection);
+                synchronized (this) {
+                    openCount--;
+                }
+            }
+        }
+        if (pooledConnection == null) {
+            return null;
+        }
+        return lend(pooledConnection, false);
+    }
+
+    private synchronized PooledConnection takeIdleConnection() {
+        evictIdleConnections();
+        return idleConnections.pollFirst();
+    }
+
+    private synchronized boolean reserve() {
+        if (openCount >= maxSize) {
+            overflowCount++;
+            borrowCount++;
+            return false;
+        }
+        openCount++;
+        return true;
+    }
+
+    private synchronized Connection lend(PooledConnection pooledConnection, boolean reused) {
+        borrowCount++;
+        if (reused) {
+            reuseCount++;
+        } else {
+            createCount++;
+        }
+        pooledConnection.borrowedAt = System.currentTimeMillis();
+        pooledConnection.borrowStackTrace = new Throwable();
+        pooledConnection.leakReported = false;
+        pooledConnection.leakDetectionExcluded = false;
+        borrowedConnections.add(pooledConnection);
+        return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandle(pooledConnection));
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (validationQuery == null) {
+                return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+                statement.execute(validationQuery);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        } catch (AbstractMethodError e) {
+            // JDBC 3 drivers do not implement isValid
+            return true;
+        }
+    }
+
+    private void giveBack(PooledConnection pooledConnection, List<Statement> statements) {
+        for (Statement statement : statements) {
+            DbUtils.closeQuietly(statement);
+        }
+        boolean reusable;
+        try {
+            Connection connection = pooledConnection.physicalConnection;
+            reusable = !connection.isClosed();
+            if (reusable) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+                // The next borrower gets the connection as it was opened, a connection that cannot be reset is closed
+                pooledConnection.restoreInitialSettings();
+                connection.clearWarnings();
+            }
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        synchronized (this) {
+            borrowedConnections.remove(pooledConnection);
+            if (reusable) {
+                pooledConnection.lastUsedAt = System.currentTimeMillis();
+                idleConnections.addFirst(pooledConnection);
+                evictIdleConnections();
+                return;
+            }
+        }
+        discard(pooledConnection, false);
+    }
+
+    private void discard(PooledConnection pooledConnection, boolean invalid) {
+        DbUtils.closeQuietly(pooledConnection.physicalConnection);
+        synchronized (this) {
+            openCount--;
+            if (invalid) {
+                invalidCount++;
+            }
+        }
+    }
+
+    private synchronized void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> leastRecentlyUsed = idleConnections.descendingIterator();
+        while (leastRecentlyUsed.hasNext()) {
+            PooledConnection pooledConnection = leastRecentlyUsed.next();
+            if (now - pooledConnection.lastUsedAt < idleTimeoutMillis) {
+                break;
+            }
+            leastRecentlyUsed.remove();
+            DbUtils.closeQuietly(pooledConnection.physicalConnection);
+            openCount--;
+            evictCount++;
+        }
+    }
+
+    private void reportLeakedConnections() {
+        List<PooledConnection> leakedConnections = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            for (PooledConnection pooledConnection : borrowedConnections) {
+                if (!pooledConnection.leakReported && !pooledConnection.leakDetectionExcluded
+                        && now - pooledConnection.borrowedAt >= leakThresholdMillis) {
+                    pooledConnection.leakReported = true;
+                    leakCount++;
+                    leakedConnections.add(pooledConnection);
+                }
+            }
+        }
+        for (PooledConnection leakedConnection : leakedConnections) {
+            logger.logInfo(MessageFormat.format(StringConstants.DB_LOG_CONNECTION_LEAKED, key,
+                    TimeUnit.MILLISECONDS.toSeconds(now - leakedConnection.borrowedAt),
+                    ExceptionsUtil.getStackTraceForThrowable(leakedConnection.borrowStackTrace)));
+        }
+    }
+
+    private void logMetrics() {
+        String metrics;
+        synchronized (this) {
+            evictIdleConnections();
+            if (borrowCount == reportedBorrowCount) {
+                return;
+            }
+            reportedBorrowCount = borrowCount;
+            metrics = MessageFormat.format(StringConstants.DB_LOG_CONNECTION_POOL_METRICS, key, borrowCount,
+                    reuseCount, createCount, overflowCount, borrowedConnections.size(), idleConnections.size(),
+                    evictCount, invalidCount, leakCount);
+        }
+        logger.logInfo(metrics);
+    }
+
+    private synchronized void closeIdle() {
+        for (PooledConnection pooledConnection : idleConnections) {
+            DbUtils.closeQuietly(pooledConnection.physicalConnection);
+            openCount--;
+        }
+        idleConnections.clear();
+    }
+
+    /**
+     * Report the connections of all pools that have been in use for longer than the leak threshold
+     */
+    public static void reportLeaks() {
+        for (ConnectionPool pool : pools.values()) {
+            pool.reportLeakedConnections();
+        }
+    }
+
+    /**
+     * Never report a borrowed connection as leaked, for connections that are meant to stay in use for long, like the
+     * connection of an open cursor. The connection is checked again once it is given back and borrowed again.
+     *
+     * @param connection a connection borrowed from a pool, other connections are ignored
+     */
+    public static void excludeFromLeakDetection(Connection connection) {
+        if (connection == null || !Proxy.isProxyClass(connection.getClass())) {
+            return;
+        }
+        InvocationHandler handler = Proxy.getInvocationHandler(connection);
+        if (handler instanceof ConnectionHandle) {
+            ((ConnectionHandle) handler).excludeFromLeakDetection();
+        }
+    }
+
+    /**
+     * Log the metrics of the pools that have been used since their metrics were last logged
+     */
+    public static void logPoolMetrics() {
+        for (ConnectionPool pool : pools.values()) {
+            pool.logMetrics();
+        }
+    }
+
+    /**
+     * Close the idle connections of all pools
+     */
+    public static void closeIdleConnections() {
+        for (ConnectionPool pool : pools.values()) {
+            pool.closeIdle();
+        }
+    }
+
+    private static class Key {
+        private final String connectionUrl;
+
+        private final String user;
+
+        private final String password;
+
+        private final String driverClassName;
+
+        private Key(String connectionUrl, String user, String password, String driverClassName) {
+            this.connectionUrl = connectionUrl;
+            this.user = user;
+            this.password = password;
+            this.driverClassName = driverClassName;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(connectionUrl, other.connectionUrl) && Objects.equals(user, other.user)
+                    && Objects.equals(password, other.password)
+                    && Objects.equals(driverClassName, other.driverClassName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(connectionUrl, user, password, driverClassName);
+        }
+
+        @Override
+        public String toString() {
+            return user != null ? user + " on " + connectionUrl : connectionUrl;
+        }
+    }
+
+    private static class PooledConnection {
+        private final Connection physicalConnection;
+
+        // Settings of the connection when it was opened
+        private final boolean autoCommit;
+
+        private final boolean readOnly;
+
+        private final int transactionIsolation;
+
+        private final String catalog;
+
+        private final String schema;
+
+        // JDBC 4.0 drivers do not implement getSchema and setSchema
+        private final boolean schemaSupported;
+
+        private long borrowedAt;
+
+        private long lastUsedAt;
+
+        private Throwable borrowStackTrace;
+
+        private boolean leakReported;
+
+        private boolean leakDetectionExcluded;
+
+        private PooledConnection(Connection physicalConnection) throws SQLException {
+            this.physicalConnection = physicalConnection;
+            this.autoCommit = physicalConnection.getAutoCommit();
+            this.readOnly = physicalConnection.isReadOnly();
+            this.transactionIsolation = physicalConnection.getTransactionIsolation();
+            this.catalog = physicalConnection.getCatalog();
+            String initialSchema = null;
+            boolean initialSchemaSupported = true;
+            try {
+                initialSchema = physicalConnection.getSchema();
+            } catch (SQLFeatureNotSupportedException | AbstractMethodError e) {
+                initialSchemaSupported = false;
+            }
+            this.schema = initialSchema;
+            this.schemaSupported = initialSchemaSupported;
+        }
+
+        private void restoreInitialSettings() throws SQLException {
+            if (physicalConnection.getAutoCommit() != autoCommit) {
+                physicalConnection.setAutoCommit(autoCommit);
+            }
+            if (physicalConnection.isReadOnly() != readOnly) {
+                physicalConnection.setReadOnly(readOnly);
+            }
+            if (physicalConnection.getTransactionIsolation() != transactionIsolation) {
+                physicalConnection.setTransactionIsolation(transactionIsolation);
+            }
+            if (!Objects.equals(physicalConnection.getCatalog(), catalog)) {
+                physicalConnection.setCatalog(catalog);
+            }
+            if (schemaSupported && !Objects.equals(physicalConnection.getSchema(), schema)) {
+                physicalConnection.setSchema(schema);
+            }
+        }
+    }
+
+    /**
+     * Connection given to a borrower, it stops working once closed so that the borrower cannot use the connection
+     * after giving it back.
+     */
+    private class ConnectionHandle implements InvocationHandler {
+        private final PooledConnection pooledConnection;
+
+        private final List<Statement> statements = new ArrayList<>();
+
+        private boolean closed;
+
+        private ConnectionHandle(PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        giveBack(pooledConnection, statements);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooledConnection.physicalConnection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + pooledConnection.physicalConnection;
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException(StringConstants.EXC_DATABASE_CONNECTION_IS_CLOSED);
+            }
+
+            Object result;
+            try {
+                result = method.invoke(pooledConnection.physicalConnection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement) {
+                trackStatement((Statement) result);
+            }
+            return result;
+        }
+
+        private void excludeFromLeakDetection() {
+            synchronized (ConnectionPool.this) {
+                if (!closed) {
+                    pooledConnection.leakDetectionExcluded = true;
+                }
+            }
+        }
+
+        private void trackStatement(Statement statement) {
+            if (statements.size() >= MAX_TRACKED_STATEMENTS) {
+                Iterator<Statement> iterator = statements.iterator();
+                while (iterator.hasNext()) {
+                    try {
+                        if (iterator.next().isClosed()) {
+                            iterator.remove();
+                        }
+                    } catch (SQLException e) {
+                        iterator.remove();
+                    }
+                }
+            }
+            statements.add(statement);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kms.katalon.core.db;
+
+import com.kms.katalon.core.context.internal.ExecutionListenerEvent;
+import com.kms.katalon.core.context.internal.ExecutionListenerEventHandler;
+import com.kms.katalon.core.context.internal.InternalTestCaseContext;
+import com.kms.katalon.core.testdata.TestDataFactory;
+
+/**
+ * Logs the leaked connections and the metrics of the {@link ConnectionPool}s in the execution log, after each main
+ * test case and after each test suite. The result sets of database data read in cursor mode are closed after each
+ * main test case, for the data found during the test case, and when a test suite or an execution ends.
+ */
+public class ConnectionPoolListener implements ExecutionListenerEventHandler {
+
+    @Override
+    public void handleListenerEvent(ExecutionListenerEvent listenerEvent, Object[] injectedObjects) {
+        switch (listenerEvent) {
+            case AFTER_TEST_CASE: {
+                InternalTestCaseContext testCaseContext = (InternalTestCaseContext) injectedObjects[0];
+                if (!testCaseContext.isMainTestCase()) {
+                    return;
+                }
+                TestDataFactory.closeTestCaseDBDataCursors();
+                ConnectionPool.reportLeaks();
+                ConnectionPool.logPoolMetrics();
+                break;
+            }
+            case AFTER_TEST_SUITE: {
+                TestDataFactory.closeDBDataCursors();
+                ConnectionPool.reportLeaks();
+                ConnectionPool.logPoolMetrics();
+                break;
+            }
+            case AFTER_TEST_EXECUTION:
+                TestDataFactory.closeDBDataCursors();
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -129,27 +129,31 @@ public class DatabaseConnection {
             return connection;
         }
 
+        ConnectionPool pool = ConnectionPool.getPool(connectionUrl, user, password, driverClassName);
+        connection = pool != null ? pool.borrow(() -> openConnection(properties)) : openConnection(properties);
+        // Disable auto commit
+        connection.setAutoCommit(false);
+        // Enable read-only
+        connection.setReadOnly(true);
+
+        logNewConnection();
+
+        return connection;
+    }
+
+    private Connection openConnection(Properties properties) throws SQLException {
         String loadedDriverClassName = loadSuitableDatabaseDriver();
 
         if (StringUtils.isNotEmpty(loadedDriverClassName)) {
             try {
-                connection = ((Driver) Class
+                return ((Driver) Class
                         .forName(loadedDriverClassName, true, Thread.currentThread().getContextClassLoader())
                         .newInstance()).connect(connectionUrl, properties);
             } catch (InstantiationException | IllegalAccessException | ClassNotFoundException e) {
-                connection = DriverManager.getConnection(connectionUrl, properties);
+                return DriverManager.getConnection(connectionUrl, properties);
             }
-        } else {
-            connection = DriverManager.getConnection(connectionUrl, properties);
         }
-        // Disable auto commit
-        connection.setAutoCommit(false);
-        // Enable read-only
-        connection.setReadOnly(true);
-
-        logNewConnection();
-
-        return connection;
+        return DriverManager.getConnection(connectionUrl, properties);
     }
 
     private void logNewConnection() {
@@ -221,7 +225,7 @@ public class DatabaseConnection {
 
 	/**
 	 * Close connection, avoid closing if null and hide any SQLExceptions that
-	 * occur.
+	 * occur. A pooled connection goes back to its {@link ConnectionPool}.
 	 */
 	public void close() {
 		DbUtils.closeQuietly(connection);
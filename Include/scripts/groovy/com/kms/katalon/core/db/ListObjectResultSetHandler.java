@@ -17,13 +17,35 @@ public class ListObjectResultSetHandler extends ListResultSetHandler<List<List<O
     public List<List<Object>> convert(ResultSet rs) throws SQLException {
         List<List<Object>> result = new ArrayList<List<Object>>();
         while (rs.next()) {
-            List<Object> row = new ArrayList<Object>();
-            for (int i = 1; i <= getColumnCount(); i++) {
-                row.add(rs.getObject(i));
-            }
-            result.add(row);
+            result.add(convertRow(rs));
         }
         return result;
     }
 
+    /**
+     * Read the column names of a result set without reading its rows, to read the rows one by one with
+     * {@link #convertRow(ResultSet)}
+     * 
+     * @param rs the result set
+     * @throws SQLException
+     */
+    public void handleColumns(ResultSet rs) throws SQLException {
+        getColumnNames(rs);
+    }
+
+    /**
+     * Transform the current row of a result set
+     * 
+     * @param rs the result set, positioned on a row
+     * @return values of the row
+     * @throws SQLException
+     */
+    public List<Object> convertRow(ResultSet rs) throws SQLException {
+        List<Object> row = new ArrayList<Object>(getColumnCount());
+        for (int i = 1; i <= getColumnCount(); i++) {
+            row.add(rs.getObject(i));
+        }
+        return row;
+    }
+
 }
@@ -90,6 +90,17 @@ public class SqlRunner implements AutoCloseable {
         preparedStatement.closeOnCompletion();
     }
 
+    /**
+     * Give the JDBC driver a hint of the number of rows to fetch from the database at a time
+     * 
+     * @param fetchSize number of rows, 0 to let the driver decide
+     * @throws SQLException
+     * @see java.sql.Statement#setFetchSize(int)
+     */
+    public void setFetchSize(int fetchSize) throws SQLException {
+        preparedStatement.setFetchSize(fetchSize);
+    }
+
     /**
      * Execute the given SELECT SQL query.
      * 
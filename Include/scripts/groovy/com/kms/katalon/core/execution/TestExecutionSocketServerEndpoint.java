@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import javax.websocket.CloseReason;
@@ -17,6 +18,7 @@ import javax.websocket.Session;
 
 import com.google.gson.Gson;
 import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.constants.CoreConstants;
 import com.kms.katalon.core.logging.KeywordLogger;
 import com.kms.katalon.core.main.TestCaseExecutor;
 import com.kms.katalon.core.testcase.BrokenTestCaseSummary;
@@ -48,7 +50,17 @@ public class TestExecutionSocketServerEndpoint extends Endpoint {
 
     private static final int DEFAULT_MAX_BINARY_MESSAGE_SIZE = 1024 * 1024 * 10 * 2; // 20MB
 
-    private Thread thread;
+    // MHTML expected after the last EXECUTION_ENDED command, null if none is expected
+    private volatile ExpectedMhtml expectedMhtml;
+
+    /**
+     * The MHTML answering one EXECUTION_ENDED command and the thread that handles it
+     */
+    private static class ExpectedMhtml {
+        private final CountDownLatch received = new CountDownLatch(1);
+
+        private volatile Thread handlingThread;
+    }
 
     @Override
     public void onClose(Session session, CloseReason closeReason) {
@@ -73,7 +85,7 @@ public class TestExecutionSocketServerEndpoint extends Endpoint {
      * client
      */
     public void handleMhtml(ByteBuffer msg) {
-        thread = new Thread(new Runnable() {
+        Thread thread = new Thread(new Runnable() {
             @SuppressWarnings("unchecked")
             @Override
             public void run() {
@@ -117,6 +129,11 @@ public class TestExecutionSocketServerEndpoint extends Endpoint {
             }
         });
         thread.start();
+        ExpectedMhtml mhtml = expectedMhtml;
+        if (mhtml != null && mhtml.received.getCount() > 0) {
+            mhtml.handlingThread = thread;
+            mhtml.received.countDown();
+        }
     }
 
     private String getPathRelativeToProjectFolder(String absolutePath) {
@@ -125,32 +142,50 @@ public class TestExecutionSocketServerEndpoint extends Endpoint {
     }
 
     /**
-     * This method waits within 5 seconds for a thread that handles MHTML to
-     * start. This logic is needed because MHTML should be sent from browser's
-     * extension after Katalon sends {@link TestExecutionCommand EXECUTION_END}
-     * command, but Katalon's thread will continue after sending the command
-     * which may terminate before receiving the MHTML
+     * This method waits for the MHTML answering the last
+     * {@link TestExecutionCommand#EXECUTION_ENDED} command to be handled. This
+     * logic is needed because MHTML should be sent from browser's extension
+     * after Katalon sends the command, but Katalon's thread will continue after
+     * sending the command which may terminate before receiving the MHTML
      * <p>
-     * After 5 seconds, if a thread does start, it waits until the thread is
-     * done.
+     * It returns as soon as the thread that handles this MHTML is done. If no
+     * MHTML is expected, it returns immediately. If the MHTML is not received
+     * within the <code>mhtmlWaitTimeout</code> execution setting, 5 seconds by
+     * default, a warning is logged and it returns without waiting for it
+     * anymore.
      * </p>
      * 
      */
     public synchronized void waitForMhtmlHandlingThread() {
-        int counter = 0;
-        while (thread == null || counter < 5) {
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                // Ignore it
-            }
-            counter++;
+        ExpectedMhtml mhtml = expectedMhtml;
+        if (mhtml == null) {
+            return;
         }
         try {
-            thread.join();
+            int timeout = getMhtmlWaitTimeout();
+            if (!mhtml.received.await(timeout, TimeUnit.SECONDS)) {
+                logger.logWarning("Time Capsule was not received within " + timeout + " second(s)");
+                return;
+            }
+            mhtml.handlingThread.join();
         } catch (InterruptedException e) {
             // Ignore it
+        } finally {
+            if (expectedMhtml == mhtml) {
+                expectedMhtml = null;
+            }
+        }
+    }
+
+    private static int getMhtmlWaitTimeout() {
+        if (RunConfiguration.getExecutionProperties() == null) {
+            return CoreConstants.DEFAULT_MHTML_WAIT_TIMEOUT;
         }
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        Object timeout = generalProperties != null ? generalProperties.get(RunConfiguration.MHTML_WAIT_TIMEOUT)
+                : null;
+        return timeout instanceof Number ? Math.max(0, ((Number) timeout).intValue())
+                : CoreConstants.DEFAULT_MHTML_WAIT_TIMEOUT;
     }
 
     public void notifyExecutionEndedAndWaitForMHTML(Map<String, String> data) {
@@ -168,6 +203,10 @@ public class TestExecutionSocketServerEndpoint extends Endpoint {
     }
 
     public void sendMessage(TestExecutionMessage message) {
+        if (message.getCommand() == TestExecutionCommand.EXECUTION_ENDED) {
+            // The browser extension answers with the MHTML of the test case
+            expectedMhtml = new ExpectedMhtml();
+        }
         sendText(new Gson().toJson(message));
     }
 
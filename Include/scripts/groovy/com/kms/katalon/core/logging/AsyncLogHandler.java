@@ -0,0 +1,220 @@
+package com.kms.katalon.core.logging;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.kms.katalon.core.constants.CoreMessageConstants;
+
+/**
+ * Handler that queues log records and passes them to its delegate handlers on a dedicated writer thread.
+ * <p>
+ * Records are queued in a bounded buffer shared by all logging threads and written in batches, so the logging
+ * threads do not wait for formatting, file or socket I/O. The order of records is preserved. {@link #flush()} blocks
+ * until every record queued before the call has been written and the delegates have been flushed.
+ * <p>
+ * When the buffer is full, the logging thread either waits for free space or, with
+ * {@link OverflowPolicy#DROP_DEBUG}, drops the record if it is a debug record.
+ */
+class AsyncLogHandler extends Handler {
+
+    enum OverflowPolicy {
+        BLOCK, DROP_DEBUG;
+
+        static OverflowPolicy fromSettingValue(Object value) {
+            return "dropDebug".equals(value) ? DROP_DEBUG : BLOCK;
+        }
+    }
+
+    static final int DEFAULT_QUEUE_SIZE = 8192;
+
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private static final long POLL_INTERVAL_MILLIS = 100L;
+
+    private final List<Handler> delegates;
+
+    private final BlockingQueue<LogRecord> queue;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Thread writerThread;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // Logging threads between their closed check and the end of their offer, the writer thread waits for them
+    private final AtomicInteger publishingCount = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    AsyncLogHandler(List<Handler> delegates, int queueSize, OverflowPolicy overflowPolicy) {
+        this.delegates = new ArrayList<>(delegates);
+        this.queue = new ArrayBlockingQueue<>(queueSize > 0 ? queueSize : DEFAULT_QUEUE_SIZE);
+        this.overflowPolicy = overflowPolicy;
+        this.writerThread = new Thread(this::writeRecords, "katalon-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        // The source class and method are inferred from the current stack, so this must happen on the logging thread
+        record.getSourceClassName();
+        if (record instanceof XmlLogRecord) {
+            // Callers may reuse the attribute map once the record is logged
+            XmlLogRecord xmlLogRecord = (XmlLogRecord) record;
+            xmlLogRecord.setProperties(new LinkedHashMap<>(xmlLogRecord.getProperties()));
+        }
+        // Registering before checking closed, so the writer thread either sees this thread or this thread sees closed
+        publishingCount.incrementAndGet();
+        try {
+            if (closed) {
+                return;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP_DEBUG && isDebug(record)) {
+                if (!queue.offer(record)) {
+                    droppedCount.incrementAndGet();
+                }
+                return;
+            }
+            // Only this thread waits for free space, other logging threads are not held up
+            while (!queue.offer(record, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // The writer thread keeps draining the queue
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            publishingCount.decrementAndGet();
+        }
+    }
+
+    private static boolean isDebug(LogRecord record) {
+        return record instanceof XmlLogRecord && ((XmlLogRecord) record).isDebug();
+    }
+
+    /**
+     * Waits until every record queued before this call has been written, then returns.
+     */
+    @Override
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        // The queue keeps the order of records, so the marker is reached once the earlier records are written
+        FlushMarker marker = new FlushMarker();
+        try {
+            while (!queue.offer(marker, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!writerThread.isAlive()) {
+                    return;
+                }
+            }
+            while (!marker.written.await(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!writerThread.isAlive()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops accepting records, waits until the queued records have been written, then closes the delegates.
+     */
+    @Override
+    public void close() throws SecurityException {
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        // No record is queued once closed, the writer thread waits for the logging threads still offering a record,
+        // drains the queue and then stops
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long dropped = droppedCount.get();
+        if (dropped > 0) {
+            writeBatch(Collections.singletonList(new XmlLogRecord(LogLevel.WARNING.getLevel(),
+                    MessageFormat.format(CoreMessageConstants.MSG_WARN_DROPPED_DEBUG_LOG_RECORDS, dropped))));
+        }
+        for (Handler delegate : delegates) {
+            delegate.close();
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!closed || publishingCount.get() > 0 || !queue.isEmpty()) {
+            try {
+                LogRecord first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // Keep writing until the handler is closed
+            } finally {
+                for (LogRecord record : batch) {
+                    if (record instanceof FlushMarker) {
+                        ((FlushMarker) record).written.countDown();
+                    }
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<LogRecord> batch) {
+        for (Handler delegate : delegates) {
+            for (LogRecord record : batch) {
+                if (record instanceof FlushMarker) {
+                    continue;
+                }
+                try {
+                    delegate.publish(record);
+                } catch (RuntimeException e) {
+                    reportError(null, e, ErrorManager.WRITE_FAILURE);
+                }
+            }
+            try {
+                delegate.flush();
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.FLUSH_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Queued by {@link AsyncLogHandler#flush()}, released once the records queued before it have been written.
+     */
+    private static class FlushMarker extends LogRecord {
+        private static final long serialVersionUID = 1L;
+
+        private final transient CountDownLatch written = new CountDownLatch(1);
+
+        private FlushMarker() {
+            super(Level.OFF, null);
+        }
+    }
+}
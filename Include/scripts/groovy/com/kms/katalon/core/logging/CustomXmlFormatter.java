@@ -1,6 +1,5 @@
 package com.kms.katalon.core.logging;
 
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.logging.LogRecord;
@@ -10,6 +9,19 @@ import org.apache.commons.lang3.StringEscapeUtils;
 
 
 public class CustomXmlFormatter extends XMLFormatter {
+
+    private static final String RECORD_END_TAG = "</record>\n";
+
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 64 * 1024;
+
+    // Reused for every record formatted on the same thread
+    private static final ThreadLocal<StringBuilder> localBuilder = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(1024);
+        }
+    };
+
     @Override
     public String format(LogRecord record) {
         int nestedLevel = 0;
@@ -20,9 +32,8 @@ public class CustomXmlFormatter extends XMLFormatter {
             attributes = logRecord.getProperties();
             logRecord.setEscapedJava(false);
 
-            Iterator<Entry<String, String>> it = logRecord.getProperties().entrySet().iterator();
-            while (it.hasNext()) {
-                Entry<String, String> pair = it.next();
+            // The escaped values are kept in the record, handlers that run after this one see them
+            for (Entry<String, String> pair : attributes.entrySet()) {
                 pair.setValue(formatString(pair.getValue()));
             }
         }
@@ -32,19 +43,114 @@ public class CustomXmlFormatter extends XMLFormatter {
         }
 
         String formattedText = super.format(record);
-        StringBuilder sbFormattedText = new StringBuilder(formattedText.substring(0, formattedText.length()
-                - "</record>\n".length()));
-        sbFormattedText.append("  <nestedLevel>" + nestedLevel + "</nestedLevel>\n");
-        sbFormattedText.append("  <escapedJava>" + ((XmlLogRecord) record).isEscapedJava() + "</escapedJava>\n");
-        if (attributes != null) for (String key : attributes.keySet())
-            sbFormattedText.append(String.format("  <property name=\"%s\">%s</property>\n", key, 
-                    attributes.get(key)));
-        sbFormattedText.append("</record>");
-        sbFormattedText.append("\n");
+        StringBuilder sbFormattedText = getBuilder();
+        sbFormattedText.append(formattedText, 0, formattedText.length() - RECORD_END_TAG.length());
+        sbFormattedText.append("  <nestedLevel>").append(nestedLevel).append("</nestedLevel>\n");
+        sbFormattedText.append("  <escapedJava>")
+                .append(((XmlLogRecord) record).isEscapedJava())
+                .append("</escapedJava>\n");
+        if (attributes != null) {
+            for (Entry<String, String> pair : attributes.entrySet()) {
+                sbFormattedText.append("  <property name=\"")
+                        .append(pair.getKey())
+                        .append("\">")
+                        .append(pair.getValue())
+                        .append("</property>\n");
+            }
+        }
+        sbFormattedText.append(RECORD_END_TAG);
         return sbFormattedText.toString();
     }
 
+    private static StringBuilder getBuilder() {
+        StringBuilder builder = localBuilder.get();
+        if (builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+            // Do not keep the buffer of an unusually large record for the rest of the execution
+            builder = new StringBuilder(1024);
+            localBuilder.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
     protected String formatString(String text) {
-        return StringEscapeUtils.escapeXml10(text);
+        return escapeXml10(text);
+    }
+
+    /**
+     * Same result as {@link StringEscapeUtils#escapeXml10(String)}, but returns <code>text</code> itself when nothing
+     * has to be escaped, which is the case for most log messages.
+     */
+    static String escapeXml10(String text) {
+        if (text == null) {
+            return null;
+        }
+        int length = text.length();
+        int firstEscapedIndex = 0;
+        while (firstEscapedIndex < length && !needsEscaping(text.charAt(firstEscapedIndex))) {
+            firstEscapedIndex++;
+        }
+        if (firstEscapedIndex == length) {
+            return text;
+        }
+        StringBuilder escaped = new StringBuilder(length + 16);
+        escaped.append(text, 0, firstEscapedIndex);
+        for (int i = firstEscapedIndex; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isSurrogate(c)) {
+                // Surrogate pairs and unpaired surrogates are rare, let the library handle them
+                return StringEscapeUtils.escapeXml10(text);
+            }
+            appendEscaped(escaped, c);
+        }
+        return escaped.toString();
+    }
+
+    private static boolean needsEscaping(char c) {
+        if (c < 0x20) {
+            return c != '\t' && c != '\n' && c != '\r';
+        }
+        switch (c) {
+            case '"':
+            case '&':
+            case '<':
+            case '>':
+            case '\'':
+                return true;
+            default:
+                return (c >= 0x7f && c <= 0x9f && c != 0x85) || Character.isSurrogate(c) || c == 0xfffe
+                        || c == 0xffff;
+        }
+    }
+
+    private static void appendEscaped(StringBuilder escaped, char c) {
+        switch (c) {
+            case '"':
+                escaped.append("&quot;");
+                return;
+            case '&':
+                escaped.append("&amp;");
+                return;
+            case '<':
+                escaped.append("&lt;");
+                return;
+            case '>':
+                escaped.append("&gt;");
+                return;
+            case '\'':
+                escaped.append("&apos;");
+                return;
+            default:
+                break;
+        }
+        if ((c < 0x20 && c != '\t' && c != '\n' && c != '\r') || c == 0xfffe || c == 0xffff) {
+            // Not allowed in XML 1.0, removed
+            return;
+        }
+        if (c >= 0x7f && c <= 0x9f && c != 0x85) {
+            escaped.append("&#").append((int) c).append(';');
+            return;
+        }
+        escaped.append(c);
     }
 }
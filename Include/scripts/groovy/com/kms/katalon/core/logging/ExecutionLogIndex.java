@@ -0,0 +1,189 @@
+package com.kms.katalon.core.logging;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+
+import com.kms.katalon.core.constants.StringConstants;
+
+/**
+ * Positions of the top level test cases in the execution log files of a test suite, so that a single test case can be
+ * read again without parsing the whole log.
+ * <p>
+ * A position is a log file name and a byte offset in that file. Since the log files rotate, a test case may start in
+ * one file and end in another one. The index is only valid for the log files it was built from, see
+ * {@link #isUpToDate(File[])}.
+ *
+ * @see ExecutionLogStreamParser#getIndex(String)
+ */
+public class ExecutionLogIndex {
+
+    public static final String INDEX_FILE_NAME = "execution.index";
+
+    private static final String FILE_LINE_TYPE = "file";
+
+    private static final String TEST_CASE_LINE_TYPE = "testcase";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final String NO_VALUE = "-";
+
+    // Log file names and their lengths when the index was built
+    private final Map<String, Long> logFileLengths = new LinkedHashMap<>();
+
+    private final List<TestCaseEntry> testCases = new ArrayList<>();
+
+    ExecutionLogIndex(File[] logFiles) {
+        for (File logFile : logFiles) {
+            logFileLengths.put(logFile.getName(), logFile.length());
+        }
+    }
+
+    private ExecutionLogIndex() {
+    }
+
+    public List<TestCaseEntry> getTestCases() {
+        return Collections.unmodifiableList(testCases);
+    }
+
+    void addTestCase(TestCaseEntry testCase) {
+        testCases.add(testCase);
+    }
+
+    /**
+     * @param logFiles the current log files of the test suite
+     * @return true if the given log files are the ones this index was built from, and none of them has changed since
+     */
+    public boolean isUpToDate(File[] logFiles) {
+        if (logFiles == null || logFiles.length != logFileLengths.size()) {
+            return false;
+        }
+        for (File logFile : logFiles) {
+            Long length = logFileLengths.get(logFile.getName());
+            if (length == null || length != logFile.length()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void write(File indexFile) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(indexFile), StringConstants.DF_CHARSET))) {
+            for (Entry<String, Long> logFile : logFileLengths.entrySet()) {
+                writer.write(String.join(SEPARATOR, FILE_LINE_TYPE, logFile.getKey(),
+                        String.valueOf(logFile.getValue())));
+                writer.newLine();
+            }
+            for (TestCaseEntry testCase : testCases) {
+                Position end = testCase.getEnd();
+                writer.write(String.join(SEPARATOR, TEST_CASE_LINE_TYPE, testCase.getStart().getFileName(),
+                        String.valueOf(testCase.getStart().getOffset()), end != null ? end.getFileName() : NO_VALUE,
+                        end != null ? String.valueOf(end.getOffset()) : NO_VALUE,
+                        StringEscapeUtils.escapeJava(testCase.getId()),
+                        StringEscapeUtils.escapeJava(testCase.getName())));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * @return the index read from the given file, or <code>null</code> if the file is not a valid index
+     */
+    public static ExecutionLogIndex read(File indexFile) throws IOException {
+        ExecutionLogIndex index = new ExecutionLogIndex();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(indexFile), StringConstants.DF_CHARSET))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] values = line.split(SEPARATOR, -1);
+                if (FILE_LINE_TYPE.equals(values[0]) && values.length == 3) {
+                    index.logFileLengths.put(values[1], Long.valueOf(values[2]));
+                } else if (TEST_CASE_LINE_TYPE.equals(values[0]) && values.length == 7) {
+                    Position start = new Position(values[1], Long.parseLong(values[2]));
+                    Position end = NO_VALUE.equals(values[3]) ? null
+                            : new Position(values[3], Long.parseLong(values[4]));
+                    index.testCases.add(new TestCaseEntry(StringEscapeUtils.unescapeJava(values[6]),
+                            StringEscapeUtils.unescapeJava(values[5]), start, end));
+                } else {
+                    return null;
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return index;
+    }
+
+    public static class Position {
+        private final String fileName;
+
+        private final long offset;
+
+        Position(String fileName, long offset) {
+            this.fileName = fileName;
+            this.offset = offset;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+    }
+
+    public static class TestCaseEntry {
+        private final String name;
+
+        private final String id;
+
+        private final Position start;
+
+        private final Position end;
+
+        TestCaseEntry(String name, String id, Position start, Position end) {
+            this.name = name;
+            this.id = id;
+            this.start = start;
+            this.end = end;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return the position of the record that starts the test case
+         */
+        public Position getStart() {
+            return start;
+        }
+
+        /**
+         * @return the position right after the record that ends the test case, or <code>null</code> if the execution
+         * was interrupted before the test case ended
+         */
+        public Position getEnd() {
+            return end;
+        }
+    }
+}
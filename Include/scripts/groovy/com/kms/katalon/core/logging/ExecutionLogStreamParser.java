@@ -0,0 +1,303 @@
+package com.kms.katalon.core.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.text.MessageFormat;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import com.kms.katalon.core.constants.CoreMessageConstants;
+import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.logging.ExecutionLogIndex.Position;
+import com.kms.katalon.core.logging.ExecutionLogIndex.TestCaseEntry;
+import com.kms.katalon.util.XmlInputFactoryProvider;
+
+/**
+ * Reads the execution log files of a test suite record by record and passes each record to an
+ * {@link ExecutionLogVisitor}. Only the record being read is held in memory.
+ * <p>
+ * The log files are written by {@link CustomXmlFormatter}, which puts the start and end tags of every record on their
+ * own lines. Records are located by these lines and parsed one at a time, so a log file does not need to be a
+ * well-formed document: the XML declaration and the <code>&lt;log&gt;</code> tag may be repeated or missing, and a
+ * record cut off by a crashed execution is ignored. A start tag line always starts a new record, so the record after a
+ * truncated one is still read, and a record that is not valid XML is skipped.
+ */
+public class ExecutionLogStreamParser {
+
+    private static final String RECORD_START_LINE = "<record>";
+
+    private static final String RECORD_END_LINE = "</record>";
+
+    // Longest line that may still be a start or end tag line once trimmed
+    private static final int MAX_TAG_LINE_LENGTH = 64;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final XMLInputFactory inputFactory = XmlInputFactoryProvider.newInstance();
+
+    private interface RecordConsumer {
+        void accept(XmlLogRecord record, String fileName, long startOffset, long endOffset);
+    }
+
+    /**
+     * Reads all execution log files of the given folder, from the oldest to the newest one.
+     */
+    public void parse(String logFolder, ExecutionLogVisitor visitor, IProgressMonitor progressMonitor)
+            throws XMLStreamException, IOException {
+        File[] xmlFiles = XMLLoggerParser.getSortedLogFile(logFolder);
+        if (xmlFiles == null || xmlFiles.length == 0) {
+            return;
+        }
+        progressMonitor.beginTask(CoreMessageConstants.MSG_INFO_PARSING_LOG_FILES, xmlFiles.length);
+        for (File xmlFile : xmlFiles) {
+            progressMonitor.subTask(MessageFormat.format(CoreMessageConstants.MSG_INFO_PARSING_X, xmlFile.getName()));
+            if (progressMonitor.isCanceled()) {
+                return;
+            }
+            try {
+                readRecords(xmlFile, 0L, Long.MAX_VALUE,
+                        (record, fileName, startOffset, endOffset) -> dispatch(record, visitor));
+            } finally {
+                progressMonitor.worked(1);
+            }
+        }
+    }
+
+    /**
+     * Reads the records of a single test case, from the record that starts it to the record that ends it.
+     *
+     * @param testCase a test case of the index of the given log folder
+     */
+    public void parseTestCase(String logFolder, TestCaseEntry testCase, ExecutionLogVisitor visitor)
+            throws XMLStreamException, IOException {
+        Position start = testCase.getStart();
+        Position end = testCase.getEnd();
+        boolean started = false;
+        for (File xmlFile : XMLLoggerParser.getSortedLogFile(logFolder)) {
+            if (!started && !xmlFile.getName().equals(start.getFileName())) {
+                continue;
+            }
+            long startOffset = started ? 0L : start.getOffset();
+            started = true;
+            boolean lastFile = end != null && xmlFile.getName().equals(end.getFileName());
+            readRecords(xmlFile, startOffset, lastFile ? end.getOffset() : Long.MAX_VALUE,
+                    (record, fileName, recordStart, recordEnd) -> dispatch(record, visitor));
+            if (lastFile) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the given log folder. The index is read from {@link ExecutionLogIndex#INDEX_FILE_NAME} if it
+     * is up to date with the log files, otherwise it is built and saved.
+     */
+    public ExecutionLogIndex getIndex(String logFolder) throws XMLStreamException, IOException {
+        File[] xmlFiles = XMLLoggerParser.getSortedLogFile(logFolder);
+        File indexFile = new File(logFolder, ExecutionLogIndex.INDEX_FILE_NAME);
+        if (indexFile.isFile()) {
+            ExecutionLogIndex index = ExecutionLogIndex.read(indexFile);
+            if (index != null && index.isUpToDate(xmlFiles)) {
+                return index;
+            }
+        }
+        ExecutionLogIndex index = buildIndex(xmlFiles);
+        index.write(indexFile);
+        return index;
+    }
+
+    private ExecutionLogIndex buildIndex(File[] xmlFiles) throws XMLStreamException, IOException {
+        ExecutionLogIndex index = new ExecutionLogIndex(xmlFiles);
+        IndexBuilder indexBuilder = new IndexBuilder(index);
+        for (File xmlFile : xmlFiles) {
+            readRecords(xmlFile, 0L, Long.MAX_VALUE, indexBuilder);
+        }
+        indexBuilder.finish();
+        return index;
+    }
+
+    /**
+     * Passes the given record to the visitor method that matches its level and source method.
+     */
+    public static void dispatch(XmlLogRecord record, ExecutionLogVisitor visitor) {
+        String levelName = record.getLevel().getName();
+        String sourceMethodName = record.getSourceMethodName();
+        if (LogLevel.START.toString().equals(levelName)) {
+            if (StringConstants.LOG_START_SUITE_METHOD.equals(sourceMethodName)) {
+                visitor.visitStartTestSuite(record);
+            } else if (StringConstants.LOG_START_TEST_METHOD.equals(sourceMethodName)) {
+                visitor.visitStartTestCase(record);
+            } else if (StringConstants.LOG_START_KEYWORD_METHOD.equals(sourceMethodName)) {
+                visitor.visitStartKeyword(record);
+            }
+        } else if (LogLevel.END.toString().equals(levelName)) {
+            if (StringConstants.LOG_END_SUITE_METHOD.equals(sourceMethodName)) {
+                visitor.visitEndTestSuite(record);
+            } else if (StringConstants.LOG_END_TEST_METHOD.equals(sourceMethodName)) {
+                visitor.visitEndTestCase(record);
+            } else if (StringConstants.LOG_END_KEYWORD_METHOD.equals(sourceMethodName)) {
+                visitor.visitEndKeyword(record);
+            }
+        } else if (LogLevel.RUN_DATA.toString().equals(levelName)) {
+            visitor.visitRunData(record);
+        } else {
+            visitor.visitMessage(record);
+        }
+    }
+
+    /**
+     * Reads the records that start at or after <code>fromOffset</code> and before <code>toOffset</code>.
+     */
+    private void readRecords(File xmlFile, long fromOffset, long toOffset, RecordConsumer consumer)
+            throws XMLStreamException, IOException {
+        try (RandomAccessFile file = new RandomAccessFile(xmlFile, "r")) {
+            file.seek(fromOffset);
+            InputStream inputStream = Channels.newInputStream(file.getChannel());
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            ByteArrayOutputStream recordContent = new ByteArrayOutputStream(4096);
+            long lineStart = fromOffset;
+            long recordStart = -1L;
+            int nRead;
+            while ((nRead = inputStream.read(buffer)) != -1) {
+                int segmentStart = 0;
+                for (int i = 0; i < nRead; i++) {
+                    if (buffer[i] != '\n') {
+                        continue;
+                    }
+                    line.write(buffer, segmentStart, i + 1 - segmentStart);
+                    segmentStart = i + 1;
+                    long lineEnd = lineStart + line.size();
+                    if (recordStart < 0) {
+                        if (isLine(line, RECORD_START_LINE)) {
+                            if (lineStart >= toOffset) {
+                                return;
+                            }
+                            recordStart = lineStart;
+                            recordContent.reset();
+                            line.writeTo(recordContent);
+                        }
+                    } else if (isLine(line, RECORD_START_LINE)) {
+                        // The previous record was cut off, e.g. by a crashed execution, read again from this one
+                        if (lineStart >= toOffset) {
+                            return;
+                        }
+                        recordStart = lineStart;
+                        recordContent.reset();
+                        line.writeTo(recordContent);
+                    } else {
+                        line.writeTo(recordContent);
+                        if (isLine(line, RECORD_END_LINE)) {
+                            accept(consumer, recordContent, xmlFile.getName(), recordStart, lineEnd);
+                            recordStart = -1L;
+                        }
+                    }
+                    line.reset();
+                    lineStart = lineEnd;
+                }
+                line.write(buffer, segmentStart, nRead - segmentStart);
+            }
+            // The last line of a file may not be terminated
+            if (recordStart >= 0 && isLine(line, RECORD_END_LINE)) {
+                line.writeTo(recordContent);
+                accept(consumer, recordContent, xmlFile.getName(), recordStart, lineStart + line.size());
+            }
+        }
+    }
+
+    private void accept(RecordConsumer consumer, ByteArrayOutputStream recordContent, String fileName,
+            long startOffset, long endOffset) {
+        XmlLogRecord record;
+        try {
+            record = readRecord(recordContent.toByteArray());
+        } catch (XMLStreamException e) {
+            // A corrupted record, the following records are still read
+            return;
+        }
+        consumer.accept(record, fileName, startOffset, endOffset);
+    }
+
+    private static boolean isLine(ByteArrayOutputStream line, String expectedLine) throws IOException {
+        return line.size() <= MAX_TAG_LINE_LENGTH
+                && expectedLine.equals(line.toString(StringConstants.DF_CHARSET).trim());
+    }
+
+    private XmlLogRecord readRecord(byte[] recordContent) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new ByteArrayInputStream(recordContent),
+                StringConstants.DF_CHARSET);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamReader.START_ELEMENT
+                        && XMLLoggerParser.LOG_RECORD_NODE_NAME.equals(reader.getLocalName())) {
+                    return XMLLoggerParser.readRecord(reader);
+                }
+            }
+            throw new XMLStreamException("Invalid log record");
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Adds the top level test cases to an index. Test cases called from another test case are part of their caller.
+     */
+    private static class IndexBuilder implements RecordConsumer {
+        private final ExecutionLogIndex index;
+
+        private int testCaseDepth;
+
+        private XmlLogRecord testCaseStartRecord;
+
+        private Position testCaseStart;
+
+        private IndexBuilder(ExecutionLogIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public void accept(XmlLogRecord record, String fileName, long startOffset, long endOffset) {
+            if (!StringConstants.LOG_START_TEST_METHOD.equals(record.getSourceMethodName())
+                    && !StringConstants.LOG_END_TEST_METHOD.equals(record.getSourceMethodName())) {
+                return;
+            }
+            String levelName = record.getLevel().getName();
+            if (LogLevel.START.toString().equals(levelName)) {
+                if (testCaseDepth == 0) {
+                    testCaseStartRecord = record;
+                    testCaseStart = new Position(fileName, startOffset);
+                }
+                testCaseDepth++;
+            } else if (LogLevel.END.toString().equals(levelName) && testCaseDepth > 0) {
+                testCaseDepth--;
+                if (testCaseDepth == 0) {
+                    addTestCase(new Position(fileName, endOffset));
+                }
+            }
+        }
+
+        private void finish() {
+            if (testCaseDepth > 0) {
+                // The execution was interrupted before the test case ended
+                addTestCase(null);
+            }
+        }
+
+        private void addTestCase(Position end) {
+            String name = testCaseStartRecord.getProperties().get(StringConstants.XML_LOG_NAME_PROPERTY);
+            String id = testCaseStartRecord.getProperties().get(StringConstants.XML_LOG_ID_PROPERTY);
+            index.addTestCase(new TestCaseEntry(name != null ? name : testCaseStartRecord.getMessage(),
+                    id != null ? id : "", testCaseStart, end));
+            testCaseStartRecord = null;
+            testCaseStart = null;
+        }
+    }
+}
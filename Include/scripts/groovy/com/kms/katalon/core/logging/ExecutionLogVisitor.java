@@ -0,0 +1,29 @@
+package com.kms.katalon.core.logging;
+
+/**
+ * Receives the records of the execution log files one at a time, in the order they were logged.
+ *
+ * @see ExecutionLogStreamParser
+ */
+public interface ExecutionLogVisitor {
+
+    void visitStartTestSuite(XmlLogRecord record);
+
+    void visitEndTestSuite(XmlLogRecord record);
+
+    void visitStartTestCase(XmlLogRecord record);
+
+    void visitEndTestCase(XmlLogRecord record);
+
+    void visitStartKeyword(XmlLogRecord record);
+
+    void visitEndKeyword(XmlLogRecord record);
+
+    void visitRunData(XmlLogRecord record);
+
+    /**
+     * Called for every record that does not start or end a test suite, test case or keyword, e.g. a passed or failed
+     * message.
+     */
+    void visitMessage(XmlLogRecord record);
+}
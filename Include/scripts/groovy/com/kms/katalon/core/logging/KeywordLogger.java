@@ -38,6 +38,8 @@ public class KeywordLogger {
     private final XmlKeywordLogger xmlKeywordLogger;
     
     private boolean shouldLogTestSteps;
+
+    private boolean shouldLogTestOpsAttributes;
     
     public static KeywordLogger getInstance(Class<?> clazz) {
         if (clazz == null) { // just in case
@@ -66,6 +68,7 @@ public class KeywordLogger {
         logger = LoggerFactory.getLogger(className);
         xmlKeywordLogger = XmlKeywordLogger.getInstance();
         initShouldLogTestSteps();
+        initShouldLogTestOpsAttributes();
     }
 
 	private void initShouldLogTestSteps() {
@@ -83,6 +86,26 @@ public class KeywordLogger {
     	return shouldLogTestSteps;
     }
 
+    private void initShouldLogTestOpsAttributes() {
+        Map<String, Object> executionProperties = RunConfiguration.getExecutionProperties();
+        if (executionProperties == null) {
+            shouldLogTestOpsAttributes = true;
+        } else {
+            shouldLogTestOpsAttributes = (boolean) Optional
+                    .ofNullable(executionProperties.get(RunConfiguration.LOG_TESTOPS_ATTRIBUTES))
+                    .orElse(CoreConstants.DEFAULT_LOG_TESTOPS_ATTRIBUTES);
+        }
+    }
+
+    /**
+     * The TestOps attributes are computed from the stack of the logging thread, which is expensive. They are only
+     * needed when the execution log is uploaded to TestOps, setting <code>logTestOpsAttributes</code> to false skips
+     * the stack capture.
+     */
+    private boolean shouldLogTestOpsAttributes() {
+        return shouldLogTestOpsAttributes;
+    }
+
     public KeywordLogger(String className) {
         
         selfLogger.warn("Please use \"KeywordUtil.logInfo()\" instead of \"new KeywordLogger()\" constructor. \"KeywordLogger\" is an internal API and might be changed in the future.");
@@ -93,6 +116,7 @@ public class KeywordLogger {
         logger = LoggerFactory.getLogger(className);
         xmlKeywordLogger = XmlKeywordLogger.getInstance();
         initShouldLogTestSteps();
+        initShouldLogTestOpsAttributes();
     }
     
     public KeywordLogger() {
@@ -274,7 +298,7 @@ public class KeywordLogger {
         } else {
             attributes = new HashMap<>(attributes);
         }
-        TestOpsLogHelper.handleFailedLogEntry(attributes, throwable);
+        TestOpsLogHelper.handleFailedLogEntry(attributes, throwable, shouldLogTestOpsAttributes());
         Map<String, String> exceptionAttributes = xmlKeywordLogger.getAttributesFrom(throwable);
         attributes.putAll(exceptionAttributes);
         logFailed(message, attributes);
@@ -287,7 +311,7 @@ public class KeywordLogger {
         } else {
             attributes = new HashMap<>(attributes);
         }
-        TestOpsLogHelper.handleFailedLogEntry(attributes);
+        TestOpsLogHelper.handleFailedLogEntry(attributes, shouldLogTestOpsAttributes());
         xmlKeywordLogger.logFailed(message, attributes);
     }
     
@@ -327,12 +351,14 @@ public class KeywordLogger {
 
     public void logPassed(String message, Map<String, String> attributes) {
         logger.debug("{} {}", PASSED, message);
-        StackTraceElement[] stackTraces = Thread.currentThread().getStackTrace();
-        if (attributes == null) {
-             attributes = TestOpsLogHelper.getTestOpsAttributes(LogLevel.PASSED, stackTraces);
-        } else {
-            attributes = new HashMap<>(attributes);
-            attributes.putAll(TestOpsLogHelper.getTestOpsAttributes(LogLevel.PASSED, stackTraces));
+        if (shouldLogTestOpsAttributes()) {
+            StackTraceElement[] stackTraces = Thread.currentThread().getStackTrace();
+            if (attributes == null) {
+                attributes = TestOpsLogHelper.getTestOpsAttributes(LogLevel.PASSED, stackTraces);
+            } else {
+                attributes = new HashMap<>(attributes);
+                attributes.putAll(TestOpsLogHelper.getTestOpsAttributes(LogLevel.PASSED, stackTraces));
+            }
         }
         xmlKeywordLogger.logPassed(message, attributes);
     }
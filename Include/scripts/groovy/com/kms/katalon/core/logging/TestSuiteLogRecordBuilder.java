@@ -0,0 +1,263 @@
+package com.kms.katalon.core.logging;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.apache.commons.lang3.StringEscapeUtils;
+
+import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.logging.model.ILogRecord;
+import com.kms.katalon.core.logging.model.MessageLogRecord;
+import com.kms.katalon.core.logging.model.TestCaseLogRecord;
+import com.kms.katalon.core.logging.model.TestCaseResultLogRecord;
+import com.kms.katalon.core.logging.model.TestStatus;
+import com.kms.katalon.core.logging.model.TestStatus.TestStatusValue;
+import com.kms.katalon.core.logging.model.TestStepLogRecord;
+import com.kms.katalon.core.logging.model.TestSuiteLogRecord;
+
+/**
+ * Builds the log record tree of a test suite from the records of its execution log files.
+ */
+public class TestSuiteLogRecordBuilder implements ExecutionLogVisitor {
+
+    public interface TestCaseListener {
+        /**
+         * Called when a test case of the test suite has ended. Test cases called from another test case are reported
+         * as part of their caller.
+         */
+        void testCaseEnded(TestSuiteLogRecord testSuiteLogRecord, TestCaseLogRecord testCaseLogRecord);
+    }
+
+    private final String logFolder;
+
+    private final Deque<Object> stack = new ArrayDeque<Object>();
+
+    private TestSuiteLogRecord testSuiteLogRecord;
+
+    private TestCaseListener testCaseListener;
+
+    public TestSuiteLogRecordBuilder(String logFolder) {
+        this.logFolder = logFolder;
+    }
+
+    /**
+     * Creates a builder that adds the test cases it reads to the given test suite record, to read a part of the log
+     * that does not start with the test suite, e.g. a single test case.
+     */
+    public TestSuiteLogRecordBuilder(String logFolder, TestSuiteLogRecord testSuiteLogRecord) {
+        this(logFolder);
+        this.testSuiteLogRecord = testSuiteLogRecord;
+        stack.add(testSuiteLogRecord);
+    }
+
+    public void setTestCaseListener(TestCaseListener testCaseListener) {
+        this.testCaseListener = testCaseListener;
+    }
+
+    public TestSuiteLogRecord getTestSuiteLogRecord() {
+        return testSuiteLogRecord;
+    }
+
+    @Override
+    public void visitStartTestSuite(XmlLogRecord record) {
+        testSuiteLogRecord = processStartTestSuiteLog(stack, logFolder, record);
+    }
+
+    @Override
+    public void visitEndTestSuite(XmlLogRecord record) {
+        processEndLog(stack, record);
+    }
+
+    @Override
+    public void visitStartTestCase(XmlLogRecord record) {
+        processStartTestCaseLog(stack, record);
+    }
+
+    @Override
+    public void visitEndTestCase(XmlLogRecord record) {
+        Object object = stack.peekLast();
+        processEndLog(stack, record);
+        if (testCaseListener != null && object instanceof TestCaseLogRecord
+                && stack.peekLast() instanceof TestSuiteLogRecord) {
+            testCaseListener.testCaseEnded(testSuiteLogRecord, (TestCaseLogRecord) object);
+        }
+    }
+
+    /**
+     * Replace an ended test case of the test suite by its result, so that its steps and messages are no longer held.
+     * The totals, status and attachments of the test suite are kept.
+     */
+    public void detachTestCase(TestCaseLogRecord testCaseLogRecord) {
+        if (testSuiteLogRecord == null || testCaseLogRecord.getParentLogRecord() != testSuiteLogRecord) {
+            return;
+        }
+        // Top level test cases end in order, the result keeps the position of the test case
+        testSuiteLogRecord.removeChildRecord(testCaseLogRecord);
+        testSuiteLogRecord.addChildRecord(new TestCaseResultLogRecord(testCaseLogRecord));
+    }
+
+    @Override
+    public void visitStartKeyword(XmlLogRecord record) {
+        processStartKeywordLog(stack, record);
+    }
+
+    @Override
+    public void visitEndKeyword(XmlLogRecord record) {
+        processEndLog(stack, record);
+    }
+
+    @Override
+    public void visitRunData(XmlLogRecord record) {
+        if (testSuiteLogRecord != null) {
+            testSuiteLogRecord.addRunData(record.getProperties());
+        }
+    }
+
+    @Override
+    public void visitMessage(XmlLogRecord record) {
+        Object object = stack.peekLast();
+        if (object instanceof ILogRecord) {
+            processStepMessageLog(record, (ILogRecord) object);
+        }
+    }
+
+    public TestSuiteLogRecord finish() {
+        // If execution process crashed before completed
+        while (stack.size() > 0) {
+            Object object = stack.pollLast();
+            if (object instanceof ILogRecord) {
+                processInterruptedLog((ILogRecord) object);
+            }
+        }
+        return testSuiteLogRecord;
+    }
+
+    private static void processInterruptedLog(ILogRecord logRecord) {
+        ILogRecord[] childRecords = logRecord.getChildRecords();
+        if (childRecords != null && childRecords.length > 0) {
+            ILogRecord lastLogRecord = childRecords[childRecords.length - 1];
+            logRecord.setEndTime(
+                    lastLogRecord.getEndTime() != 0 ? lastLogRecord.getEndTime() : lastLogRecord.getStartTime());
+        } else {
+            logRecord.setEndTime(logRecord.getStartTime());
+        }
+        logRecord.setInterrupted(true);
+    }
+
+    private static void processStepMessageLog(XmlLogRecord xmlLogRecord, ILogRecord logRecord) {
+        if (logRecord instanceof TestSuiteLogRecord) {
+            // not adding any message log to test suite
+            return;
+        }
+        MessageLogRecord messageLogRecord = new MessageLogRecord();
+        messageLogRecord.setStartTime(xmlLogRecord.getMillis());
+        messageLogRecord.setMessage(xmlLogRecord.getMessage());
+
+        if (xmlLogRecord.getProperties() != null
+                && xmlLogRecord.getProperties().get(StringConstants.XML_LOG_ATTACHMENT_PROPERTY) != null) {
+            messageLogRecord
+                    .setAttachment(xmlLogRecord.getProperties().get(StringConstants.XML_LOG_ATTACHMENT_PROPERTY));
+        }
+        LogLevel logLevel = LogLevel.valueOf(xmlLogRecord.getLevel().toString());
+        TestStatus testStatus = evalTestStatus(logRecord, logLevel);
+        messageLogRecord.setStatus(testStatus);
+        logRecord.addChildRecord(messageLogRecord);
+    }
+
+    private static void processEndLog(Deque<Object> stack, XmlLogRecord xmlLogRecord) {
+        Object object = stack.pollLast();
+        if (object != null && object instanceof ILogRecord) {
+            ((ILogRecord) object).setEndTime(xmlLogRecord.getMillis());
+        }
+    }
+
+    private static String getTestLogName(XmlLogRecord xmlLogRecord) {
+        String testLogName = xmlLogRecord.getMessage();
+        if (testLogName == null) {
+            return "";
+        }
+
+        String startKeywordString = StringConstants.LOG_START_ACTION_PREFIX;
+        if (testLogName.startsWith(startKeywordString)) {
+            return testLogName.substring(startKeywordString.length(), testLogName.length());
+        } else {
+            return testLogName;
+        }
+    }
+
+    private static void processStartKeywordLog(Deque<Object> stack, XmlLogRecord xmlLogRecord) {
+        TestStepLogRecord testStepLogRecord = new TestStepLogRecord(getTestLogName(xmlLogRecord));
+        testStepLogRecord.setStartTime(xmlLogRecord.getMillis());
+        testStepLogRecord
+                .setDescription(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_DESCRIPTION_PROPERTY)
+                        ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_DESCRIPTION_PROPERTY) : "");
+        try {
+            testStepLogRecord
+                    .setIndex(Integer.valueOf(xmlLogRecord.getProperties().get(StringConstants.XML_LOG_STEP_INDEX)));
+        } catch (NumberFormatException e) {
+            // error with log, set -1 to indicate error
+            testStepLogRecord.setIndex(-1);
+        }
+
+        testStepLogRecord.setIgnoredIfFailed(
+                Boolean.valueOf(xmlLogRecord.getProperties().get(StringConstants.XML_LOG_IS_IGNORED_IF_FAILED)));
+        Object object = stack.peekLast();
+        if (object instanceof TestCaseLogRecord || object instanceof TestStepLogRecord) {
+            ((ILogRecord) object).addChildRecord(testStepLogRecord);
+        }
+
+        stack.add(testStepLogRecord);
+    }
+
+    private static void processStartTestCaseLog(Deque<Object> stack, XmlLogRecord xmlLogRecord) {
+        TestCaseLogRecord testCaseLogRecord = new TestCaseLogRecord(
+                xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_NAME_PROPERTY)
+                        ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_NAME_PROPERTY)
+                        : getTestLogName(xmlLogRecord));
+        testCaseLogRecord.setStartTime(xmlLogRecord.getMillis());
+        testCaseLogRecord.setId(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_ID_PROPERTY)
+                ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_ID_PROPERTY) : "");
+        testCaseLogRecord.setSource(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_SOURCE_PROPERTY)
+                ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_SOURCE_PROPERTY) : "");
+        testCaseLogRecord
+                .setDescription(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_DESCRIPTION_PROPERTY)
+                        ? StringEscapeUtils.unescapeJava(xmlLogRecord.getProperties().get(StringConstants.XML_LOG_DESCRIPTION_PROPERTY)) : "");
+        testCaseLogRecord.setTag(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_TAG_PROPERTY)
+                ? StringEscapeUtils.unescapeJava(xmlLogRecord.getProperties().get(StringConstants.XML_LOG_TAG_PROPERTY))
+                : "");
+        testCaseLogRecord.setOptional(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_IS_OPTIONAL)
+                ? Boolean.valueOf(xmlLogRecord.getProperties().get(StringConstants.XML_LOG_IS_OPTIONAL)) : false);
+        Object object = stack.peekLast();
+        if (object instanceof TestSuiteLogRecord || object instanceof TestStepLogRecord) {
+            ((ILogRecord) object).addChildRecord(testCaseLogRecord);
+        }
+        stack.add(testCaseLogRecord);
+    }
+
+    private static TestSuiteLogRecord processStartTestSuiteLog(Deque<Object> stack, String logFolder,
+            XmlLogRecord xmlLogRecord) {
+        TestSuiteLogRecord testSuiteLogRecord = new TestSuiteLogRecord("", logFolder);
+        testSuiteLogRecord.setStartTime(xmlLogRecord.getMillis());
+        testSuiteLogRecord.setName(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_NAME_PROPERTY)
+                ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_NAME_PROPERTY)
+                : getTestLogName(xmlLogRecord));
+        testSuiteLogRecord.setId(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_ID_PROPERTY)
+                ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_ID_PROPERTY) : "");
+        testSuiteLogRecord.setSource(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_SOURCE_PROPERTY)
+                ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_SOURCE_PROPERTY) : "");
+        testSuiteLogRecord.setDevicePlatform(
+                xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_DEVICE_PLATFORM_PROPERTY)
+                        ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_DEVICE_PLATFORM_PROPERTY) : "");
+        testSuiteLogRecord
+                .setDescription(xmlLogRecord.getProperties().containsKey(StringConstants.XML_LOG_DESCRIPTION_PROPERTY)
+                        ? xmlLogRecord.getProperties().get(StringConstants.XML_LOG_DESCRIPTION_PROPERTY) : "");
+        stack.add(testSuiteLogRecord);
+        return testSuiteLogRecord;
+    }
+
+    private static TestStatus evalTestStatus(ILogRecord logRecord, LogLevel level) {
+        TestStatus testStatus = new TestStatus();
+        testStatus.setStatusValue(TestStatusValue.valueOf(level.name()));
+        return testStatus;
+    }
+}
@@ -5,6 +5,7 @@ import static com.kms.katalon.core.constants.StringConstants.DF_CHARSET;
 import java.io.File;
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +22,7 @@ import com.kms.katalon.core.configuration.RunConfiguration;
 import com.kms.katalon.core.constants.CoreMessageConstants;
 import com.kms.katalon.core.constants.StringConstants;
 import com.kms.katalon.core.logging.KeywordLogger.KeywordStackElement;
+import com.kms.katalon.core.reporting.IncrementalReportHandler;
 import com.kms.katalon.core.util.internal.ExceptionsUtil;
 
 class XmlKeywordLogger {
@@ -75,12 +77,29 @@ class XmlKeywordLogger {
     
                     fileHandler.setEncoding(DF_CHARSET);
                     fileHandler.setFormatter(new CustomXmlFormatter());
-                    logger.addHandler(fileHandler);
     
                     SocketHandler socketHandler = new SystemSocketHandler(StringConstants.DF_LOCAL_HOST_ADDRESS, getPort());
                     socketHandler.setEncoding(DF_CHARSET);
                     socketHandler.setFormatter(new CustomSocketLogFomatter());
-                    logger.addHandler(socketHandler);
+
+                    Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+                    if (generalProperties != null
+                            && Boolean.TRUE.equals(generalProperties.get(RunConfiguration.INCREMENTAL_REPORT))) {
+                        // Must see the records before the XML formatter escapes them
+                        logger.addHandler(new IncrementalReportHandler(new File(logFolder)));
+                    }
+                    if (generalProperties != null
+                            && Boolean.TRUE.equals(generalProperties.get(RunConfiguration.ASYNC_LOGGING))) {
+                        Object queueSize = generalProperties.get(RunConfiguration.ASYNC_LOGGING_QUEUE_SIZE);
+                        logger.addHandler(new AsyncLogHandler(Arrays.asList(fileHandler, socketHandler),
+                                queueSize instanceof Number ? ((Number) queueSize).intValue()
+                                        : AsyncLogHandler.DEFAULT_QUEUE_SIZE,
+                                AsyncLogHandler.OverflowPolicy.fromSettingValue(
+                                        generalProperties.get(RunConfiguration.ASYNC_LOGGING_OVERFLOW_POLICY))));
+                    } else {
+                        logger.addHandler(fileHandler);
+                        logger.addHandler(socketHandler);
+                    }
                 } catch (SecurityException e) {
                     System.err.println(
                             MessageFormat.format(CoreMessageConstants.MSG_ERR_UNABLE_TO_CREATE_LOGGER, e.getMessage()));
@@ -107,6 +126,18 @@ class XmlKeywordLogger {
         }
     }
 
+    /**
+     * Waits until all the records logged so far have been written. Only matters in async logging mode.
+     */
+    void flush() {
+        if (logger == null) {
+            return;
+        }
+        for (Handler handler : logger.getHandlers()) {
+            handler.flush();
+        }
+    }
+
     static void cleanUp() {
 
     }
@@ -146,6 +177,7 @@ class XmlKeywordLogger {
                 StringConstants.LOG_END_SUITE + " : " + name,
                 nestedLevel, 
                 attributes));
+        flush();
     }
 
     /* (non-Javadoc)
@@ -181,6 +213,7 @@ class XmlKeywordLogger {
                 nestedLevel, 
                 attributes));
         restorePreviousKeywordStack();
+        flush();
     }
     
     private void restorePreviousKeywordStack() {
@@ -399,8 +432,10 @@ class XmlKeywordLogger {
         }
         if (logger != null) {
             XmlLogRecord xmlLogRecord = new XmlLogRecord(level.getLevel(), message, nestedLevel, attributes);
+            xmlLogRecord.setDebug(LogLevel.DEBUG.equals(originalLevel));
             if (shouldLog(keywordLogger, originalLevel)) {
                 logger.log(xmlLogRecord);
+                flushOnFailure(level);
             }
         }
 
@@ -438,6 +473,13 @@ class XmlKeywordLogger {
             logRecord.setThrown(thrown);
             logRecord.setProperties(attributes);
             logger.log(logRecord);
+            flushOnFailure(level);
+        }
+    }
+
+    private void flushOnFailure(LogLevel level) {
+        if (LogLevel.FAILED.equals(level) || LogLevel.ERROR.equals(level)) {
+            flush();
         }
     }
 
@@ -22,6 +22,7 @@ public class XmlLogRecord extends LogRecord implements Serializable {
     private List<XmlLogRecordException> exceptions;
     private Map<String, String> properties;
     private boolean escapedJava = true;
+    private boolean debug;
 
     public XmlLogRecord(Level level, String message) {
         super(level, message);
@@ -123,4 +124,15 @@ public class XmlLogRecord extends LogRecord implements Serializable {
     public void setEscapedJava(boolean escapedJava) {
         this.escapedJava = escapedJava;
     }
+
+    /**
+     * @return true if this record was logged at DEBUG level. Debug records are written with the INFO level.
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public void setDebug(boolean debug) {
+        this.debug = debug;
+    }
 }
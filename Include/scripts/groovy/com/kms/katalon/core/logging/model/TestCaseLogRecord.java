@@ -1,7 +1,10 @@
 package com.kms.katalon.core.logging.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringEscapeUtils;
 
@@ -12,6 +15,9 @@ public class TestCaseLogRecord extends AbstractLogRecord {
 
     private String tag;
 
+    private final Set<ILogRecord> unescapedStepRecords = Collections
+            .newSetFromMap(new IdentityHashMap<ILogRecord, Boolean>());
+
     public TestCaseLogRecord(String name) {
         super(name);
         setType(ILogRecord.LOG_TYPE_TEST_CASE);
@@ -41,11 +47,14 @@ public class TestCaseLogRecord extends AbstractLogRecord {
     }
 
     @Override
-    public ILogRecord[] getChildRecords() {
+    public synchronized ILogRecord[] getChildRecords() {
         List<ILogRecord> resultRecords = new ArrayList<ILogRecord>();
         for (ILogRecord logRecord : childRecords) {
             if (logRecord instanceof TestStepLogRecord) {
-                logRecord.setDescription(StringEscapeUtils.unescapeJava(logRecord.getDescription()));
+                // Unescape only once, the record may be read many times and by several report writers
+                if (unescapedStepRecords.add(logRecord)) {
+                    logRecord.setDescription(StringEscapeUtils.unescapeJava(logRecord.getDescription()));
+                }
                 resultRecords.add(logRecord);
             }
         }
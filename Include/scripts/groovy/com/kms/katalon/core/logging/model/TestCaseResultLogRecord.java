@@ -0,0 +1,43 @@
+package com.kms.katalon.core.logging.model;
+
+/**
+ * Result of an ended test case, without its steps and messages.
+ * <p>
+ * Used in place of a test case log record once the test case has been reported, so that the test suite record keeps
+ * its totals, status, end time and attachments without holding the whole test case tree.
+ */
+public class TestCaseResultLogRecord extends TestCaseLogRecord {
+
+    private final TestStatus status;
+
+    private final String[] attachments;
+
+    private final String[] absoluteAttachments;
+
+    public TestCaseResultLogRecord(TestCaseLogRecord testCaseLogRecord) {
+        super(testCaseLogRecord.getName());
+        setId(testCaseLogRecord.getId());
+        setSource(testCaseLogRecord.getSource());
+        setDescription(testCaseLogRecord.getDescription());
+        setTag(testCaseLogRecord.getTag());
+        setOptional(testCaseLogRecord.isOptional());
+        setStartTime(testCaseLogRecord.getStartTime());
+        setEndTime(testCaseLogRecord.getEndTime());
+        setInterrupted(testCaseLogRecord.isInterrupted());
+        // Computing the status also sets the message of the test case
+        status = testCaseLogRecord.getStatus();
+        setMessage(testCaseLogRecord.getMessage());
+        attachments = testCaseLogRecord.getAttachments(false);
+        absoluteAttachments = testCaseLogRecord.getAttachments(true);
+    }
+
+    @Override
+    public TestStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public String[] getAttachments(boolean isInAbsolutePath) {
+        return (isInAbsolutePath ? absoluteAttachments : attachments).clone();
+    }
+}
@@ -20,10 +20,19 @@ public final class TestOpsLogHelper {
     private static final String TESTOPS_LOG_PROPERTY_SKIP = "testops-skip-record";
     
     public static Map<String, String> getTestOpsAttributes(LogLevel status, StackTraceElement[] stackTraces) {
-        if (isLogForTestCase(stackTraces)) {
-            return new HashMap<>();
+        // Same result as isLogForTestCase and getKeywordRunningStack, in a single pass over the stack
+        StackTraceElement keywordStack = null;
+        boolean keywordExecutorFound = false;
+        for (int i = 0; i < stackTraces.length; ++i) {
+            StackTraceElement s = stackTraces[i];
+            if (isTestCaseExecutionCompleteStack(s)) {
+                return new HashMap<>();
+            }
+            if (!keywordExecutorFound && isKeywordExecutorStack(s)) {
+                keywordExecutorFound = true;
+                keywordStack = i + 1 < stackTraces.length ? stackTraces[i + 1] : null;
+            }
         }
-        StackTraceElement keywordStack = getKeywordRunningStack(stackTraces);
         if (keywordStack == null) {
             Map<String, String> attbs = new HashMap<>();
             attbs.put(TESTOPS_LOG_PROPERTY_EXECUTION_STACKTRACE, getFormattedStackTrace(stackTraces));
@@ -102,13 +111,25 @@ public final class TestOpsLogHelper {
     }
     
     public static boolean isLogForTestCase(StackTraceElement[] stackTraces) {
-        return Arrays.stream(stackTraces)
-                .anyMatch(st -> "onExecutionComplete".equals(st.getMethodName())
-                        && "com.kms.katalon.core.main.TestCaseExecutor".equals(st.getClassName()));
+        return Arrays.stream(stackTraces).anyMatch(TestOpsLogHelper::isTestCaseExecutionCompleteStack);
+    }
+
+    private static boolean isTestCaseExecutionCompleteStack(StackTraceElement stack) {
+        return "onExecutionComplete".equals(stack.getMethodName())
+                && "com.kms.katalon.core.main.TestCaseExecutor".equals(stack.getClassName());
     }
     
     public static void handleFailedLogEntry(Map<String, String> attributes, Throwable throwable) {
-        if (throwable == null || throwable.getCause() == null) {
+        handleFailedLogEntry(attributes, throwable, true);
+    }
+
+    /**
+     * @param captureStack false to skip capturing the stack of the current thread, the TestOps attributes computed
+     * from it are then not added
+     */
+    public static void handleFailedLogEntry(Map<String, String> attributes, Throwable throwable,
+            boolean captureStack) {
+        if (captureStack && (throwable == null || throwable.getCause() == null)) {
             StackTraceElement[] stackTraces = Thread.currentThread().getStackTrace();
             attributes.putAll(getTestOpsAttributes(LogLevel.FAILED, stackTraces));
         }
@@ -116,7 +137,15 @@ public final class TestOpsLogHelper {
     }
     
     public static void handleFailedLogEntry(Map<String, String> attributes) {
-        if (!isHandledTestOpsProperties(attributes)) {
+        handleFailedLogEntry(attributes, true);
+    }
+
+    /**
+     * @param captureStack false to skip capturing the stack of the current thread, the TestOps attributes computed
+     * from it are then not added
+     */
+    public static void handleFailedLogEntry(Map<String, String> attributes, boolean captureStack) {
+        if (captureStack && !isHandledTestOpsProperties(attributes)) {
             StackTraceElement[] stackTraces = Thread.currentThread().getStackTrace();
             attributes.putAll(TestOpsLogHelper.getTestOpsAttributes(LogLevel.FAILED, stackTraces));
         }
@@ -1,11 +1,16 @@
 package com.kms.katalon.core.main;
 
-import java.util.HashMap;
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
+import org.codehaus.groovy.runtime.MetaClassHelper;
 
+import com.kms.katalon.core.annotation.SharedKeywordInstance;
 import com.kms.katalon.core.exception.StepErrorException;
 import com.kms.katalon.core.exception.StepFailedException;
 import com.kms.katalon.core.logging.ErrorCollector;
@@ -15,15 +20,28 @@ import com.kms.katalon.core.util.internal.ExceptionsUtil;
 
 import groovy.lang.DelegatingMetaClass;
 import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyInterceptable;
 import groovy.lang.GroovyObject;
+import groovy.lang.GroovyObjectSupport;
 import groovy.lang.MetaClass;
+import groovy.lang.MetaMethod;
 
 public class CustomKeywordDelegatingMetaClass extends DelegatingMetaClass {
     
+    private static final String GROOVY_INVOKE_METHOD = "invokeMethod";
+
+    private static final Object[] NO_ARGS = new Object[0];
+
     private static final KeywordLogger logger = KeywordLogger.getInstance(CustomKeywordDelegatingMetaClass.class);
     
     private GroovyClassLoader groovyClassLoader;
 
+    // Custom keywords by their qualified name, e.g. com.example.Keywords.doSomething
+    private final Map<String, CustomKeyword> customKeywords = new ConcurrentHashMap<>();
+
+    // Custom keyword classes by their name
+    private final Map<String, CustomKeywordClass> customKeywordClasses = new ConcurrentHashMap<>();
+
     private ErrorCollector errorCollector = ErrorCollector.getCollector();
 
     CustomKeywordDelegatingMetaClass(final Class<?> clazz, GroovyClassLoader groovyClassLoader) {
@@ -40,14 +58,7 @@ public class CustomKeywordDelegatingMetaClass extends DelegatingMetaClass {
             errorCollector.clearErrors();
             errorCollector.setKeywordPassed(false);
 
-            int classAndMethodSeparatorIndex = methodName.lastIndexOf(".");
-            String customKeywordClassName = methodName.substring(0, classAndMethodSeparatorIndex);
-            Class<?> customKeywordClass = getCustomKeywordClassAndSetMetaClass(customKeywordClassName);
-            GroovyObject obj = (GroovyObject) customKeywordClass.newInstance();
-
-            String customKeywordMethodName = methodName.substring(classAndMethodSeparatorIndex + 1,
-                    methodName.length());
-            Object result = obj.invokeMethod(customKeywordMethodName, arguments);
+            Object result = getCustomKeyword(methodName).invoke(arguments);
 
             if (errorCollector.containsErrors()) {
                 Throwable throwable = errorCollector.getFirstError();
@@ -96,6 +107,24 @@ public class CustomKeywordDelegatingMetaClass extends DelegatingMetaClass {
         throw new StepErrorException(error);
     }
 
+    private CustomKeyword getCustomKeyword(String qualifiedName) throws ReflectiveOperationException {
+        CustomKeyword customKeyword = customKeywords.get(qualifiedName);
+        if (customKeyword == null) {
+            int classAndMethodSeparatorIndex = qualifiedName.lastIndexOf(".");
+            String customKeywordClassName = qualifiedName.substring(0, classAndMethodSeparatorIndex);
+            CustomKeywordClass customKeywordClass = customKeywordClasses.get(customKeywordClassName);
+            if (customKeywordClass == null) {
+                customKeywordClass = new CustomKeywordClass(
+                        getCustomKeywordClassAndSetMetaClass(customKeywordClassName));
+                customKeywordClasses.put(customKeywordClassName, customKeywordClass);
+            }
+            customKeyword = new CustomKeyword(customKeywordClass,
+                    qualifiedName.substring(classAndMethodSeparatorIndex + 1, qualifiedName.length()));
+            customKeywords.put(qualifiedName, customKeyword);
+        }
+        return customKeyword;
+    }
+
     private Class<?> getCustomKeywordClassAndSetMetaClass(String customKeywordClassName) throws ClassNotFoundException {
         Class<?> customKeywordClass = groovyClassLoader.loadClass(customKeywordClassName);
 
@@ -106,4 +135,74 @@ public class CustomKeywordDelegatingMetaClass extends DelegatingMetaClass {
         }
         return customKeywordClass;
     }
+
+    /**
+     * A loaded custom keyword class. A class annotated with {@link SharedKeywordInstance} is instantiated once, its
+     * keywords are invoked on the same instance. Other classes get a new instance for every keyword call.
+     */
+    private static class CustomKeywordClass {
+        private final Class<?> clazz;
+
+        private final GroovyObject sharedInstance;
+
+        // Whether Groovy must dispatch the calls, as the class intercepts them in its own invokeMethod
+        private final boolean interceptsCalls;
+
+        private CustomKeywordClass(Class<?> clazz) throws ReflectiveOperationException {
+            this.clazz = clazz;
+            this.sharedInstance = clazz.isAnnotationPresent(SharedKeywordInstance.class)
+                    ? (GroovyObject) clazz.newInstance() : null;
+            this.interceptsCalls = interceptsCalls(clazz);
+        }
+
+        private GroovyObject getInstance() throws ReflectiveOperationException {
+            return sharedInstance != null ? sharedInstance : (GroovyObject) clazz.newInstance();
+        }
+
+        private static boolean interceptsCalls(Class<?> clazz) throws NoSuchMethodException {
+            if (GroovyInterceptable.class.isAssignableFrom(clazz)) {
+                return true;
+            }
+            // The Groovy compiler generates a synthetic invokeMethod, any other one is written by the user
+            Method invokeMethod = clazz.getMethod(GROOVY_INVOKE_METHOD, String.class, Object.class);
+            return !invokeMethod.isSynthetic() && invokeMethod.getDeclaringClass() != GroovyObjectSupport.class;
+        }
+    }
+
+    /**
+     * A method of a custom keyword class. The Groovy method picked for each list of argument types is kept, so that
+     * overloads are still resolved the way Groovy does.
+     */
+    private static class CustomKeyword {
+        private final CustomKeywordClass keywordClass;
+
+        private final String methodName;
+
+        private final Map<List<Class<?>>, MetaMethod> metaMethods = new ConcurrentHashMap<>();
+
+        private CustomKeyword(CustomKeywordClass keywordClass, String methodName) {
+            this.keywordClass = keywordClass;
+            this.methodName = methodName;
+        }
+
+        private Object invoke(Object[] arguments) throws ReflectiveOperationException {
+            GroovyObject instance = keywordClass.getInstance();
+            if (keywordClass.interceptsCalls) {
+                return InvokerHelper.invokeMethod(instance, methodName, arguments);
+            }
+            Object[] methodArguments = arguments != null ? arguments : NO_ARGS;
+            List<Class<?>> argumentTypes = Arrays.asList(MetaClassHelper.convertToTypeArray(methodArguments));
+            MetaMethod metaMethod = metaMethods.get(argumentTypes);
+            if (metaMethod == null) {
+                metaMethod = instance.getMetaClass().pickMethod(methodName,
+                        argumentTypes.toArray(new Class<?>[argumentTypes.size()]));
+                if (metaMethod == null) {
+                    // Let Groovy handle missing methods, e.g. with methodMissing
+                    return instance.invokeMethod(methodName, arguments);
+                }
+                metaMethods.put(argumentTypes, metaMethod);
+            }
+            return metaMethod.doMethodInvoke(instance, methodArguments);
+        }
+    }
 }
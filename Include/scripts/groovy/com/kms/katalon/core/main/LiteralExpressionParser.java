@@ -0,0 +1,67 @@
+package com.kms.katalon.core.main;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates simple Groovy literals (null, booleans, numbers and plain quoted strings) without compiling a script.
+ * <p>
+ * The returned values have the same types Groovy would produce for the same expression, e.g. decimals are
+ * {@link BigDecimal} and integers are {@link Integer}, {@link Long} or {@link BigInteger} depending on their size.
+ * Anything that is not obviously a literal is reported as {@link #NOT_A_LITERAL} and must be evaluated by Groovy.
+ */
+class LiteralExpressionParser {
+
+    static final Object NOT_A_LITERAL = new Object();
+
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("-?(0|[1-9][0-9]*)");
+
+    private static final Pattern DECIMAL_PATTERN = Pattern.compile("-?(0|[1-9][0-9]*)\\.[0-9]+");
+
+    // Strings without escapes, interpolation, nested quotes or line breaks
+    private static final Pattern SINGLE_QUOTED_STRING_PATTERN = Pattern.compile("'[^'\\\\\\r\\n]*'");
+
+    private static final Pattern DOUBLE_QUOTED_STRING_PATTERN = Pattern.compile("\"[^\"\\\\$\\r\\n]*\"");
+
+    private LiteralExpressionParser() {
+        // Disable default constructor
+    }
+
+    static Object parse(String expression) {
+        String trimmed = expression.trim();
+        if (trimmed.isEmpty() || "null".equals(trimmed)) {
+            return null;
+        }
+        if ("true".equals(trimmed)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equals(trimmed)) {
+            return Boolean.FALSE;
+        }
+        if (INTEGER_PATTERN.matcher(trimmed).matches()) {
+            return parseInteger(trimmed);
+        }
+        if (DECIMAL_PATTERN.matcher(trimmed).matches()) {
+            return new BigDecimal(trimmed);
+        }
+        if (SINGLE_QUOTED_STRING_PATTERN.matcher(trimmed).matches()
+                || DOUBLE_QUOTED_STRING_PATTERN.matcher(trimmed).matches()) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return NOT_A_LITERAL;
+    }
+
+    private static Object parseInteger(String text) {
+        BigInteger value = new BigInteger(text);
+        // Groovy negates the parsed magnitude, so the type only depends on the absolute value
+        int bitLength = value.abs().bitLength();
+        if (bitLength < Integer.SIZE) {
+            return value.intValue();
+        }
+        if (bitLength < Long.SIZE) {
+            return value.longValue();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,423 @@
+package com.kms.katalon.core.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.SourceUnit;
+
+import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.constants.StringConstants;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.GroovySystem;
+
+/**
+ * Keeps the bytecode of compiled scripts on disk, so that a script that has not changed since a previous execution is
+ * loaded without being compiled again.
+ * <p>
+ * An entry is keyed by a hash of the script text and name, the Groovy and Java versions, the target bytecode and a
+ * fingerprint of the class path the script is compiled against. The AST test step transformation is part of the class
+ * path, so a new version of it gives new keys too. An entry holds every class generated from its script, e.g. the
+ * classes of its closures.
+ * <p>
+ * The cache is kept in the temp folder of the project. Entry file names start with a hash of the script name, so when
+ * a script is compiled again the previous entries of that script are deleted. The least recently used entries are
+ * deleted once the cache holds more than {@link #MAX_ENTRY_COUNT} entries, e.g. entries of deleted scripts.
+ */
+class ScriptBytecodeCache {
+
+    private static final String CACHE_FOLDER_NAME = "Temp" + File.separator + "script-cache";
+
+    private static final String ENTRY_FILE_EXTENSION = ".classes";
+
+    private static final String SCRIPT_HASH_SEPARATOR = "-";
+
+    // Number of hex digits of the script name hash in entry file names
+    private static final int SCRIPT_HASH_LENGTH = 16;
+
+    static final int MAX_ENTRY_COUNT = 2000;
+
+    // Written at the start of each entry, change it when the entry format changes
+    private static final int ENTRY_FORMAT_VERSION = 1;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final File cacheFolder;
+
+    private final ClassLoader parentClassLoader;
+
+    private final URL[] roots;
+
+    private String classPathFingerprint;
+
+    private boolean pruned;
+
+    ScriptBytecodeCache(File cacheFolder, ClassLoader parentClassLoader, URL[] roots) {
+        this.cacheFolder = cacheFolder;
+        this.parentClassLoader = parentClassLoader;
+        this.roots = roots;
+    }
+
+    /**
+     * @return the cache of the current project, or <code>null</code> if it is not enabled in the execution settings
+     */
+    static ScriptBytecodeCache getProjectCache(ClassLoader parentClassLoader, URL[] roots) {
+        if (RunConfiguration.getExecutionProperties() == null) {
+            return null;
+        }
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        if (generalProperties == null
+                || !Boolean.TRUE.equals(generalProperties.get(RunConfiguration.SCRIPT_BYTECODE_CACHE))) {
+            return null;
+        }
+        return new ScriptBytecodeCache(new File(RunConfiguration.getProjectDir(), CACHE_FOLDER_NAME),
+                parentClassLoader, roots);
+    }
+
+    /**
+     * @return a class loader that compiles scripts like a {@link GroovyClassLoader} created with the same arguments,
+     * but loads them from this cache when possible
+     */
+    GroovyClassLoader newClassLoader(ClassLoader parent, CompilerConfiguration config) {
+        return new CachingClassLoader(parent, config);
+    }
+
+    private String getKey(GroovyCodeSource codeSource, CompilerConfiguration config) {
+        if (codeSource.getScriptText() == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            update(digest, String.valueOf(ENTRY_FORMAT_VERSION));
+            update(digest, GroovySystem.getVersion());
+            update(digest, System.getProperty("java.specification.version"));
+            update(digest, config.getTargetBytecode());
+            update(digest, getClassPathFingerprint());
+            update(digest, codeSource.getName());
+            update(digest, codeSource.getScriptText());
+            return getScriptHash(codeSource.getName()) + SCRIPT_HASH_SEPARATOR + toHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static String getScriptHash(String scriptName) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        update(digest, scriptName);
+        return toHex(digest.digest()).substring(0, SCRIPT_HASH_LENGTH);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The class path is not expected to change during an execution, its fingerprint is computed once.
+     */
+    private synchronized String getClassPathFingerprint() {
+        if (classPathFingerprint == null) {
+            StringBuilder fingerprint = new StringBuilder();
+            for (URL root : roots) {
+                appendFingerprint(fingerprint, root);
+            }
+            for (ClassLoader loader = parentClassLoader; loader != null; loader = loader.getParent()) {
+                if (loader instanceof URLClassLoader) {
+                    for (URL url : ((URLClassLoader) loader).getURLs()) {
+                        appendFingerprint(fingerprint, url);
+                    }
+                }
+            }
+            appendFingerprint(fingerprint, getTransformationLocation());
+            try {
+                classPathFingerprint = toHex(MessageDigest.getInstance(HASH_ALGORITHM)
+                        .digest(fingerprint.toString().getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                classPathFingerprint = fingerprint.toString();
+            }
+        }
+        return classPathFingerprint;
+    }
+
+    private URL getTransformationLocation() {
+        try {
+            CodeSource codeSource = parentClassLoader.loadClass(StringConstants.TEST_STEP_TRANSFORMATION_CLASS)
+                    .getProtectionDomain()
+                    .getCodeSource();
+            return codeSource != null ? codeSource.getLocation() : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private void appendFingerprint(StringBuilder fingerprint, URL url) {
+        if (url == null) {
+            return;
+        }
+        fingerprint.append(url.toExternalForm()).append('\n');
+        File file;
+        try {
+            file = new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return;
+        }
+        appendFileFingerprint(fingerprint, file, file);
+    }
+
+    private void appendFileFingerprint(StringBuilder fingerprint, File root, File file) {
+        if (file.equals(cacheFolder)) {
+            // The cache may be inside a class path folder, its entries must not change the keys
+            return;
+        }
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children == null) {
+                return;
+            }
+            Arrays.sort(children);
+            for (File child : children) {
+                appendFileFingerprint(fingerprint, root, child);
+            }
+        } else if (file.isFile()) {
+            fingerprint.append(root.toURI().relativize(file.toURI()).getPath())
+                    .append(':')
+                    .append(file.length())
+                    .append(':')
+                    .append(file.lastModified())
+                    .append('\n');
+        }
+    }
+
+    /**
+     * @return the classes of the entry with the given key by name, the main class first, or <code>null</code> if there
+     * is no such entry
+     */
+    private Map<String, byte[]> read(String key) {
+        File entryFile = new File(cacheFolder, key + ENTRY_FILE_EXTENSION);
+        if (!entryFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(entryFile)))) {
+            if (input.readInt() != ENTRY_FORMAT_VERSION) {
+                return null;
+            }
+            int classCount = input.readInt();
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            for (int i = 0; i < classCount; i++) {
+                String name = input.readUTF();
+                byte[] code = new byte[input.readInt()];
+                input.readFully(code);
+                classes.put(name, code);
+            }
+            // Recently used entries are kept when the cache is pruned
+            entryFile.setLastModified(System.currentTimeMillis());
+            return classes;
+        } catch (IOException e) {
+            // A truncated entry, it is written again once the script is compiled
+            entryFile.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Writes an entry to a temporary file first and then moves it, so that a concurrent execution never reads a
+     * partial entry.
+     */
+    private void write(String key, String mainClassName, Map<String, byte[]> classes) {
+        if (!cacheFolder.isDirectory() && !cacheFolder.mkdirs()) {
+            return;
+        }
+        File entryFile = new File(cacheFolder, key + ENTRY_FILE_EXTENSION);
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile(key, null, cacheFolder);
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                output.writeInt(ENTRY_FORMAT_VERSION);
+                output.writeInt(classes.size());
+                writeClass(output, mainClassName, classes.get(mainClassName));
+                for (Entry<String, byte[]> compiledClass : classes.entrySet()) {
+                    if (!compiledClass.getKey().equals(mainClassName)) {
+                        writeClass(output, compiledClass.getKey(), compiledClass.getValue());
+                    }
+                }
+            }
+            Files.move(tempFile.toPath(), entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // The script is compiled again next time
+            if (tempFile != null) {
+                tempFile.delete();
+            }
+            return;
+        }
+        deletePreviousEntries(key);
+        pruneOldEntries();
+    }
+
+    /**
+     * Deletes the entries of the same script with another key, their script or class path has changed since.
+     */
+    private void deletePreviousEntries(String key) {
+        String scriptPrefix = key.substring(0, key.indexOf(SCRIPT_HASH_SEPARATOR) + 1);
+        String entryFileName = key + ENTRY_FILE_EXTENSION;
+        File[] previousEntryFiles = cacheFolder.listFiles((folder, name) -> name.startsWith(scriptPrefix)
+                && name.endsWith(ENTRY_FILE_EXTENSION) && !name.equals(entryFileName));
+        if (previousEntryFiles == null) {
+            return;
+        }
+        for (File previousEntryFile : previousEntryFiles) {
+            previousEntryFile.delete();
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries over {@link #MAX_ENTRY_COUNT}, once per execution.
+     */
+    private synchronized void pruneOldEntries() {
+        if (pruned) {
+            return;
+        }
+        pruned = true;
+        File[] entryFiles = cacheFolder.listFiles((folder, name) -> name.endsWith(ENTRY_FILE_EXTENSION));
+        if (entryFiles == null || entryFiles.length <= MAX_ENTRY_COUNT) {
+            return;
+        }
+        Arrays.sort(entryFiles, Comparator.comparingLong(File::lastModified).reversed());
+        for (int i = MAX_ENTRY_COUNT; i < entryFiles.length; i++) {
+            entryFiles[i].delete();
+        }
+    }
+
+    private static void writeClass(DataOutputStream output, String name, byte[] code) throws IOException {
+        output.writeUTF(name);
+        output.writeInt(code.length);
+        output.write(code);
+    }
+
+    private class CachingClassLoader extends GroovyClassLoader {
+
+        // Bytecode of the classes generated by the compilation running on the current thread
+        private final ThreadLocal<Map<String, byte[]>> compiledClasses = new ThreadLocal<>();
+
+        private final CompilerConfiguration config;
+
+        private CachingClassLoader(ClassLoader parent, CompilerConfiguration config) {
+            super(parent, config);
+            this.config = config;
+        }
+
+        @SuppressWarnings("rawtypes")
+        @Override
+        public Class parseClass(GroovyCodeSource codeSource, boolean shouldCacheSource)
+                throws CompilationFailedException {
+            if (shouldCacheSource) {
+                synchronized (sourceCache) {
+                    Class<?> sourceClass = sourceCache.get(codeSource.getName());
+                    if (sourceClass != null) {
+                        return sourceClass;
+                    }
+                }
+            }
+            String key = getKey(codeSource, config);
+            if (key == null) {
+                return super.parseClass(codeSource, shouldCacheSource);
+            }
+
+            Class<?> cachedClass = defineClasses(read(key));
+            if (cachedClass != null) {
+                if (shouldCacheSource) {
+                    synchronized (sourceCache) {
+                        sourceCache.put(codeSource.getName(), cachedClass);
+                    }
+                }
+                return cachedClass;
+            }
+
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            compiledClasses.set(classes);
+            Class<?> parsedClass;
+            try {
+                parsedClass = super.parseClass(codeSource, shouldCacheSource);
+            } finally {
+                compiledClasses.remove();
+            }
+            if (classes.containsKey(parsedClass.getName())) {
+                write(key, parsedClass.getName(), classes);
+            }
+            return parsedClass;
+        }
+
+        private Class<?> defineClasses(Map<String, byte[]> classes) {
+            if (classes == null || classes.isEmpty()) {
+                return null;
+            }
+            InnerLoader loader = new InnerLoader(this);
+            List<Class<?>> definedClasses = new ArrayList<>(classes.size());
+            for (Entry<String, byte[]> cachedClass : classes.entrySet()) {
+                definedClasses.add(loader.defineClass(cachedClass.getKey(), cachedClass.getValue()));
+            }
+            for (Class<?> definedClass : definedClasses) {
+                setClassCacheEntry(definedClass);
+            }
+            return definedClasses.get(0);
+        }
+
+        @Override
+        protected ClassCollector createCollector(CompilationUnit unit, SourceUnit su) {
+            return new RecordingClassCollector(new InnerLoader(this), unit, su);
+        }
+
+        private class RecordingClassCollector extends ClassCollector {
+
+            private RecordingClassCollector(InnerLoader loader, CompilationUnit unit, SourceUnit su) {
+                super(loader, unit, su);
+            }
+
+            @SuppressWarnings("rawtypes")
+            @Override
+            protected Class createClass(byte[] code, ClassNode classNode) {
+                Map<String, byte[]> classes = compiledClasses.get();
+                if (classes != null) {
+                    classes.put(classNode.getName(), code);
+                }
+                return super.createClass(code, classNode);
+            }
+        }
+    }
+}
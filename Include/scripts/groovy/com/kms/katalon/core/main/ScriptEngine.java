@@ -8,7 +8,9 @@ import java.lang.annotation.Annotation;
 import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
@@ -38,6 +40,19 @@ import groovy.util.ScriptException;
 public class ScriptEngine extends GroovyScriptEngine {
     
     private static final Map<String, String> testCaseNameLookup = new ConcurrentHashMap<>();
+
+    private static final int MAX_COMPILED_EXPRESSIONS = 1000;
+
+    // Compiled classes of expressions evaluated by runScriptWithoutLogging, least recently used first
+    private static final Map<ExpressionCacheKey, Class<?>> compiledExpressionCache = Collections
+            .synchronizedMap(new LinkedHashMap<ExpressionCacheKey, Class<?>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ExpressionCacheKey, Class<?>> eldest) {
+                    return size() > MAX_COMPILED_EXPRESSIONS;
+                }
+            });
     
     // Used to generate new temp script name
     private int counter;
@@ -50,6 +65,8 @@ public class ScriptEngine extends GroovyScriptEngine {
 
     private GroovyClassLoader variableEvaluateClassLoader;
 
+    private ScriptBytecodeCache bytecodeCache;
+
     public static ScriptEngine getDefault(ClassLoader parentClassLoader) throws IOException {
         URL[] roots = new URL[] { new File(RunConfiguration.getProjectDir(), StringConstants.CUSTOM_KEYWORD_FOLDER_NAME)
                 .toURI().toURL() };
@@ -61,6 +78,7 @@ public class ScriptEngine extends GroovyScriptEngine {
         counter = 0;
         scriptLookup = new HashMap<String, Script>();
         configurationProvider = new CompilerConfigurationProvider(getGroovyClassLoader());
+        bytecodeCache = ScriptBytecodeCache.getProjectCache(parentClassLoader, roots);
     }
 
     public void changeConfigForExecutingScript() throws ClassNotFoundException {
@@ -73,8 +91,10 @@ public class ScriptEngine extends GroovyScriptEngine {
 
     public GroovyClassLoader getExecutingScriptClassLoader() throws ClassNotFoundException {
         if (executingScriptClassLoader == null) {
-            executingScriptClassLoader = new GroovyClassLoader(getParentClassLoader(),
-                    configurationProvider.getConfigForExecutingScript());
+            executingScriptClassLoader = bytecodeCache != null
+                    ? bytecodeCache.newClassLoader(getParentClassLoader(),
+                            configurationProvider.getConfigForExecutingScript())
+                    : new GroovyClassLoader(getParentClassLoader(), configurationProvider.getConfigForExecutingScript());
         }
         return executingScriptClassLoader;
     }
@@ -97,14 +117,33 @@ public class ScriptEngine extends GroovyScriptEngine {
         return run(getGroovyCodeSource(scriptText, generateScriptName()), binding, false);
     }
 
-    // Parse this temporary class without caching and not logging
+    // Evaluate this expression without logging. Literals are evaluated without Groovy, other expressions are compiled
+    // once and their classes are shared between engines that have the same parent class loader.
     public Object runScriptWithoutLogging(final String scriptText, Binding binding)
             throws ResourceException, ScriptException, IOException, ClassNotFoundException {
-        Class<?> clazz = getVariableValuateClassLoader()
-                .parseClass(getGroovyCodeSource(scriptText, generateScriptName()), false);
+        if (scriptText == null) {
+            Class<?> clazz = getVariableValuateClassLoader()
+                    .parseClass(getGroovyCodeSource(scriptText, generateScriptName()), false);
+            return getScript(clazz, binding, false).run();
+        }
+        Object literalValue = LiteralExpressionParser.parse(scriptText);
+        if (literalValue != LiteralExpressionParser.NOT_A_LITERAL) {
+            return literalValue;
+        }
+        ExpressionCacheKey cacheKey = new ExpressionCacheKey(getParentClassLoader(), scriptText);
+        Class<?> clazz = compiledExpressionCache.get(cacheKey);
+        if (clazz == null) {
+            clazz = getVariableValuateClassLoader().parseClass(getGroovyCodeSource(scriptText, generateScriptName()),
+                    false);
+            compiledExpressionCache.put(cacheKey, clazz);
+        }
         return getScript(clazz, binding, false).run();
     }
 
+    public static void clearCompiledExpressionCache() {
+        compiledExpressionCache.clear();
+    }
+
     // Parse this class as script text
     public Object runScriptAsRawText(
             final String scriptText, String className, Binding binding, String testCaseName)
@@ -134,6 +173,13 @@ public class ScriptEngine extends GroovyScriptEngine {
                 null);
     }
 
+    // Parse this class as script text once, its methods can then be invoked on new instances without compiling it again
+    public Class<?> parseClassAsRawText(final String scriptText, final String className)
+            throws IOException, ClassNotFoundException {
+        String processedScriptText = preProcessScriptBeforeBuild(scriptText);
+        return getExecutingScriptClassLoader().parseClass(getGroovyCodeSource(processedScriptText, className), true);
+    }
+
     private String preProcessScriptBeforeBuild(String scriptText) {
         return processNotRunLabels(scriptText);
     }
@@ -258,6 +304,31 @@ public class ScriptEngine extends GroovyScriptEngine {
         }
     }
 
+    private static class ExpressionCacheKey {
+        private final ClassLoader parentClassLoader;
+
+        private final String scriptText;
+
+        private ExpressionCacheKey(ClassLoader parentClassLoader, String scriptText) {
+            this.parentClassLoader = parentClassLoader;
+            this.scriptText = scriptText;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(parentClassLoader) + scriptText.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ExpressionCacheKey)) {
+                return false;
+            }
+            ExpressionCacheKey other = (ExpressionCacheKey) obj;
+            return parentClassLoader == other.parentClassLoader && scriptText.equals(other.scriptText);
+        }
+    }
+
     public static String getTestCaseName(String script) {
         String testCaseName = testCaseNameLookup.get(script);
         return testCaseName;
@@ -44,6 +44,7 @@ import com.kms.katalon.core.model.FailureHandling;
 import com.kms.katalon.core.testcase.TestCase;
 import com.kms.katalon.core.testcase.TestCaseBinding;
 import com.kms.katalon.core.testcase.TestCaseFactory;
+import com.kms.katalon.core.testobject.internal.impl.TestObjectTemplateCache;
 import com.kms.katalon.core.util.BrowserMobProxyManager;
 import com.kms.katalon.core.util.internal.ExceptionsUtil;
 
@@ -202,9 +203,16 @@ public class TestCaseExecutor {
         errorCollector.getErrors().addAll(0, parentErrors);
         if (testCaseContext.isMainTestCase()) {
             BrowserMobProxyManager.shutdownProxy();
+            logTestObjectCacheStatistics();
         }
     }
 
+    private void logTestObjectCacheStatistics() {
+        TestObjectTemplateCache testObjectCache = TestObjectTemplateCache.getInstance();
+        logger.logDebug(MessageFormat.format(StringConstants.TO_LOG_DEBUG_TEST_OBJ_CACHE_STATISTICS,
+                testObjectCache.size(), testObjectCache.getHitCount(), testObjectCache.getMissCount()));
+    }
+
 
     @SuppressWarnings("unchecked")
     public TestResult execute(FailureHandling flowControl) {
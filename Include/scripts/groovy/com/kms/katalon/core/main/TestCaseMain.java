@@ -6,9 +6,13 @@ import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.codehaus.groovy.runtime.InvokerHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.kms.katalon.constants.GlobalStringConstants;
 import com.kms.katalon.core.configuration.RunConfiguration;
@@ -17,6 +21,7 @@ import com.kms.katalon.core.context.internal.ExecutionEventManager;
 import com.kms.katalon.core.context.internal.ExecutionListenerEvent;
 import com.kms.katalon.core.context.internal.InternalTestCaseContext;
 import com.kms.katalon.core.context.internal.InternalTestSuiteContext;
+import com.kms.katalon.core.db.ConnectionPoolListener;
 import com.kms.katalon.core.exception.KatalonRuntimeException;
 import com.kms.katalon.core.logging.ErrorCollector;
 import com.kms.katalon.core.model.FailureHandling;
@@ -33,7 +38,12 @@ import javassist.CtMethod;
 
 public class TestCaseMain {
 
-    private static final int DELAY_TIME = 50;
+    private static final Logger selfLogger = LoggerFactory.getLogger(TestCaseMain.class);
+
+    // Upper bound for an entry point called on another thread while beforeStart is still running
+    private static final long STARTUP_TIMEOUT_SECONDS = 60;
+
+    private static final CountDownLatch startup = new CountDownLatch(1);
 
     private static ScriptEngine engine;
 
@@ -50,18 +60,46 @@ public class TestCaseMain {
      * @throws IOException
      */
     public static void beforeStart() throws IOException {
-        LogbackConfigurator.init();
-
-        GroovyClassLoader classLoader = new GroovyClassLoader(TestCaseMain.class.getClassLoader());
-        engine = ScriptEngine.getDefault(classLoader);
-
-        // Load GlobalVariable class
-//        loadGlobalVariableClass(classLoader);
-        loadInternalGlobalVariableClass(classLoader);
-        loadCustomKeywordsClass(classLoader);
-        modifyCustomKeywordsClassAtRunTime(classLoader);
-        
-        eventManager = ExecutionEventManager.getInstance();
+        try {
+            long startTime = System.currentTimeMillis();
+            LogbackConfigurator.init();
+            long logbackTime = System.currentTimeMillis();
+
+            GroovyClassLoader classLoader = new GroovyClassLoader(TestCaseMain.class.getClassLoader());
+            engine = ScriptEngine.getDefault(classLoader);
+            long scriptEngineTime = System.currentTimeMillis();
+
+            // Load GlobalVariable class
+//            loadGlobalVariableClass(classLoader);
+            loadInternalGlobalVariableClass(classLoader);
+            long globalVariableTime = System.currentTimeMillis();
+            loadCustomKeywordsClass(classLoader);
+            modifyCustomKeywordsClassAtRunTime(classLoader);
+            long customKeywordsTime = System.currentTimeMillis();
+
+            eventManager = ExecutionEventManager.getInstance();
+            eventManager.addListenerEventHandle(new ConnectionPoolListener());
+            long endTime = System.currentTimeMillis();
+
+            selfLogger.info("Execution startup took {} ms (logging: {} ms, script engine: {} ms, "
+                    + "global variables: {} ms, custom keywords: {} ms, test listeners: {} ms)",
+                    endTime - startTime, logbackTime - startTime, scriptEngineTime - logbackTime,
+                    globalVariableTime - scriptEngineTime, customKeywordsTime - globalVariableTime,
+                    endTime - customKeywordsTime);
+        } finally {
+            // Entry points must not wait for a startup that failed
+            startup.countDown();
+        }
+    }
+
+    /**
+     * Returns as soon as {@link #beforeStart()} has completed, which is already the case when an entry point is called
+     * from the same thread.
+     */
+    private static void awaitStartup() throws InterruptedException {
+        if (!startup.await(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            selfLogger.warn("Execution startup did not complete within {} seconds", STARTUP_TIMEOUT_SECONDS);
+        }
     }
 
     private static void loadCustomKeywordsClass(GroovyClassLoader cl) {
@@ -135,7 +173,7 @@ public class TestCaseMain {
 
     public static TestResult runTestCase(String testCaseId, TestCaseBinding testCaseBinding,
             FailureHandling flowControl, boolean isMain, boolean doCleanUp) throws InterruptedException {
-        Thread.sleep(DELAY_TIME);
+        awaitStartup();
         InternalTestCaseContext testCaseContext = new InternalTestCaseContext(testCaseId);
         testCaseContext.setMainTestCase(isMain);
         return new TestCaseExecutor(testCaseBinding, engine, eventManager, testCaseContext, doCleanUp)
@@ -144,26 +182,26 @@ public class TestCaseMain {
 
     public static TestResult runWSVerificationScript(String verificationScript, FailureHandling flowControl,
             boolean doCleanUp) throws InterruptedException {
-        Thread.sleep(DELAY_TIME);
+        awaitStartup();
         return new WSVerificationExecutor(verificationScript, engine, eventManager, doCleanUp).execute(flowControl);
     }
 
     public static TestResult runWSVerificationScript(TestCaseBinding testCaseBinding, String verificationScript,
             FailureHandling flowControl, boolean doCleanUp) throws InterruptedException {
-        Thread.sleep(DELAY_TIME);
+        awaitStartup();
         return new WSVerificationExecutor(testCaseBinding, verificationScript, engine, eventManager, doCleanUp)
                 .execute(flowControl);
     }
 
     public static TestResult runTestCaseRawScript(String testScript, String testCaseId, TestCaseBinding testCaseBinding,
             FailureHandling flowControl) throws InterruptedException {
-        Thread.sleep(DELAY_TIME);
+        awaitStartup();
         return new RawTestScriptExecutor(testScript, testCaseBinding, engine, eventManager,
                 new InternalTestCaseContext(testCaseId)).execute(flowControl);
     }
 
     public static TestResult runFeatureFile(String featureFile) throws InterruptedException {
-        Thread.sleep(DELAY_TIME);
+        awaitStartup();
         String verificationScript = MessageFormat
                 .format("import com.kms.katalon.core.cucumber.keyword.CucumberBuiltinKeywords as CucumberKW\n" +
 
@@ -174,7 +212,7 @@ public class TestCaseMain {
 
     public static TestResult runTestCaseRawScript(String testScript, String testCaseId, TestCaseBinding testCaseBinding,
             FailureHandling flowControl, boolean doCleanUp) throws InterruptedException {
-        Thread.sleep(DELAY_TIME);
+        awaitStartup();
         return new RawTestScriptExecutor(testScript, testCaseBinding, engine, eventManager,
                 new InternalTestCaseContext(testCaseId), doCleanUp).execute(flowControl);
     }
@@ -37,14 +37,19 @@ import com.kms.katalon.core.logging.KeywordLogger.KeywordStackElement;
 import com.kms.katalon.core.logging.model.TestStatus.TestStatusValue;
 import com.kms.katalon.core.model.FailureHandling;
 import com.kms.katalon.core.testcase.TestCaseBinding;
+import com.kms.katalon.core.testdata.TestDataFactory;
 import com.kms.katalon.core.util.internal.JsonUtil;
 
 import groovy.lang.Binding;
+import groovy.lang.MetaMethod;
+import groovy.lang.Script;
 
 public class TestSuiteExecutor {
 
     private static final String SHOULD_STOP_IMMEDIATELY_KEY = "stopImmediately";
 
+    private static final Object[] NO_ARGS = new Object[0];
+
     private final KeywordLogger logger = KeywordLogger.getInstance(this.getClass());
 
     private final String testSuiteId;
@@ -126,15 +131,20 @@ public class TestSuiteExecutor {
                 Map<String, Object> bindedValues = new HashMap<>();
 
                 scriptEngine.changeConfigForCollectingVariable();
-                for (Entry<String, Object> entry : values.entrySet()) {
-                    String key = entry.getKey();
-                    Object value = entry.getValue();
-                    try {
-                        Object runScript = scriptEngine.runScriptWithoutLogging(value != null ? value.toString() : null, new Binding());
-                        bindedValues.put(key, runScript);
-                    } catch (Exception e) {
-                        bindedValues.put(key, value);
+                TestDataFactory.beginTestDataBinding();
+                try {
+                    for (Entry<String, Object> entry : values.entrySet()) {
+                        String key = entry.getKey();
+                        Object value = entry.getValue();
+                        try {
+                            Object runScript = scriptEngine.runScriptWithoutLogging(value != null ? value.toString() : null, new Binding());
+                            bindedValues.put(key, runScript);
+                        } catch (Exception e) {
+                            bindedValues.put(key, value);
+                        }
                     }
+                } finally {
+                    TestDataFactory.endTestDataBinding();
                 }
                 testCaseBinding.setBindedValues(bindedValues);
                 TestResult tcExecutedResult = accessTestCaseMainPhase(i, testCaseBinding);
@@ -234,8 +244,7 @@ public class TestSuiteExecutor {
 
         try {
             errorCollector.clearErrors();
-            scriptEngine.runScriptMethodAsRawText(scriptCache.scriptContent, scriptCache.className, methodName,
-                    new Binding());
+            scriptCache.invokeMethod(methodName);
             endAllUnfinishedKeywords(keywordStack);
         } catch (Throwable e) {
             errorCollector.getErrors().add(e);
@@ -269,6 +278,10 @@ public class TestSuiteExecutor {
         }
     }
 
+    /**
+     * The test suite script of an execution. The script is compiled the first time one of its methods is invoked, then
+     * each invocation only creates a new script instance and calls the method that was looked up before.
+     */
     private class ScriptCache {
         private File scriptFile;
 
@@ -278,6 +291,12 @@ public class TestSuiteExecutor {
 
         private String scriptContent;
 
+        private Map<String, List<MethodNode>> methodNodeCollection;
+
+        private Class<?> scriptClass;
+
+        private final Map<String, MetaMethod> metaMethods = new HashMap<>();
+
         private ScriptCache(String testSuiteId) throws IOException {
             this.scriptFile = getTestSuiteScriptFile(testSuiteId);
             if (this.scriptFile != null && this.scriptFile.exists()) {
@@ -289,13 +308,35 @@ public class TestSuiteExecutor {
         }
 
         public List<MethodNode> getMethodNodes(String annotatedMethodName) throws IOException {
-            Map<String, List<MethodNode>> methodNodeCollection = annotatedMethodCollector.getMethodNodes(scriptContent);
+            if (methodNodeCollection == null) {
+                methodNodeCollection = annotatedMethodCollector.getMethodNodes(scriptContent);
+            }
             if (!methodNodeCollection.containsKey(annotatedMethodName)) {
                 return Collections.emptyList();
             }
             return methodNodeCollection.get(annotatedMethodName);
         }
 
+        /**
+         * Invokes a method without arguments on a new instance of the test suite script.
+         */
+        public Object invokeMethod(String methodName) throws IOException, ClassNotFoundException {
+            if (scriptClass == null) {
+                scriptClass = scriptEngine.parseClassAsRawText(scriptContent, className);
+            }
+            Script script = scriptEngine.getScript(scriptClass, new Binding(), true);
+            MetaMethod metaMethod = metaMethods.get(methodName);
+            if (metaMethod == null) {
+                metaMethod = script.getMetaClass().getMetaMethod(methodName, NO_ARGS);
+                if (metaMethod == null) {
+                    // Let the script report the missing method
+                    return script.invokeMethod(methodName, null);
+                }
+                metaMethods.put(methodName, metaMethod);
+            }
+            return metaMethod.doMethodInvoke(script, NO_ARGS);
+        }
+
         public boolean hasScriptContent() {
             return scriptFile != null && scriptFile.exists();
         }
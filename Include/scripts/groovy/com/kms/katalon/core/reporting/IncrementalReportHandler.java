@@ -0,0 +1,78 @@
+package com.kms.katalon.core.reporting;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import javax.xml.bind.JAXBException;
+
+import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.logging.ExecutionLogStreamParser;
+import com.kms.katalon.core.logging.LogLevel;
+import com.kms.katalon.core.logging.TestSuiteLogRecordBuilder;
+import com.kms.katalon.core.logging.XmlLogRecord;
+
+/**
+ * Log handler that builds the log record tree of the running test suite from the logged records and writes each test
+ * case to the reports as soon as it ends.
+ * <p>
+ * Once written, a test case is replaced in the tree by its result, so only the running test case is held in memory.
+ * <p>
+ * This handler must be added to the logger before the handlers that format the records, since the XML formatter
+ * escapes the message and properties of a record in place.
+ *
+ * @see IncrementalReportWriter
+ */
+public class IncrementalReportHandler extends Handler {
+
+    private final TestSuiteLogRecordBuilder builder;
+
+    private final IncrementalReportWriter writer;
+
+    public IncrementalReportHandler(File logFolder) {
+        builder = new TestSuiteLogRecordBuilder(logFolder.getAbsolutePath());
+        writer = new IncrementalReportWriter(logFolder);
+        builder.setTestCaseListener((testSuiteLogRecord, testCaseLogRecord) -> {
+            try {
+                writer.writeTestCase(testSuiteLogRecord, testCaseLogRecord);
+            } catch (IOException | JAXBException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+            builder.detachTestCase(testCaseLogRecord);
+        });
+    }
+
+    @Override
+    public synchronized void publish(LogRecord record) {
+        if (!(record instanceof XmlLogRecord) || !isLoggable(record)) {
+            return;
+        }
+        XmlLogRecord xmlLogRecord = (XmlLogRecord) record;
+        ExecutionLogStreamParser.dispatch(xmlLogRecord, builder);
+        if (LogLevel.END.getLevel().equals(xmlLogRecord.getLevel())
+                && StringConstants.LOG_END_SUITE_METHOD.equals(xmlLogRecord.getSourceMethodName())
+                && builder.getTestSuiteLogRecord() != null) {
+            try {
+                writer.finish(builder.getTestSuiteLogRecord());
+            } catch (IOException | JAXBException | URISyntaxException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public synchronized void close() throws SecurityException {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+}
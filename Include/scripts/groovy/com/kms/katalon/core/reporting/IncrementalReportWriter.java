@@ -0,0 +1,240 @@
+package com.kms.katalon.core.reporting;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
+import org.supercsv.io.CsvListWriter;
+import org.supercsv.io.ICsvListWriter;
+import org.supercsv.prefs.CsvPreference;
+
+import com.kms.katalon.core.logging.model.TestCaseLogRecord;
+import com.kms.katalon.core.logging.model.TestSuiteLogRecord;
+import com.kms.katalon.core.testdata.reader.CsvWriter;
+
+/**
+ * Writes the HTML, CSV, simple HTML and JUnit reports of a test suite one test case at a time, while the test suite is
+ * running.
+ * <p>
+ * Each ended test case is rendered once and appended to a part file next to its JUnit and CSV reports, and as a chunk
+ * of the report model to the data files of the HTML reports. These files are flushed after every test case, so the
+ * completed test cases are kept even if the execution is killed.
+ * <p>
+ * {@link #finish(TestSuiteLogRecord)} only renders the test suite part of each report, the test cases are not rendered
+ * again. The JUnit and CSV reports get the part files appended, while the HTML reports load their data file.
+ */
+public class IncrementalReportWriter implements Closeable {
+
+    // Created once the reports are completed, so that they are not written again from the execution log
+    private static final String FINISHED_MARKER_FILE_NAME = ".incremental-report";
+
+    private static final String PART_FILE_EXTENSION = ".part";
+
+    public static final String HTML_DATA_FILE_NAME = "report-data.js";
+
+    // Data of Report.html, whose test cases have no info messages
+    public static final String SIMPLE_HTML_DATA_FILE_NAME = "report-data-simple.js";
+
+    private static final String HTML_DATA_HEADER = "var reportChunks = reportChunks || [];\n";
+
+    private static final String JUNIT_PROPERTIES_END_TAG = "</properties>";
+
+    private static final String JUNIT_EMPTY_PROPERTIES_TAG = "<properties/>";
+
+    private final File junitReportFile;
+
+    private final File csvReportFile;
+
+    private final File junitPartFile;
+
+    private final File csvPartFile;
+
+    private final File htmlReportFile;
+
+    private final File simpleHtmlReportFile;
+
+    private final File htmlDataFile;
+
+    private final File simpleHtmlDataFile;
+
+    private final File finishedMarkerFile;
+
+    private final JUnitReportObjectFactory factory = new JUnitReportObjectFactory();
+
+    private Marshaller testCaseMarshaller;
+
+    private Writer junitPartWriter;
+
+    private ICsvListWriter csvPartWriter;
+
+    private Writer htmlDataWriter;
+
+    private Writer simpleHtmlDataWriter;
+
+    // Strings written to each data file, the string indexes of a chunk follow the ones of the previous chunks
+    private int htmlDataStringCount;
+
+    private int simpleHtmlDataStringCount;
+
+    private boolean finished;
+
+    public IncrementalReportWriter(File logFolder) {
+        junitReportFile = new File(logFolder, ReportUtil.JUNIT_REPORT_FILE_NAME);
+        csvReportFile = new File(logFolder, logFolder.getName() + ".csv");
+        junitPartFile = new File(logFolder, junitReportFile.getName() + PART_FILE_EXTENSION);
+        csvPartFile = new File(logFolder, csvReportFile.getName() + PART_FILE_EXTENSION);
+        htmlReportFile = new File(logFolder, logFolder.getName() + ".html");
+        simpleHtmlReportFile = new File(logFolder, "Report.html");
+        htmlDataFile = new File(logFolder, HTML_DATA_FILE_NAME);
+        simpleHtmlDataFile = new File(logFolder, SIMPLE_HTML_DATA_FILE_NAME);
+        finishedMarkerFile = new File(logFolder, FINISHED_MARKER_FILE_NAME);
+    }
+
+    /**
+     * @return true if the reports of the given log folder have been completed by an incremental writer
+     */
+    public static boolean isFinished(File logFolder) {
+        IncrementalReportWriter writer = new IncrementalReportWriter(logFolder);
+        return writer.finishedMarkerFile.exists() && writer.junitReportFile.exists() && writer.csvReportFile.exists()
+                && writer.htmlReportFile.exists() && writer.simpleHtmlReportFile.exists()
+                && writer.htmlDataFile.exists() && writer.simpleHtmlDataFile.exists() && !writer.junitPartFile.exists()
+                && !writer.csvPartFile.exists();
+    }
+
+    /**
+     * Appends the given test case to the reports.
+     * <p>
+     * The info messages of the test case are removed once it is written to the HTML report, since the simple HTML
+     * report does not show them.
+     */
+    public synchronized void writeTestCase(TestSuiteLogRecord suiteLogEntity, TestCaseLogRecord testCaseLogEntity)
+            throws IOException, JAXBException {
+        open();
+
+        testCaseMarshaller.marshal(ReportUtil.generateJUnitTestCase(factory, testCaseLogEntity), junitPartWriter);
+        junitPartWriter.write("\n");
+        junitPartWriter.flush();
+
+        CsvWriter.writeTestCase(csvPartWriter, testCaseLogEntity, suiteLogEntity.getBrowser(), true);
+        csvPartWriter.flush();
+
+        htmlDataStringCount = writeHtmlDataChunk(htmlDataWriter, testCaseLogEntity, htmlDataStringCount);
+        ReportUtil.removeInfoLines(testCaseLogEntity);
+        simpleHtmlDataStringCount = writeHtmlDataChunk(simpleHtmlDataWriter, testCaseLogEntity,
+                simpleHtmlDataStringCount);
+    }
+
+    /**
+     * @return the number of strings written to the data file with this chunk
+     */
+    private static int writeHtmlDataChunk(Writer dataWriter, TestCaseLogRecord testCaseLogEntity, int stringCount)
+            throws IOException {
+        JsStringChunk strings = new JsStringChunk(stringCount);
+        if (strings.isEmpty()) {
+            strings.add(JsModel.EMPTY_STRING);
+        }
+        StringBuilder testModel = new JsTestModel(testCaseLogEntity, strings).toArrayString();
+        dataWriter.write("reportChunks.push({\"strings\":[");
+        dataWriter.write(StringUtils.join(strings.getStrings(), ","));
+        dataWriter.write("],\"test\":");
+        dataWriter.append(testModel);
+        dataWriter.write("});\n");
+        dataWriter.flush();
+        return strings.size();
+    }
+
+    /**
+     * Completes the JUnit and CSV reports with the test suite information, then removes the part files. The HTML
+     * reports are written with the test suite information and load their test cases from the data files.
+     */
+    public synchronized void finish(TestSuiteLogRecord suiteLogEntity)
+            throws IOException, JAXBException, URISyntaxException {
+        if (finished) {
+            return;
+        }
+        open();
+        close();
+        finished = true;
+
+        StringWriter junitSuite = new StringWriter();
+        ReportUtil.createJUnitMarshaller().marshal(ReportUtil
+                .generateJUnitTestSuites(ReportUtil.generateJUnitTestSuiteWithoutTestCases(suiteLogEntity)),
+                junitSuite);
+        String junitSuiteText = junitSuite.toString();
+        int testCasesIndex = junitSuiteText.indexOf(JUNIT_PROPERTIES_END_TAG);
+        testCasesIndex = testCasesIndex >= 0 ? testCasesIndex + JUNIT_PROPERTIES_END_TAG.length()
+                : junitSuiteText.indexOf(JUNIT_EMPTY_PROPERTIES_TAG) + JUNIT_EMPTY_PROPERTIES_TAG.length();
+        writeWithPart(junitReportFile, junitSuiteText.substring(0, testCasesIndex) + "\n", junitPartFile,
+                junitSuiteText.substring(testCasesIndex));
+
+        StringWriter csvSuite = new StringWriter();
+        ICsvListWriter csvSuiteWriter = new CsvListWriter(csvSuite, CsvPreference.STANDARD_PREFERENCE);
+        CsvWriter.writeTestSuite(csvSuiteWriter, suiteLogEntity);
+        csvSuiteWriter.close();
+        writeWithPart(csvReportFile, csvSuite.toString(), csvPartFile, "");
+
+        ReportUtil.writeChunkedHtmlReport(suiteLogEntity, htmlDataStringCount, htmlReportFile, htmlDataFile.getName());
+        ReportUtil.writeChunkedHtmlReport(suiteLogEntity, simpleHtmlDataStringCount, simpleHtmlReportFile,
+                simpleHtmlDataFile.getName());
+
+        junitPartFile.delete();
+        csvPartFile.delete();
+        finishedMarkerFile.createNewFile();
+    }
+
+    private static void writeWithPart(File file, String head, File partFile, String tail) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+                Reader partReader = new InputStreamReader(new FileInputStream(partFile), StandardCharsets.UTF_8)) {
+            writer.write(head);
+            IOUtils.copy(partReader, writer);
+            writer.write(tail);
+        }
+    }
+
+    private void open() throws IOException, JAXBException {
+        if (testCaseMarshaller != null) {
+            return;
+        }
+        testCaseMarshaller = ReportUtil.createJUnitMarshaller();
+        testCaseMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        junitPartWriter = new OutputStreamWriter(new FileOutputStream(junitPartFile), StandardCharsets.UTF_8);
+        csvPartWriter = new CsvListWriter(
+                new OutputStreamWriter(new FileOutputStream(csvPartFile), StandardCharsets.UTF_8),
+                CsvPreference.STANDARD_PREFERENCE);
+        htmlDataWriter = openHtmlDataFile(htmlDataFile);
+        simpleHtmlDataWriter = openHtmlDataFile(simpleHtmlDataFile);
+        finishedMarkerFile.delete();
+    }
+
+    private static Writer openHtmlDataFile(File dataFile) throws IOException {
+        Writer dataWriter = new OutputStreamWriter(new FileOutputStream(dataFile), StandardCharsets.UTF_8);
+        dataWriter.write(HTML_DATA_HEADER);
+        dataWriter.flush();
+        return dataWriter;
+    }
+
+    /**
+     * Closes the part files without completing the reports.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        IOUtils.closeQuietly(junitPartWriter);
+        IOUtils.closeQuietly(csvPartWriter);
+        IOUtils.closeQuietly(htmlDataWriter);
+        IOUtils.closeQuietly(simpleHtmlDataWriter);
+    }
+}
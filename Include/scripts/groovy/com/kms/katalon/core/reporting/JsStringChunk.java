@@ -0,0 +1,43 @@
+package com.kms.katalon.core.reporting;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * String table of one chunk of a report model, whose indexes follow the strings of the previous chunks.
+ * <p>
+ * Only the strings added to this chunk are held, the strings of the previous chunks are counted but cannot be read.
+ */
+class JsStringChunk extends AbstractList<String> {
+
+    private final int offset;
+
+    private final List<String> strings = new ArrayList<String>();
+
+    JsStringChunk(int offset) {
+        this.offset = offset;
+    }
+
+    @Override
+    public boolean add(String string) {
+        return strings.add(string);
+    }
+
+    @Override
+    public String get(int index) {
+        return strings.get(index - offset);
+    }
+
+    @Override
+    public int size() {
+        return offset + strings.size();
+    }
+
+    /**
+     * @return the strings added to this chunk
+     */
+    List<String> getStrings() {
+        return strings;
+    }
+}
@@ -9,9 +9,16 @@ import java.net.URLDecoder;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -29,12 +36,16 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
 import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.logging.ExecutionLogIndex;
+import com.kms.katalon.core.logging.ExecutionLogIndex.TestCaseEntry;
+import com.kms.katalon.core.logging.ExecutionLogStreamParser;
 import com.kms.katalon.core.logging.TestSuiteXMLLogParser;
 import com.kms.katalon.core.logging.XMLLoggerParser;
 import com.kms.katalon.core.logging.XMLParserException;
 import com.kms.katalon.core.logging.XmlLogRecord;
 import com.kms.katalon.core.logging.model.ILogRecord;
 import com.kms.katalon.core.logging.model.MessageLogRecord;
+import com.kms.katalon.core.logging.model.TestCaseLogRecord;
 import com.kms.katalon.core.logging.model.TestStatus;
 import com.kms.katalon.core.logging.model.TestSuiteCollectionLogRecord;
 import com.kms.katalon.core.logging.model.TestStatus.TestStatusValue;
@@ -46,15 +57,28 @@ import com.kms.katalon.core.util.internal.DateUtil;
 public class ReportUtil {
 
     public static final String JUNIT_REPORT_FILE_NAME = "JUnit_Report.xml";
+
+    // Each phase of writeLogRecordToFiles renders two reports at the same time
+    private static final int REPORT_WRITER_THREADS = 2;
+
+    // Template contents by file name, loaded once per JVM
+    private static final Map<String, String> templates = new ConcurrentHashMap<>();
+
+    private static volatile List<String> templateVarsLines;
     
     private static StringBuilder generateVars(List<String> strings, TestSuiteLogRecord suiteLogEntity,
             StringBuilder model) throws IOException {
+        return generateVars(strings, suiteLogEntity, model, "");
+    }
+
+    private static StringBuilder generateVars(List<String> strings, TestSuiteLogRecord suiteLogEntity,
+            StringBuilder model, String dataChunks) throws IOException {
         StringBuilder sb = new StringBuilder();
-        List<String> lines = IOUtils
-                .readLines(ResourceLoader.class.getResourceAsStream(ResourceLoader.HTML_TEMPLATE_VARS));
-        for (String line : lines) {
+        for (String line : getTemplateVarsLines()) {
             if (line.equals(ResourceLoader.HTML_TEMPLATE_SUITE_MODEL_TOKEN)) {
                 sb.append(model);
+            } else if (line.equals(ResourceLoader.HTML_TEMPLATE_DATA_CHUNKS_TOKEN)) {
+                sb.append(dataChunks);
             } else if (line.equals(ResourceLoader.HTML_TEMPLATE_STRINGS_CONSTANT_TOKEN)) {
                 sb.append(StringUtils.join(strings, (",")));
             } else if (line.equals(ResourceLoader.HTML_TEMPLATE_EXEC_ENV_TOKEN)) {
@@ -90,6 +114,15 @@ public class ReportUtil {
         return sb;
     }
 
+    private static List<String> getTemplateVarsLines() throws IOException {
+        if (templateVarsLines == null) {
+            try (InputStream is = ResourceLoader.class.getResourceAsStream(ResourceLoader.HTML_TEMPLATE_VARS)) {
+                templateVarsLines = Collections.unmodifiableList(IOUtils.readLines(is));
+            }
+        }
+        return templateVarsLines;
+    }
+
     public static String getOs() {
         return System.getProperty("os.name") + " " + System.getProperty("sun.arch.data.model") + "bit";
     }
@@ -117,12 +150,49 @@ public class ReportUtil {
     }
 
     public static void writeLogRecordToFiles(String logFolder) throws Exception {
+        if (!IncrementalReportWriter.isFinished(new File(logFolder))) {
+            writeIncrementalReports(logFolder);
+        }
+        if (IncrementalReportWriter.isFinished(new File(logFolder))) {
+            return;
+        }
         TestSuiteLogRecord testSuiteLogRecord = generate(logFolder);
         if (testSuiteLogRecord != null) {
             writeLogRecordToFiles(testSuiteLogRecord, new File(logFolder));
         }
     }
 
+    /**
+     * Writes the HTML, CSV, simple HTML and JUnit reports of a test suite from its execution log files, one test case
+     * at a time.
+     * <p>
+     * The test suite log is read with the results of its test cases only, then each test case is read on its own
+     * through the index of the log files, so only one test case log is held in memory.
+     */
+    public static void writeIncrementalReports(String logFolder)
+            throws IOException, XMLStreamException, JAXBException, URISyntaxException {
+        TestSuiteXMLLogParser parser = new TestSuiteXMLLogParser();
+        TestSuiteLogRecord suiteLogRecord = parser.readTestSuiteSummaryFromXMLFiles(logFolder,
+                new NullProgressMonitor());
+        if (suiteLogRecord == null) {
+            return;
+        }
+        String testSuiteCollectionId = getTestSuiteCollectionId(new File(logFolder));
+        if (StringUtils.isNotBlank(testSuiteCollectionId)) {
+            suiteLogRecord.setTestSuiteCollectionId(testSuiteCollectionId);
+        }
+        ExecutionLogIndex index = new ExecutionLogStreamParser().getIndex(logFolder);
+        try (IncrementalReportWriter writer = new IncrementalReportWriter(new File(logFolder))) {
+            for (TestCaseEntry testCase : index.getTestCases()) {
+                TestCaseLogRecord testCaseLogRecord = parser.readTestCaseFromXMLFiles(logFolder, testCase);
+                if (testCaseLogRecord != null) {
+                    writer.writeTestCase(suiteLogRecord, testCaseLogRecord);
+                }
+            }
+            writer.finish(suiteLogRecord);
+        }
+    }
+
     public static void writeLogRecordToCSVFile(TestSuiteLogRecord suiteLogEntity, File destFile,
             List<ILogRecord> filteredTestCases) throws IOException {
         writeLogRecordToCSVFile(suiteLogEntity, destFile, filteredTestCases, true);
@@ -133,17 +203,67 @@ public class ReportUtil {
         CsvWriter.writeCsvReport(suiteLogEntity, destFile, filteredTestCases, stepsIncluded);
     }
 
+    /**
+     * Writes the HTML, CSV, simple HTML and JUnit reports of a test suite.
+     * <p>
+     * The simple HTML and JUnit reports are built from the test suite log without its info messages, which are
+     * removed once the HTML and CSV reports are written. The reports of each phase are written in parallel.
+     * <p>
+     * Nothing is written if the reports have already been completed during the execution.
+     */
     public static void writeLogRecordToFiles(TestSuiteLogRecord suiteLogEntity, File logFolder) throws Exception {
-        writeHtmlReport(suiteLogEntity, logFolder);
-
-        // Write CSV file
-        writeCSVReport(suiteLogEntity, logFolder);
-
-        writeSimpleHTMLReport(suiteLogEntity, logFolder);
+        if (IncrementalReportWriter.isFinished(logFolder)) {
+            return;
+        }
 
-//        writeJsonReport(suiteLogEntity, logFolder);
+        ExecutorService executor = Executors.newFixedThreadPool(REPORT_WRITER_THREADS);
+        try {
+            List<Future<Void>> reports = new ArrayList<>();
+            reports.add(executor.submit(() -> {
+                writeHtmlReport(suiteLogEntity, logFolder);
+                return null;
+            }));
+            // Write CSV file
+            reports.add(executor.submit(() -> {
+                writeCSVReport(suiteLogEntity, logFolder);
+                return null;
+            }));
+            waitForReports(reports);
+
+            removeInfoLines(suiteLogEntity);
+
+            reports.clear();
+            reports.add(executor.submit(() -> {
+                writeSimpleHTMLReportWithoutInfoLines(suiteLogEntity, logFolder);
+                return null;
+            }));
+
+//            writeJsonReport(suiteLogEntity, logFolder);
+
+            reports.add(executor.submit(() -> {
+                writeJUnitReport(suiteLogEntity, logFolder);
+                return null;
+            }));
+            waitForReports(reports);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        writeJUnitReport(suiteLogEntity, logFolder);
+    private static void waitForReports(List<Future<Void>> reports) throws Exception {
+        Exception firstError = null;
+        for (Future<Void> report : reports) {
+            try {
+                report.get();
+            } catch (ExecutionException e) {
+                if (firstError == null) {
+                    firstError = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if (firstError != null) {
+            throw firstError;
+        }
     }
 
     public static void writeLogRecordToJUnitFile(String logFolder) throws Exception {
@@ -155,6 +275,18 @@ public class ReportUtil {
     
     public static JUnitTestSuite generateJUnitTestSuite(TestSuiteLogRecord suiteLogEntity) {
         JUnitReportObjectFactory factory = new JUnitReportObjectFactory();
+        JUnitTestSuite ts = generateJUnitTestSuiteWithoutTestCases(suiteLogEntity);
+        Arrays.asList(suiteLogEntity.getChildRecords())
+                .stream()
+                .forEach(item -> ts.getTestcase().add(generateJUnitTestCase(factory, item)));
+        return ts;
+    }
+
+    /**
+     * @return the JUnit test suite of the given test suite log, with its properties and totals but no test cases
+     */
+    static JUnitTestSuite generateJUnitTestSuiteWithoutTestCases(TestSuiteLogRecord suiteLogEntity) {
+        JUnitReportObjectFactory factory = new JUnitReportObjectFactory();
 
         String testSuiteName = suiteLogEntity.getName();
         String totalTests = suiteLogEntity.getTotalTestCases() + "";
@@ -190,42 +322,41 @@ public class ReportUtil {
         ts.setFailures(totalFailure);
         // skipped: The total number of tests in the suite that is skipped by users
         ts.setSkipped(totalSkipped);
+        return ts;
+    }
 
-        Arrays.asList(suiteLogEntity.getChildRecords()).stream().forEach(item -> {
-            JUnitTestCase tc = factory.createTestCase();
-            String time = ((float) (item.getEndTime() - item.getStartTime()) / 1000) + "";
-
-            tc.setClassname(item.getId());
-            tc.setName(item.getName());
-            tc.setTime(time);
-            
-            TestStatus status = item.getStatus();
-            TestStatusValue statusValue = status.getStatusValue();
-            String statusName = statusValue.name();
-            String message = StringUtils.removeStart(item.getMessage(),
-                    item.getName() + " " + statusName + " because (of) ");
-            tc.setStatus(statusName);
-            if (TestStatusValue.ERROR == statusValue) {
-                JUnitError error = factory.createError();
-                error.setType(statusName);
-                error.setMessage(message);
-                tc.getError().add(error);
-            }
-            if (TestStatusValue.FAILED == statusValue) {
-                JUnitFailure failure = factory.createFailure();
-                failure.setType(statusName);
-                failure.setMessage(message);
-                tc.getFailure().add(failure);
-            }
-
-            tc.getSystemOut().add(item.getSystemOutMsg().trim());
-            tc.getSystemErr().add(item.getSystemErrorMsg().trim());
-            ts.getTestcase().add(tc);
-        });
+    static JUnitTestCase generateJUnitTestCase(JUnitReportObjectFactory factory, ILogRecord item) {
+        JUnitTestCase tc = factory.createTestCase();
+        String time = ((float) (item.getEndTime() - item.getStartTime()) / 1000) + "";
+
+        tc.setClassname(item.getId());
+        tc.setName(item.getName());
+        tc.setTime(time);
+        
+        TestStatus status = item.getStatus();
+        TestStatusValue statusValue = status.getStatusValue();
+        String statusName = statusValue.name();
+        String message = StringUtils.removeStart(item.getMessage(),
+                item.getName() + " " + statusName + " because (of) ");
+        tc.setStatus(statusName);
+        if (TestStatusValue.ERROR == statusValue) {
+            JUnitError error = factory.createError();
+            error.setType(statusName);
+            error.setMessage(message);
+            tc.getError().add(error);
+        }
+        if (TestStatusValue.FAILED == statusValue) {
+            JUnitFailure failure = factory.createFailure();
+            failure.setType(statusName);
+            failure.setMessage(message);
+            tc.getFailure().add(failure);
+        }
 
-        return ts;
+        tc.getSystemOut().add(item.getSystemOutMsg().trim());
+        tc.getSystemErr().add(item.getSystemErrorMsg().trim());
+        return tc;
     }
-    
+
     public static void writeJUnitReport(TestSuiteCollectionLogRecord suiteCollectionLogRecord, File logFolder)
             throws JAXBException, IOException {
         JUnitReportObjectFactory factory = new JUnitReportObjectFactory();
@@ -257,19 +388,21 @@ public class ReportUtil {
 
         tss.getTestsuite().addAll(tsList);
 
-        JAXBContext context = JAXBContext
-                .newInstance(new Class[] { JUnitError.class, JUnitFailure.class, JUnitProperties.class,
-                        JUnitProperty.class, JUnitTestCase.class, JUnitTestSuites.class, JUnitTestSuite.class });
-        Marshaller marshaller = context.createMarshaller();
-        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        Marshaller marshaller = createJUnitMarshaller();
         marshaller.marshal(tss, new File(logFolder, JUNIT_REPORT_FILE_NAME));
     }
 
     public static void writeJUnitReport(TestSuiteLogRecord suiteLogEntity, File logFolder)
             throws JAXBException, IOException {
     	
+        JUnitTestSuites tss = generateJUnitTestSuites(generateJUnitTestSuite(suiteLogEntity));
+
+        Marshaller marshaller = createJUnitMarshaller();
+        marshaller.marshal(tss, new File(logFolder, JUNIT_REPORT_FILE_NAME));
+    }
+
+    static JUnitTestSuites generateJUnitTestSuites(JUnitTestSuite ts) {
         JUnitReportObjectFactory factory = new JUnitReportObjectFactory();
-        JUnitTestSuite ts = generateJUnitTestSuite(suiteLogEntity);
 
         // This is a single test suite. Thus, the info for the test suites is the same as test suite
         JUnitTestSuites tss = factory.createTestSuites();
@@ -285,13 +418,16 @@ public class ReportUtil {
         tss.setName(ts.getName());
 
         tss.getTestsuite().add(ts);
+        return tss;
+    }
 
+    static Marshaller createJUnitMarshaller() throws JAXBException {
         JAXBContext context = JAXBContext
                 .newInstance(new Class[] { JUnitError.class, JUnitFailure.class, JUnitProperties.class,
                         JUnitProperty.class, JUnitTestCase.class, JUnitTestSuites.class, JUnitTestSuite.class });
         Marshaller marshaller = context.createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-        marshaller.marshal(tss, new File(logFolder, "JUnit_Report.xml"));
+        return marshaller;
     }
 
 //    public static void writeJsonReport(TestSuiteLogRecord suiteLogEntity, File logFolder) throws IOException {
@@ -394,11 +530,20 @@ public class ReportUtil {
 
     public static void writeSimpleHTMLReport(TestSuiteLogRecord suiteLogEntity, File logFolder)
             throws IOException, URISyntaxException {
+        removeInfoLines(suiteLogEntity);
+        writeSimpleHTMLReportWithoutInfoLines(suiteLogEntity, logFolder);
+    }
+
+    static void removeInfoLines(ILogRecord logRecord) {
         List<ILogRecord> infoLogs = new ArrayList<ILogRecord>();
-        collectInfoLines(suiteLogEntity, infoLogs);
+        collectInfoLines(logRecord, infoLogs);
         for (ILogRecord infoLog : infoLogs) {
             infoLog.getParentLogRecord().removeChildRecord(infoLog);
         }
+    }
+
+    private static void writeSimpleHTMLReportWithoutInfoLines(TestSuiteLogRecord suiteLogEntity, File logFolder)
+            throws IOException, URISyntaxException {
         List<String> simpleStrings = new LinkedList<String>();
         JsSuiteModel simpleJsSuiteModel = new JsSuiteModel(suiteLogEntity, simpleStrings);
         StringBuilder simpleSbModel = simpleJsSuiteModel.toArrayString();
@@ -410,31 +555,38 @@ public class ReportUtil {
                 StringConstants.DF_CHARSET);
     }
 
+    /**
+     * Writes an HTML report that loads its test cases from a data file of the same folder.
+     * <p>
+     * Only the test suite part of the model is rendered, its string indexes follow the strings of the data file.
+     */
+    static void writeChunkedHtmlReport(TestSuiteLogRecord suiteLogEntity, int dataStringCount, File destFile,
+            String dataFileName) throws IOException, URISyntaxException {
+        JsStringChunk strings = new JsStringChunk(dataStringCount);
+        JsSuiteModel jsSuiteModel = new JsSuiteModel(suiteLogEntity, strings, Collections.<ILogRecord> emptyList());
+        StringBuilder sbModel = jsSuiteModel.toArrayString();
+        StringBuilder dataChunksSb = new StringBuilder();
+        readFileToStringBuilder(ResourceLoader.HTML_TEMPLATE_DATA_CHUNKS, dataChunksSb);
+        String dataChunks = StringUtils.replace(dataChunksSb.toString(), ResourceLoader.HTML_TEMPLATE_DATA_FILE_TOKEN,
+                dataFileName);
+        StringBuilder htmlSb = new StringBuilder();
+        readFileToStringBuilder(ResourceLoader.HTML_TEMPLATE_FILE, htmlSb);
+        htmlSb.append(generateVars(strings.getStrings(), suiteLogEntity, sbModel, dataChunks));
+        readFileToStringBuilder(ResourceLoader.HTML_TEMPLATE_CONTENT, htmlSb);
+        FileUtils.writeStringToFile(destFile, htmlSb.toString(), StringConstants.DF_CHARSET);
+    }
+
     public static void writeLogRecordToHTMLFile(TestSuiteLogRecord suiteLogEntity, File destFile,
             List<ILogRecord> filteredTestCases) throws IOException, URISyntaxException {
 
+        removeInfoLines(suiteLogEntity);
         List<String> strings = new LinkedList<String>();
-
-        JsSuiteModel jsSuiteModel = new JsSuiteModel(suiteLogEntity, strings);
+        JsSuiteModel jsSuiteModel = new JsSuiteModel(suiteLogEntity, strings, filteredTestCases);
         StringBuilder sbModel = jsSuiteModel.toArrayString();
-
         StringBuilder htmlSb = new StringBuilder();
         readFileToStringBuilder(ResourceLoader.HTML_TEMPLATE_FILE, htmlSb);
         htmlSb.append(generateVars(strings, suiteLogEntity, sbModel));
         readFileToStringBuilder(ResourceLoader.HTML_TEMPLATE_CONTENT, htmlSb);
-
-        List<ILogRecord> infoLogs = new ArrayList<ILogRecord>();
-        collectInfoLines(suiteLogEntity, infoLogs);
-        for (ILogRecord infoLog : infoLogs) {
-            infoLog.getParentLogRecord().removeChildRecord(infoLog);
-        }
-        strings = new LinkedList<String>();
-        jsSuiteModel = new JsSuiteModel(suiteLogEntity, strings, filteredTestCases);
-        sbModel = jsSuiteModel.toArrayString();
-        htmlSb = new StringBuilder();
-        readFileToStringBuilder(ResourceLoader.HTML_TEMPLATE_FILE, htmlSb);
-        htmlSb.append(generateVars(strings, suiteLogEntity, sbModel));
-        readFileToStringBuilder(ResourceLoader.HTML_TEMPLATE_CONTENT, htmlSb);
         FileUtils.writeStringToFile(destFile, htmlSb.toString(), StringConstants.DF_CHARSET);
     }
 
@@ -460,6 +612,17 @@ public class ReportUtil {
 
     private static void readFileToStringBuilder(String fileName, StringBuilder sb)
             throws IOException, URISyntaxException {
+        String template = templates.get(fileName);
+        if (template == null) {
+            StringBuilder templateSb = new StringBuilder();
+            loadTemplate(fileName, templateSb);
+            template = templateSb.toString();
+            templates.put(fileName, template);
+        }
+        sb.append(template);
+    }
+
+    private static void loadTemplate(String fileName, StringBuilder sb) throws IOException, URISyntaxException {
         String path = ResourceLoader.class.getProtectionDomain().getCodeSource().getLocation().getFile();
         path = URLDecoder.decode(path, "utf-8");
         File jarFile = new File(path);
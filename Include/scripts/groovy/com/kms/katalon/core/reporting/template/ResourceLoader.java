@@ -8,6 +8,8 @@ public class ResourceLoader {
 
     public static final String HTML_TEMPLATE_VARS = "html_vars.txt";
 
+    public static final String HTML_TEMPLATE_DATA_CHUNKS = "html_data_chunks.txt";
+
     public static final String HTML_COLLECTION_INDEX_TEMPLATE = "html_collection_index_template.txt";
 
     public static final String HTML_COLLECTION_FRAME_TEMPLATE = "html_collection_frame_template.txt";
@@ -16,5 +18,9 @@ public class ResourceLoader {
 
     public static final String HTML_TEMPLATE_STRINGS_CONSTANT_TOKEN = "//JavaScript Strings constant for Reporting";
 
+    public static final String HTML_TEMPLATE_DATA_CHUNKS_TOKEN = "//JavaScript Report data chunks";
+
+    public static final String HTML_TEMPLATE_DATA_FILE_TOKEN = "REPORT_DATA_FILE";
+
     public static final String HTML_TEMPLATE_EXEC_ENV_TOKEN = "//JavaScript Test Execution Environment Info";
 }
@@ -13,6 +13,8 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang.StringEscapeUtils;
 
@@ -37,68 +39,22 @@ public class PropertySettingStoreUtil {
 
     private static final String PROPERTY_NAME_REGEX = "^[a-zA-Z0-9\\.\\-_@\\*]+$";
 
-    public static void addNewProperty(String key, String value, File propertyFile) throws IOException {
-        FileInputStream fileInput = null;
-        FileOutputStream fileOutput = null;
-        try {
-            fileInput = new FileInputStream(propertyFile);
-            LinkedProperties properties = new LinkedProperties();
-            properties.load(new InputStreamReader(fileInput, Charset.forName(StringConstants.DF_CHARSET)));
-            fileInput.close();
-            fileInput = null;
+    // Parsed content of the property files, keyed by absolute path
+    private static final Map<String, PropertyFileSnapshot> snapshots = new ConcurrentHashMap<>();
 
-            properties.put(key, value);
-            fileOutput = new FileOutputStream(propertyFile);
-            properties.store(new OutputStreamWriter(fileOutput, Charset.forName(StringConstants.DF_CHARSET)), null);
-            fileOutput.close();
-            fileOutput = null;
-        } finally {
-            if (fileInput != null) {
-                fileInput.close();
-            }
+    // Guards writes and reloads of property files so that a snapshot never holds a partially written file
+    private static final Object FILE_LOCK = new Object();
 
-            if (fileOutput != null) {
-                fileOutput.close();
-            }
-        }
+    public static void addNewProperty(String key, String value, File propertyFile) throws IOException {
+        updateProperties(propertyFile, properties -> properties.put(key, value));
     }
 
     public static void clearAll(File propertyFile) throws IOException {
-        FileInputStream fileInput = null;
-        FileOutputStream fileOutput = null;
-        try {
-            fileInput = new FileInputStream(propertyFile);
-            Properties properties = new LinkedProperties();
-            properties.load(new InputStreamReader(fileInput, Charset.forName(StringConstants.DF_CHARSET)));
-            fileInput.close();
-            fileInput = null;
-
-            properties.clear();
-            fileOutput = new FileOutputStream(propertyFile);
-            properties.store(new OutputStreamWriter(fileOutput, Charset.forName(StringConstants.DF_CHARSET)), null);
-            fileOutput.close();
-            fileOutput = null;
-        } finally {
-            if (fileInput != null) {
-                fileInput.close();
-            }
-
-            if (fileOutput != null) {
-                fileOutput.close();
-            }
-        }
+        updateProperties(propertyFile, properties -> properties.clear());
     }
 
     public static void removeAll(Collection<String> keys, File propertyFile) throws IOException {
-        FileInputStream fileInput = null;
-        FileOutputStream fileOutput = null;
-        try {
-            fileInput = new FileInputStream(propertyFile);
-            LinkedProperties properties = new LinkedProperties();
-            properties.load(new InputStreamReader(fileInput, Charset.forName(StringConstants.DF_CHARSET)));
-            fileInput.close();
-            fileInput = null;
-
+        updateProperties(propertyFile, properties -> {
             Iterator<Object> orderedKeys = properties.orderedKeys().iterator();
             while (orderedKeys.hasNext()) {
                 Object propertyKey = orderedKeys.next();
@@ -108,60 +64,79 @@ public class PropertySettingStoreUtil {
                     properties.remove(propertyKey);
                 }
             }
-
-            fileOutput = new FileOutputStream(propertyFile);
-            properties.store(new OutputStreamWriter(fileOutput, Charset.forName(StringConstants.DF_CHARSET)), null);
-            fileOutput.close();
-            fileOutput = null;
-        } finally {
-            if (fileInput != null) {
-                fileInput.close();
-            }
-
-            if (fileOutput != null) {
-                fileOutput.close();
-            }
-        }
+        });
     }
 
     public static String getPropertyValue(String key, File propertyFile) throws IOException {
         if (!propertyFile.exists())
             return null;
 
-        FileInputStream fileInput = new FileInputStream(propertyFile);
-        try {
-            Properties properties = new LinkedProperties();
-            properties.load(new InputStreamReader(fileInput, Charset.forName(StringConstants.DF_CHARSET)));
-            return properties.getProperty(key);
-        } finally {
-            fileInput.close();
-        }
+        return getSnapshot(propertyFile).values.get(key);
     }
 
     public static Map<String, String> getPropertyValues(String parentKey, File propertyFile) throws IOException {
         if (!propertyFile.exists())
             return Collections.emptyMap();
 
-        FileInputStream fileInput = new FileInputStream(propertyFile);
-        try {
-            LinkedProperties properties = new LinkedProperties();
-            properties.load(new InputStreamReader(fileInput, Charset.forName(StringConstants.DF_CHARSET)));
-            Map<String, String> mapProperties = new LinkedHashMap<String, String>();
+        Map<String, String> mapProperties = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, String> entry : getSnapshot(propertyFile).values.entrySet()) {
+            String rawEntryKey = entry.getKey();
 
-            Iterator<Object> orderedKeys = properties.orderedKeys().iterator();
-            while (orderedKeys.hasNext()) {
-                Object propertyKey = orderedKeys.next();
-                String rawEntryKey = propertyKey.toString();
+            if (rawEntryKey.startsWith(parentKey + ".")) {
+                String entryKey = rawEntryKey.substring(parentKey.length() + 1);
+                mapProperties.put(entryKey, entry.getValue());
+            }
+        }
 
-                if (rawEntryKey.startsWith(parentKey + ".")) {
-                    String entryKey = rawEntryKey.substring(parentKey.length() + 1);
-                    String entryValue = properties.getProperty(rawEntryKey);
+        return mapProperties;
+    }
 
-                    mapProperties.put(entryKey, entryValue);
-                }
+    /**
+     * Discards the in-memory content of all property files. They are read again from disk on next access.
+     */
+    public static void clearCache() {
+        snapshots.clear();
+    }
+
+    private static PropertyFileSnapshot getSnapshot(File propertyFile) throws IOException {
+        String path = propertyFile.getAbsolutePath();
+        PropertyFileSnapshot snapshot = snapshots.get(path);
+        if (snapshot != null && snapshot.isUpToDate(propertyFile)) {
+            return snapshot;
+        }
+        synchronized (FILE_LOCK) {
+            snapshot = snapshots.get(path);
+            if (snapshot == null || !snapshot.isUpToDate(propertyFile)) {
+                long lastModified = propertyFile.lastModified();
+                long length = propertyFile.length();
+                snapshot = new PropertyFileSnapshot(lastModified, length, loadProperties(propertyFile));
+                snapshots.put(path, snapshot);
             }
+            return snapshot;
+        }
+    }
 
-            return mapProperties;
+    private static void updateProperties(File propertyFile, Consumer<LinkedProperties> update) throws IOException {
+        synchronized (FILE_LOCK) {
+            LinkedProperties properties = loadProperties(propertyFile);
+            update.accept(properties);
+            FileOutputStream fileOutput = new FileOutputStream(propertyFile);
+            try {
+                properties.store(new OutputStreamWriter(fileOutput, Charset.forName(StringConstants.DF_CHARSET)), null);
+            } finally {
+                fileOutput.close();
+            }
+            snapshots.put(propertyFile.getAbsolutePath(),
+                    new PropertyFileSnapshot(propertyFile.lastModified(), propertyFile.length(), properties));
+        }
+    }
+
+    private static LinkedProperties loadProperties(File propertyFile) throws IOException {
+        FileInputStream fileInput = new FileInputStream(propertyFile);
+        try {
+            LinkedProperties properties = new LinkedProperties();
+            properties.load(new InputStreamReader(fileInput, Charset.forName(StringConstants.DF_CHARSET)));
+            return properties;
         } finally {
             fileInput.close();
         }
@@ -251,6 +226,33 @@ public class PropertySettingStoreUtil {
             if (fos != null) {
                 fos.close();
             }
+            snapshots.remove(settingFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Immutable content of a property file, valid as long as the file keeps the same last modified time and length.
+     */
+    private static class PropertyFileSnapshot {
+        private final long lastModified;
+
+        private final long length;
+
+        private final Map<String, String> values;
+
+        private PropertyFileSnapshot(long lastModified, long length, LinkedProperties properties) {
+            this.lastModified = lastModified;
+            this.length = length;
+            Map<String, String> values = new LinkedHashMap<>();
+            for (Object propertyKey : properties.orderedKeys()) {
+                String key = propertyKey.toString();
+                values.put(key, properties.getProperty(key));
+            }
+            this.values = Collections.unmodifiableMap(values);
+        }
+
+        private boolean isUpToDate(File propertyFile) {
+            return propertyFile.lastModified() == lastModified && propertyFile.length() == length;
         }
     }
 }
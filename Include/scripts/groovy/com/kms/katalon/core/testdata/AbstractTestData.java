@@ -12,6 +12,7 @@ import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
 
 import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.logging.KeywordLogger;
 
 public abstract class AbstractTestData implements TestData {
 
@@ -68,10 +69,15 @@ public abstract class AbstractTestData implements TestData {
     protected void verifyColumnName(String columnName) throws IOException {
         boolean isPresent = false;
         String[] columnNames = getColumnNames();
-        for (String name : getColumnNames()) {
-            if (name != null && name.equals(columnName)) {
-                isPresent = true;
-                break;
+        ColumnarData columnarData = getColumnarData();
+        if (columnarData != null) {
+            isPresent = columnarData.getColumnIndex(columnName) >= 0;
+        } else {
+            for (String name : columnNames) {
+                if (name != null && name.equals(columnName)) {
+                    isPresent = true;
+                    break;
+                }
             }
         }
         if (!isPresent) {
@@ -141,6 +147,45 @@ public abstract class AbstractTestData implements TestData {
 
     protected abstract Object internallyGetValue(String columnName, int rowIndex) throws IOException;
 
+    /**
+     * Get the values of this test data when they are held in memory column by column
+     * 
+     * @return the columnar data, or null if the values are not held in a {@link ColumnarData}
+     * @throws IOException if any io errors happened
+     */
+    protected ColumnarData getColumnarData() throws IOException {
+        return null;
+    }
+
+    /**
+     * Create a {@link ColumnarData} for the values of this test data and log its memory footprint report when debug
+     * logging is enabled
+     * 
+     * @param columnNames names of the columns
+     * @param rows values of each row
+     * @return the columnar data
+     */
+    protected ColumnarData createColumnarData(List<String> columnNames, List<? extends List<?>> rows) {
+        ColumnarData columnarData = new ColumnarData(columnNames, rows);
+        // Building the report reads every value, it is only built when it is logged
+        KeywordLogger logger = KeywordLogger.getInstance(getClass());
+        if (logger.isDebugEnabled()) {
+            logger.logDebug(columnarData.getFootprintReport(getSourceUrl()));
+        }
+        return columnarData;
+    }
+
+    /**
+     * Get a report of the memory used by the values of this test data, column by column
+     * 
+     * @return the report, or null if the values of this test data are not held in memory column by column
+     * @throws IOException if any io errors happened
+     */
+    public String getMemoryFootprintReport() throws IOException {
+        ColumnarData columnarData = getColumnarData();
+        return columnarData != null ? columnarData.getFootprintReport(getSourceUrl()) : null;
+    }
+
     protected int getHeaderRowIdx() {
         return hasHeaders ? 1 : 0;
     }
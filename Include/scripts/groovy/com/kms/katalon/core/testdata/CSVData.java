@@ -1,38 +1,109 @@
 package com.kms.katalon.core.testdata;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.constants.CoreConstants;
+import com.kms.katalon.core.testdata.reader.CSVCursor;
+import com.kms.katalon.core.testdata.reader.CSVIndexedReader;
 import com.kms.katalon.core.testdata.reader.CSVReader;
 import com.kms.katalon.core.testdata.reader.CSVSeparator;
 
 public class CSVData extends AbstractTestData {
 
-    private CSVReader reader;
+    private ColumnarData columnarData;
+
+    private CSVIndexedReader indexedReader;
 
     private CSVSeparator separator;
 
+    private Boolean streaming;
+
     public CSVData(String sourceUrl, boolean containsHeader, CSVSeparator separator) throws IOException {
         super(sourceUrl, containsHeader);
         this.separator = separator;
     }
 
-    private CSVReader getReader() throws IOException {
-        if (reader == null) {
-            reader = new CSVReader(sourceUrl, separator, hasHeaders);
+    /**
+     * Get the values of this test data, or null in streaming mode. The file is read on the first call.
+     */
+    @Override
+    protected ColumnarData getColumnarData() throws IOException {
+        if (columnarData == null && !isStreaming()) {
+            CSVReader reader = new CSVReader(sourceUrl, separator, hasHeaders);
+            columnarData = createColumnarData(Arrays.asList(reader.getColumnNames()), reader.getData());
+        }
+        return columnarData;
+    }
+
+    private CSVIndexedReader getIndexedReader() throws IOException {
+        if (indexedReader == null) {
+            indexedReader = new CSVIndexedReader(sourceUrl, separator, hasHeaders);
+        }
+        return indexedReader;
+    }
+
+    /**
+     * Check if this test data is read in streaming mode. In streaming mode, the CSV file is indexed instead of being
+     * loaded in memory and rows are read from the file when they are needed.
+     * <p>
+     * Files larger than the <code>csvStreamingThreshold</code> execution setting, in bytes, are read in streaming mode.
+     * A negative threshold disables the streaming mode.
+     * 
+     * @return true if this test data is read in streaming mode
+     */
+    public boolean isStreaming() {
+        if (streaming == null) {
+            long threshold = getStreamingThreshold();
+            streaming = threshold >= 0 && new File(sourceUrl).length() > threshold;
+        }
+        return streaming;
+    }
+
+    private static long getStreamingThreshold() {
+        long threshold = CoreConstants.DEFAULT_CSV_STREAMING_THRESHOLD;
+        if (RunConfiguration.getExecutionProperties() != null) {
+            Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+            Object thresholdValue = generalProperties != null
+                    ? generalProperties.get(RunConfiguration.CSV_STREAMING_THRESHOLD) : null;
+            if (thresholdValue instanceof Number) {
+                threshold = ((Number) thresholdValue).longValue();
+            }
         }
-        return reader;
+        return threshold;
+    }
+
+    private int getColumnIndex(String columnName) throws IOException {
+        return isStreaming() ? getIndexedReader().getColumnIndex(columnName)
+                : getColumnarData().getColumnIndex(columnName);
     }
 
     @Override
     protected String internallyGetValue(String columnName, int rowIndex) throws IOException {
-        return getReader().getData().get(rowIndex).get(getReader().getColumnIndex(columnName));
+        return internallyGetValue(getColumnIndex(columnName), rowIndex);
     }
 
     @Override
     protected String internallyGetValue(int columnIndex, int rowIndex) throws IOException {
-        return getReader().getData().get(rowIndex).get(columnIndex);
+        return isStreaming() ? getIndexedReader().getRow(rowIndex).get(columnIndex)
+                : (String) getColumnarData().getValue(columnIndex, rowIndex);
+    }
+
+    /**
+     * Open a cursor that reads the rows of this test data one after the other. Unlike the other methods, the cursor
+     * neither loads nor indexes the file, so it is the cheapest way to go through all rows once. The cursor must be
+     * closed after use.
+     * 
+     * @return a new cursor positioned before the first row
+     * @throws IOException if any io errors happened
+     */
+    public CSVCursor openCursor() throws IOException {
+        return new CSVCursor(sourceUrl, separator, hasHeaders);
     }
 
     /**
@@ -54,8 +125,10 @@ public class CSVData extends AbstractTestData {
      */
     @Override
     public String[] getColumnNames() throws IOException {
-        if (getReader().getColumnNames() != null) {
-            return getReader().getColumnNames();
+        String[] columnNames = isStreaming() ? getIndexedReader().getColumnNames()
+                : getColumnarData().getColumnNames();
+        if (columnNames != null) {
+            return columnNames;
         } else {
             return new String[0];
         }
@@ -68,7 +141,7 @@ public class CSVData extends AbstractTestData {
      */
     @Override
     public int getRowNumbers() throws IOException {
-        return getReader().getData().size();
+        return isStreaming() ? getIndexedReader().getRowCount() : getColumnarData().getRowCount();
     }
 
     /**
@@ -91,29 +164,48 @@ public class CSVData extends AbstractTestData {
     @Override
     public void activeHeaders(boolean active) throws IOException {
         super.activeHeaders(active);
-        reader = null;
+        columnarData = null;
+        indexedReader = null;
     }
 
     /**
      * Collect all data of this csv data with type as String
+     * <p>
+     * Unless the data is read in streaming mode, the rows are copied from the values held column by column on each
+     * call, so changing the returned lists does not change this test data. Callers that read the rows many times should
+     * keep the returned list.
      * 
      * @return a {@link List} that contains all data of each rows, which each item is a {@link List} of String data from
      * each cell in that row
      * @throws IOException
      */
     public List<List<String>> getData() throws IOException {
-        return getReader().getData();
+        if (isStreaming()) {
+            return getIndexedReader().getData();
+        }
+        List<List<String>> data = new ArrayList<List<String>>(getColumnarData().getRowCount());
+        for (List<Object> row : getColumnarData().getRows()) {
+            List<String> values = new ArrayList<String>(row.size());
+            for (Object value : row) {
+                values.add((String) value);
+            }
+            data.add(values);
+        }
+        return data;
     }
 
     /**
      * Collect all data of this test data
      * 
      * @return a {@link List} that contains all data of each rows, which each item is a {@link List} of raw data from
-     * each cell in that row
+     * each cell in that row, copied on each call
      * @throws IOException if any io errors happened
      */
     @Override
     public List<List<Object>> getAllData() throws IOException {
+        if (!isStreaming()) {
+            return getColumnarData().getRows();
+        }
         List<List<Object>> data = new ArrayList<List<Object>>();
         for (List<String> row : getData()) {
             data.add(new ArrayList<Object>(row));
@@ -0,0 +1,481 @@
+package com.kms.katalon.core.testdata;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values of a test data held column by column instead of row by row.
+ * <p>
+ * Each column uses the most compact layout that returns exactly the values it was built with: integers and doubles
+ * are kept in primitive arrays, strings of low cardinality columns are dictionary encoded, and the other strings are
+ * interned so that equal values share one instance. Column indexes are looked up by name in a map.
+ */
+public class ColumnarData {
+
+    // Strings are dictionary encoded when a column has at most this number of distinct values...
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    // ...or at most this number of distinct values, whatever the number of rows
+    private static final int MAX_SMALL_DICTIONARY_SIZE = 1 << 8;
+
+    // Sizes used to estimate the memory footprint, for a 64-bit JVM with compressed references
+    private static final int REFERENCE_SIZE = 4;
+
+    private static final int OBJECT_HEADER_SIZE = 16;
+
+    private static final int ARRAY_HEADER_SIZE = 16;
+
+    private static final int BOXED_VALUE_SIZE = 16;
+
+    private static final int LIST_SIZE = 24;
+
+    private static final String FOOTPRINT_REPORT_HEADER = "Test data ''{0}'' holds {1} rows and {2} columns "
+            + "in about {3} bytes (about {4} bytes as lists of rows)";
+
+    private static final String FOOTPRINT_REPORT_COLUMN = "    column {0} ''{1}'': {2}, about {3} bytes";
+
+    private final String[] columnNames;
+
+    private final Map<String, Integer> columnIndexes;
+
+    private final int rowCount;
+
+    // Number of values of each row, null when all rows have a value for each column
+    private final int[] rowSizes;
+
+    private final Column[] columns;
+
+    /**
+     * Create a columnar data from rows of values
+     *
+     * @param columnNames names of the columns, can be null
+     * @param rows values of each row, rows can have different sizes
+     */
+    public ColumnarData(List<String> columnNames, List<? extends List<?>> rows) {
+        this.columnNames = columnNames != null ? columnNames.toArray(new String[columnNames.size()]) : new String[0];
+        columnIndexes = new HashMap<String, Integer>();
+        for (int i = 0; i < this.columnNames.length; i++) {
+            if (this.columnNames[i] != null && !columnIndexes.containsKey(this.columnNames[i])) {
+                columnIndexes.put(this.columnNames[i], i);
+            }
+        }
+
+        rowCount = rows.size();
+        int columnCount = 0;
+        int[] sizes = new int[rowCount];
+        boolean uniformRows = true;
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            List<?> row = rows.get(rowIndex);
+            sizes[rowIndex] = row != null ? row.size() : 0;
+            columnCount = Math.max(columnCount, sizes[rowIndex]);
+        }
+        for (int size : sizes) {
+            if (size != columnCount) {
+                uniformRows = false;
+                break;
+            }
+        }
+        rowSizes = uniformRows ? null : sizes;
+
+        columns = new Column[columnCount];
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            columns[columnIndex] = createColumn(rows, columnIndex);
+        }
+    }
+
+    private Column createColumn(List<? extends List<?>> rows, int columnIndex) {
+        Object[] values = new Object[rowCount];
+        boolean allStrings = true;
+        boolean allIntegers = true;
+        boolean allLongs = true;
+        boolean allDoubles = true;
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            Object value = columnIndex < getRowSize(rowIndex) ? rows.get(rowIndex).get(columnIndex) : null;
+            values[rowIndex] = value;
+            if (value == null) {
+                continue;
+            }
+            Class<?> valueClass = value.getClass();
+            allStrings &= valueClass == String.class;
+            allIntegers &= valueClass == Integer.class;
+            allLongs &= valueClass == Long.class;
+            allDoubles &= valueClass == Double.class;
+        }
+
+        if (allStrings) {
+            return createStringColumn(values);
+        }
+        if (allIntegers) {
+            return new IntColumn(values);
+        }
+        if (allLongs || allDoubles) {
+            return new LongColumn(values, allDoubles);
+        }
+        return new ObjectColumn(values);
+    }
+
+    private Column createStringColumn(Object[] values) {
+        // Index of each distinct value in the dictionary, null is always the first entry
+        Map<String, Integer> codes = new HashMap<String, Integer>();
+        List<String> dictionary = new ArrayList<String>();
+        dictionary.add(null);
+        String[] internedValues = new String[values.length];
+        for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+            String value = (String) values[rowIndex];
+            if (value == null) {
+                continue;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                codes.put(value, code);
+                dictionary.add(value);
+            }
+            internedValues[rowIndex] = dictionary.get(code);
+        }
+
+        int dictionarySize = dictionary.size();
+        if (dictionarySize <= MAX_SMALL_DICTIONARY_SIZE
+                || (dictionarySize <= MAX_DICTIONARY_SIZE && dictionarySize * 2 <= values.length)) {
+            return new DictionaryColumn(dictionary.toArray(new String[dictionarySize]), internedValues, codes);
+        }
+        return new StringColumn(internedValues);
+    }
+
+    /**
+     * @return names of the columns
+     */
+    public String[] getColumnNames() {
+        return columnNames.clone();
+    }
+
+    /**
+     * Get the index of a column
+     *
+     * @param columnName name of the column
+     * @return index of the first column with this name, starting from 0, or -1 if no column has this name
+     */
+    public int getColumnIndex(String columnName) {
+        Integer columnIndex = columnName != null ? columnIndexes.get(columnName) : null;
+        return columnIndex != null ? columnIndex : -1;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return number of values of the longest row
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * @param rowIndex index of the row, starting from 0
+     * @return number of values of the row
+     */
+    public int getRowSize(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount) {
+            throw new IndexOutOfBoundsException(
+                    MessageFormat.format("Row index: {0}, row count: {1}", rowIndex, rowCount));
+        }
+        return rowSizes != null ? rowSizes[rowIndex] : columns.length;
+    }
+
+    /**
+     * Get a value the same way as from a list of rows
+     *
+     * @param columnIndex index of the column, starting from 0
+     * @param rowIndex index of the row, starting from 0
+     * @return the value
+     * @throws IndexOutOfBoundsException if the row does not have a value at this column
+     */
+    public Object getValue(int columnIndex, int rowIndex) throws IndexOutOfBoundsException {
+        int rowSize = getRowSize(rowIndex);
+        if (columnIndex < 0 || columnIndex >= rowSize) {
+            throw new IndexOutOfBoundsException(
+                    MessageFormat.format("Column index: {0}, row size: {1}", columnIndex, rowSize));
+        }
+        return columns[columnIndex].get(rowIndex);
+    }
+
+    /**
+     * @param rowIndex index of the row, starting from 0
+     * @return a new list with the values of the row
+     */
+    public List<Object> getRow(int rowIndex) {
+        int rowSize = getRowSize(rowIndex);
+        List<Object> row = new ArrayList<Object>(rowSize);
+        for (int columnIndex = 0; columnIndex < rowSize; columnIndex++) {
+            row.add(columns[columnIndex].get(rowIndex));
+        }
+        return row;
+    }
+
+    /**
+     * Collect all rows, care should be taken when call this method since a list is created for each row
+     *
+     * @return new lists with the values of each row
+     */
+    public List<List<Object>> getRows() {
+        List<List<Object>> rows = new ArrayList<List<Object>>(rowCount);
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            rows.add(getRow(rowIndex));
+        }
+        return rows;
+    }
+
+    /**
+     * @return an estimate of the memory used by the values, in bytes
+     */
+    public long getMemoryFootprint() {
+        long footprint = rowSizes != null ? arraySize(rowCount, 4) : 0L;
+        for (Column column : columns) {
+            footprint += column.getFootprint();
+        }
+        return footprint;
+    }
+
+    /**
+     * @return an estimate of the memory the same values would use as lists of rows of boxed values, in bytes
+     */
+    private long getRowsFootprint() {
+        long footprint = LIST_SIZE + arraySize(rowCount, REFERENCE_SIZE);
+        Map<Object, Boolean> countedValues = new IdentityHashMap<Object, Boolean>();
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            int rowSize = getRowSize(rowIndex);
+            footprint += LIST_SIZE + arraySize(rowSize, REFERENCE_SIZE);
+            for (int columnIndex = 0; columnIndex < rowSize; columnIndex++) {
+                Object value = columns[columnIndex].get(rowIndex);
+                if (value != null && countedValues.put(value, Boolean.TRUE) == null) {
+                    footprint += valueSize(value);
+                }
+            }
+        }
+        return footprint;
+    }
+
+    /**
+     * Get a report of the memory used by the values, column by column
+     *
+     * @param sourceUrl url of the data source, used as the title of the report
+     * @return the report
+     */
+    public String getFootprintReport(String sourceUrl) {
+        StringBuilder report = new StringBuilder(MessageFormat.format(FOOTPRINT_REPORT_HEADER, sourceUrl, rowCount,
+                columns.length, getMemoryFootprint(), getRowsFootprint()));
+        for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+            Column column = columns[columnIndex];
+            String columnName = columnIndex < columnNames.length ? columnNames[columnIndex] : null;
+            report.append(System.lineSeparator())
+                    .append(MessageFormat.format(FOOTPRINT_REPORT_COLUMN, columnIndex + TestData.BASE_INDEX,
+                            columnName, column.getLayout(), column.getFootprint()));
+        }
+        return report.toString();
+    }
+
+    private static long arraySize(int length, int elementSize) {
+        return ARRAY_HEADER_SIZE + (long) length * elementSize;
+    }
+
+    private static long stringSize(String value) {
+        return OBJECT_HEADER_SIZE + REFERENCE_SIZE + 4 + arraySize(value.length(), 2);
+    }
+
+    private static long valueSize(Object value) {
+        return value instanceof String ? stringSize((String) value) : BOXED_VALUE_SIZE;
+    }
+
+    private static abstract class Column {
+        abstract Object get(int rowIndex);
+
+        abstract long getFootprint();
+
+        abstract String getLayout();
+    }
+
+    private static class DictionaryColumn extends Column {
+        private final String[] dictionary;
+
+        // Codes in the dictionary, as unsigned bytes or as chars depending on the size of the dictionary
+        private final byte[] byteCodes;
+
+        private final char[] charCodes;
+
+        private DictionaryColumn(String[] dictionary, String[] values, Map<String, Integer> codes) {
+            this.dictionary = dictionary;
+            boolean small = dictionary.length <= MAX_SMALL_DICTIONARY_SIZE;
+            byteCodes = small ? new byte[values.length] : null;
+            charCodes = small ? null : new char[values.length];
+            for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+                int code = values[rowIndex] != null ? codes.get(values[rowIndex]) : 0;
+                if (small) {
+                    byteCodes[rowIndex] = (byte) code;
+                } else {
+                    charCodes[rowIndex] = (char) code;
+                }
+            }
+        }
+
+        @Override
+        Object get(int rowIndex) {
+            return dictionary[byteCodes != null ? byteCodes[rowIndex] & 0xFF : charCodes[rowIndex]];
+        }
+
+        @Override
+        long getFootprint() {
+            long footprint = arraySize(dictionary.length, REFERENCE_SIZE);
+            for (String value : dictionary) {
+                footprint += value != null ? stringSize(value) : 0L;
+            }
+            return footprint + (byteCodes != null ? arraySize(byteCodes.length, 1) : arraySize(charCodes.length, 2));
+        }
+
+        @Override
+        String getLayout() {
+            return MessageFormat.format("strings in a dictionary of {0} values", dictionary.length - 1);
+        }
+    }
+
+    private static class StringColumn extends Column {
+        private final String[] values;
+
+        private StringColumn(String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int rowIndex) {
+            return values[rowIndex];
+        }
+
+        @Override
+        long getFootprint() {
+            long footprint = arraySize(values.length, REFERENCE_SIZE);
+            Map<String, Boolean> countedValues = new IdentityHashMap<String, Boolean>();
+            for (String value : values) {
+                if (value != null && countedValues.put(value, Boolean.TRUE) == null) {
+                    footprint += stringSize(value);
+                }
+            }
+            return footprint;
+        }
+
+        @Override
+        String getLayout() {
+            return "interned strings";
+        }
+    }
+
+    private static class IntColumn extends Column {
+        private final int[] values;
+
+        private final BitSet nulls = new BitSet();
+
+        private IntColumn(Object[] values) {
+            this.values = new int[values.length];
+            for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+                if (values[rowIndex] != null) {
+                    this.values[rowIndex] = (Integer) values[rowIndex];
+                } else {
+                    nulls.set(rowIndex);
+                }
+            }
+        }
+
+        @Override
+        Object get(int rowIndex) {
+            return nulls.get(rowIndex) ? null : Integer.valueOf(values[rowIndex]);
+        }
+
+        @Override
+        long getFootprint() {
+            return arraySize(values.length, 4) + nulls.size() / 8;
+        }
+
+        @Override
+        String getLayout() {
+            return "integers";
+        }
+    }
+
+    private static class LongColumn extends Column {
+        // Longs, or raw bits of doubles
+        private final long[] values;
+
+        private final boolean doubles;
+
+        private final BitSet nulls = new BitSet();
+
+        private LongColumn(Object[] values, boolean doubles) {
+            this.values = new long[values.length];
+            this.doubles = doubles;
+            for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+                if (values[rowIndex] == null) {
+                    nulls.set(rowIndex);
+                } else if (doubles) {
+                    this.values[rowIndex] = Double.doubleToRawLongBits((Double) values[rowIndex]);
+                } else {
+                    this.values[rowIndex] = (Long) values[rowIndex];
+                }
+            }
+        }
+
+        @Override
+        Object get(int rowIndex) {
+            if (nulls.get(rowIndex)) {
+                return null;
+            }
+            if (doubles) {
+                return Double.valueOf(Double.longBitsToDouble(values[rowIndex]));
+            }
+            return Long.valueOf(values[rowIndex]);
+        }
+
+        @Override
+        long getFootprint() {
+            return arraySize(values.length, 8) + nulls.size() / 8;
+        }
+
+        @Override
+        String getLayout() {
+            return doubles ? "doubles" : "longs";
+        }
+    }
+
+    private static class ObjectColumn extends Column {
+        private final Object[] values;
+
+        private ObjectColumn(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int rowIndex) {
+            return values[rowIndex];
+        }
+
+        @Override
+        long getFootprint() {
+            long footprint = arraySize(values.length, REFERENCE_SIZE);
+            Map<Object, Boolean> countedValues = new IdentityHashMap<Object, Boolean>();
+            for (Object value : values) {
+                if (value != null && countedValues.put(value, Boolean.TRUE) == null) {
+                    footprint += valueSize(value);
+                }
+            }
+            return footprint;
+        }
+
+        @Override
+        String getLayout() {
+            return "objects";
+        }
+    }
+}
@@ -1,22 +1,46 @@
 package com.kms.katalon.core.testdata;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.commons.dbutils.DbUtils;
+
+import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.constants.CoreConstants;
 import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.db.ConnectionPool;
 import com.kms.katalon.core.db.DatabaseConnection;
 import com.kms.katalon.core.db.ListObjectResultSetHandler;
 import com.kms.katalon.core.db.SqlRunner;
 
+/**
+ * Data from a database query.
+ * <p>
+ * By default, all rows are fetched when the data is created. In cursor mode, enabled by the <code>dbDataCursor</code>
+ * execution setting, rows are read from an open forward-only result set when they are requested, so the rows of a
+ * data-driven test suite, which are read in increasing order, are never all held in memory. Going back to a previous
+ * row runs the query again. Only {@link #getRowNumbers()}, {@link #getData()} and {@link #getAllData()} fetch all
+ * rows.
+ * <p>
+ * The open result set keeps its connection in use until {@link #closeCursor()} is called. Data found by
+ * {@link TestDataFactory#findTestData(String)} are closed when the test case that found them ends, or when the test
+ * suite ends for data found while binding the variables of its test cases.
+ * <p>
+ * The <code>dbDataFetchSize</code> execution setting is the number of rows the JDBC driver is asked to fetch at a time.
+ * Some drivers need more settings to stream rows, like <code>useCursorFetch=true</code> in the connection URL of MySQL.
+ */
 public class DBData extends AbstractTestData {
     private String query;
 
     private DatabaseConnection databaseConnection;
 
-    private List<List<Object>> fetchedData;
+    private ColumnarData fetchedData;
 
     private List<String> columnNames;
 
@@ -24,24 +48,183 @@ public class DBData extends AbstractTestData {
 
     private Date retrievedDate;
 
+    private final int fetchSize;
+
+    // Result set of the cursor mode, open until all rows are read
+    private SqlRunner cursorRunner;
+
+    private ResultSet cursor;
+
+    private int cursorRowIndex;
+
+    private List<Object> cursorRow;
+
+    // Number of rows of the query once the cursor has read all of them, -1 before
+    private int cursorRowCount = -1;
+
     public DBData(DatabaseConnection databaseConnection, String query) throws SQLException {
         super(databaseConnection.getConnectionUrl(), true);
         this.query = query;
         this.databaseConnection = databaseConnection;
         this.rsHandler = new ListObjectResultSetHandler();
-        this.fetchedData = fetchData();
+        this.fetchSize = getFetchSize();
+        if (isCursorModeEnabled()) {
+            openCursor();
+        } else {
+            fetchAllData();
+        }
         this.columnNames = rsHandler.getColumnNames();
     }
 
-    public List<List<Object>> getData() {
+    /**
+     * Check if the <code>dbDataCursor</code> execution setting enables the cursor mode
+     *
+     * @return true if new database data read their rows in cursor mode
+     */
+    public static boolean isCursorModeEnabled() {
+        if (RunConfiguration.getExecutionProperties() == null) {
+            return false;
+        }
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        return generalProperties != null
+                && Boolean.TRUE.equals(generalProperties.get(RunConfiguration.DB_DATA_CURSOR));
+    }
+
+    private static int getFetchSize() {
+        int fetchSize = CoreConstants.DEFAULT_DB_DATA_FETCH_SIZE;
+        if (RunConfiguration.getExecutionProperties() != null) {
+            Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+            Object fetchSizeValue = generalProperties != null
+                    ? generalProperties.get(RunConfiguration.DB_DATA_FETCH_SIZE) : null;
+            if (fetchSizeValue instanceof Number) {
+                fetchSize = Math.max(0, ((Number) fetchSizeValue).intValue());
+            }
+        }
+        return fetchSize;
+    }
+
+    /**
+     * Check if this data reads its rows from an open result set
+     *
+     * @return true if the data is in cursor mode and its result set is open
+     */
+    public boolean isCursorOpen() {
+        return cursor != null;
+    }
+
+    /**
+     * Close the result set of the cursor mode and give back its connection. Rows requested later run the query again.
+     */
+    public void closeCursor() {
+        DbUtils.closeQuietly(cursor);
+        cursor = null;
+        cursorRow = null;
+        if (cursorRunner != null) {
+            cursorRunner.close();
+            cursorRunner = null;
+        }
+    }
+
+    private void openCursor() throws SQLException {
+        closeCursor();
+        Connection connection = databaseConnection.getConnection();
+        // The connection stays in use as long as the cursor is open
+        ConnectionPool.excludeFromLeakDetection(connection);
+        SqlRunner sqlRunner;
+        try {
+            sqlRunner = new SqlRunner(connection, query);
+        } catch (SQLException e) {
+            DbUtils.closeQuietly(connection);
+            throw e;
+        }
+        ResultSet resultSet = null;
+        try {
+            sqlRunner.setFetchSize(fetchSize);
+            resultSet = sqlRunner.query();
+            rsHandler.handleColumns(resultSet);
+            cursor = resultSet;
+            cursorRunner = sqlRunner;
+            cursorRowIndex = -1;
+        } finally {
+            if (cursorRunner == null) {
+                DbUtils.closeQuietly(resultSet);
+                sqlRunner.close();
+            }
+            retrievedDate = new Date();
+        }
+    }
+
+    /**
+     * Move the cursor to a row, running the query again if the cursor is already past the row
+     *
+     * @param rowIndex index of the row, starting from 0
+     * @return true if the query has this row
+     */
+    private boolean moveCursorTo(int rowIndex) throws SQLException {
+        if (rowIndex < 0 || (cursorRowCount >= 0 && rowIndex >= cursorRowCount)) {
+            return false;
+        }
+        if (cursor == null || rowIndex < cursorRowIndex) {
+            openCursor();
+        }
+        while (cursorRowIndex < rowIndex) {
+            if (!cursor.next()) {
+                cursorRowCount = cursorRowIndex + 1;
+                closeCursor();
+                return false;
+            }
+            cursorRowIndex++;
+            cursorRow = null;
+        }
+        if (cursorRow == null) {
+            cursorRow = rsHandler.convertRow(cursor);
+        }
+        return true;
+    }
+
+    private List<Object> getCursorRow(int rowIndex) throws IOException {
+        try {
+            if (!moveCursorTo(rowIndex)) {
+                throw new IndexOutOfBoundsException(MessageFormat.format("Row index: {0}", rowIndex));
+            }
+            return cursorRow;
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * @return all rows, fetched from the database if this data is in cursor mode
+     */
+    private ColumnarData getFetchedData() {
+        if (fetchedData == null) {
+            closeCursor();
+            try {
+                fetchAllData();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
         return fetchedData;
     }
 
+    /**
+     * Collect all data of this database data, fetching all rows if this data is in cursor mode
+     * <p>
+     * The rows are copied from the values held column by column on each call, so changing the returned lists does not
+     * change this test data. Callers that read the rows many times should keep the returned list.
+     *
+     * @return a {@link List} that contains the values of each row
+     */
+    public List<List<Object>> getData() {
+        return getFetchedData().getRows();
+    }
+
     /**
      * Collect all data of this test data
-     * 
+     *
      * @return a {@link List} that contains all data of each rows, which each item is a {@link List} of raw data from
-     * each cell in that row
+     * each cell in that row, copied on each call
      * @throws IOException if any io errors happened
      */
     @Override
@@ -55,7 +238,7 @@ public class DBData extends AbstractTestData {
 
     /**
      * Get the type of the test data
-     * 
+     *
      * @see TestDataType
      * @return type of test data
      */
@@ -66,7 +249,7 @@ public class DBData extends AbstractTestData {
 
     /**
      * Get all column names of the test data
-     * 
+     *
      * @return an array that contains names of all columns
      * @throws IOException if any io errors happened
      */
@@ -77,17 +260,17 @@ public class DBData extends AbstractTestData {
 
     /**
      * Get total rows of the test data
-     * 
+     *
      * @return total rows of the test data
      */
     @Override
     public int getRowNumbers() {
-        return fetchedData.size();
+        return getFetchedData().getRowCount();
     }
 
     /**
      * Get total column of the test data
-     * 
+     *
      * @return total columns of the test data
      * @throws IOException if any io errors happened
      */
@@ -97,30 +280,72 @@ public class DBData extends AbstractTestData {
     }
 
     @Override
-    protected Object internallyGetValue(int columnIndex, int rowIndex) throws IndexOutOfBoundsException {
-        return fetchedData.get(rowIndex).get(columnIndex);
+    protected Object internallyGetValue(int columnIndex, int rowIndex) throws IOException {
+        if (fetchedData != null) {
+            return fetchedData.getValue(columnIndex, rowIndex);
+        }
+        return getCursorRow(rowIndex).get(columnIndex);
+    }
+
+    @Override
+    protected Object internallyGetValue(String columnName, int rowIndex) throws IOException {
+        return internallyGetValue(getColumnIndex(columnName), rowIndex);
+    }
+
+    private int getColumnIndex(String columnName) {
+        return fetchedData != null ? fetchedData.getColumnIndex(columnName) : columnNames.indexOf(columnName);
     }
 
     @Override
-    protected Object internallyGetValue(String columnName, int rowIndex) throws IndexOutOfBoundsException {
-        return internallyGetValue(columnNames.indexOf(columnName), rowIndex);
+    protected ColumnarData getColumnarData() {
+        return fetchedData;
+    }
+
+    @Override
+    protected void verifyRowIndex(int rowIndex) throws IOException {
+        if (fetchedData != null) {
+            super.verifyRowIndex(rowIndex);
+            return;
+        }
+
+        // Counting the rows would read all of them, the cursor is moved to the row instead
+        boolean isPresent;
+        try {
+            isPresent = moveCursorTo(rowIndex - BASE_INDEX);
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        if (!isPresent) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    StringConstants.TD_ROW_INDEX_X_FOR_TEST_DATA_Y_INVALID, rowIndex, getSourceUrl(),
+                    cursorRowCount >= 0 ? cursorRowCount : cursorRowIndex + 1));
+        }
     }
 
     @Override
     protected void verifyColumnName(String columnName) throws IOException {
-        if (columnNames.indexOf(columnName) == -1) {
+        if (getColumnIndex(columnName) == -1) {
             throw new IllegalArgumentException(
                     MessageFormat.format(StringConstants.TD_COLUMN_NAME_X_FOR_TEST_DATA_Y_INVALID, columnName,
                             getSourceUrl(), columnNames.toString()));
         }
     }
 
+    private void fetchAllData() throws SQLException {
+        List<List<Object>> rows = fetchData();
+        fetchedData = createColumnarData(rsHandler.getColumnNames(), rows);
+    }
+
     private List<List<Object>> fetchData() throws SQLException {
         SqlRunner sqlRunner = null;
+        ResultSet resultSet = null;
         try {
             sqlRunner = new SqlRunner(databaseConnection, query);
-            return sqlRunner.query(rsHandler);
+            sqlRunner.setFetchSize(fetchSize);
+            resultSet = sqlRunner.query();
+            return rsHandler.handle(resultSet);
         } finally {
+            DbUtils.closeQuietly(resultSet);
             if (sqlRunner != null) {
                 sqlRunner.close();
             }
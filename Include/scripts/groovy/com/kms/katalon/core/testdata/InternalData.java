@@ -7,34 +7,33 @@ import java.util.List;
 
 public class InternalData extends AbstractTestData {
 
-    private List<String[]> data;
+    private ColumnarData columnarData;
 
     private List<String> columnNames;
 
     public InternalData(String fileSource, List<String[]> data, List<String> columnNames) {
         super(fileSource, true);
-        this.data = data;
+        List<List<String>> rows = new ArrayList<List<String>>(data.size());
+        for (String[] row : data) {
+            rows.add(Arrays.asList(row));
+        }
+        this.columnarData = createColumnarData(columnNames, rows);
         this.columnNames = columnNames;
     }
 
     @Override
     public String internallyGetValue(String columnName, int rowIndex) throws IOException {
-        return data.get(rowIndex)[getColumnIndex(columnName)];
+        return internallyGetValue(columnarData.getColumnIndex(columnName), rowIndex);
     }
 
     @Override
     public String internallyGetValue(int columnIndex, int rowIndex) throws IOException {
-        return data.get(rowIndex)[columnIndex];
+        return (String) columnarData.getValue(columnIndex, rowIndex);
     }
 
-    private int getColumnIndex(String columnName) {
-        String[] columnNames = getColumnNames();
-        for (int i = 0; i < columnNames.length; i++) {
-            if (columnNames[i].equals(columnName)) {
-                return i;
-            }
-        }
-        return -1;
+    @Override
+    protected ColumnarData getColumnarData() {
+        return columnarData;
     }
 
     /**
@@ -66,7 +65,7 @@ public class InternalData extends AbstractTestData {
      */
     @Override
     public int getRowNumbers() {
-        return data.size();
+        return columnarData.getRowCount();
     }
 
     /**
@@ -80,7 +79,19 @@ public class InternalData extends AbstractTestData {
         return columnNames.size();
     }
 
+    /**
+     * Collect all data of this internal data with type as String
+     * <p>
+     * The rows are copied from the values held column by column on each call, so changing the returned lists does not
+     * change this test data. Callers that read the rows many times should keep the returned list.
+     *
+     * @return a {@link List} that contains the values of each row
+     */
     public List<String[]> getData() {
+        List<String[]> data = new ArrayList<String[]>(columnarData.getRowCount());
+        for (List<Object> row : columnarData.getRows()) {
+            data.add(row.toArray(new String[row.size()]));
+        }
         return data;
     }
 
@@ -88,16 +99,12 @@ public class InternalData extends AbstractTestData {
      * Collect all data of this test data
      * 
      * @return a {@link List} that contains all data of each rows, which each item is a {@link List} of raw data from
-     * each cell in that row
+     * each cell in that row, copied on each call
      * @throws IOException if any io errors happened
      */
     @Override
     public List<List<Object>> getAllData() {
-        List<List<Object>> data = new ArrayList<List<Object>>();
-        for (String[] row : getData()) {
-            data.add(new ArrayList<Object>(Arrays.asList(row)));
-        }
-        return data;
+        return columnarData.getRows();
     }
 
 }
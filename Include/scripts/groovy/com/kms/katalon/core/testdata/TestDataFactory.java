@@ -14,6 +14,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.dom4j.Document;
@@ -76,6 +77,15 @@ public class TestDataFactory {
     
     private static final String PROPERTIES = "properties";
 
+    // Database data in cursor mode by data file, found during the current test case
+    private static final Map<String, DBData> testCaseDBDataCursors = new ConcurrentHashMap<>();
+
+    // Database data in cursor mode by data file, found while binding the variables of the test cases of a test suite.
+    // The test cases are bound in order, so the rows of consecutive bindings are read from the same result set.
+    private static final Map<String, DBData> bindingDBDataCursors = new ConcurrentHashMap<>();
+
+    private static volatile boolean bindingTestData;
+
     /**
      * Returns test data id of a its relative id.
      * 
@@ -138,6 +148,11 @@ public class TestDataFactory {
     private static TestData internallyfindTestData(String projectDir, String testDataId) throws Exception {
         logger.logDebug(MessageFormat.format(StringConstants.XML_LOG_TEST_DATA_FINDING_TEST_DATA_WITH_ID_X, testDataId));
         File dataFile = new File(projectDir, testDataId + TEST_DATA_FILE_EXTENSION);
+        Map<String, DBData> dbDataCursors = bindingTestData ? bindingDBDataCursors : testCaseDBDataCursors;
+        DBData dbDataCursor = dbDataCursors.get(dataFile.getAbsolutePath());
+        if (dbDataCursor != null) {
+            return dbDataCursor;
+        }
         if (dataFile.exists()) {
             SAXReader reader = SAXReaderProvider.newInstance();
             Document document = reader.read(dataFile);
@@ -160,6 +175,9 @@ public class TestDataFactory {
                 case DB_DATA:
                     logger.logDebug(StringConstants.XML_LOG_TEST_DATA_READING_DB_DATA);
                     testData = readDBData(testDataElement, projectDir);
+                    if (DBData.isCursorModeEnabled()) {
+                        dbDataCursors.put(dataFile.getAbsolutePath(), (DBData) testData);
+                    }
                     break;
                 default:
                     testData = null;
@@ -173,6 +191,47 @@ public class TestDataFactory {
                 testDataId));
     }
 
+    /**
+     * Keep the database data found in cursor mode until {@link #closeDBDataCursors()} is called, while the variables
+     * of the test cases of a test suite are bound
+     */
+    public static void beginTestDataBinding() {
+        bindingTestData = true;
+    }
+
+    /**
+     * Stop binding the variables of a test case, the database data found in cursor mode while binding are kept for the
+     * next test case
+     */
+    public static void endTestDataBinding() {
+        bindingTestData = false;
+    }
+
+    /**
+     * Close the result sets of the database data found in cursor mode during the current test case, the next calls of
+     * {@link #findTestData(String)} run their query again
+     */
+    public static void closeTestCaseDBDataCursors() {
+        closeDBDataCursors(testCaseDBDataCursors);
+    }
+
+    /**
+     * Close the result sets of all database data found in cursor mode, the next calls of
+     * {@link #findTestData(String)} run their query again
+     */
+    public static void closeDBDataCursors() {
+        closeDBDataCursors(testCaseDBDataCursors);
+        closeDBDataCursors(bindingDBDataCursors);
+    }
+
+    private static void closeDBDataCursors(Map<String, DBData> dbDataCursors) {
+        Iterator<DBData> iterator = dbDataCursors.values().iterator();
+        while (iterator.hasNext()) {
+            iterator.next().closeCursor();
+            iterator.remove();
+        }
+    }
+
     private static void getPropertiesForTestData(TestData testData, Element testDataElement) {
         List<?> propertiesElement = testDataElement.elements(PROPERTIES);
         if (propertiesElement == null || propertiesElement.size() == 0) {
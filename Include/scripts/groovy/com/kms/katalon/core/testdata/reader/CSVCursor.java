@@ -0,0 +1,53 @@
+package com.kms.katalon.core.testdata.reader;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.supercsv.io.CsvListReader;
+import org.supercsv.io.ICsvListReader;
+
+/**
+ * Reads the rows of a CSV file one after the other, from the first to the last one. Only the current row is held in
+ * memory and the file is not indexed, which makes it the cheapest way to go through a whole CSV file once.
+ */
+public class CSVCursor implements Closeable {
+    private ICsvListReader listReader;
+
+    private String[] columnNames;
+
+    public CSVCursor(String sourceUrl, CSVSeparator separator, boolean containHeader) throws IOException {
+        listReader = new CsvListReader(new FileReader(new File(sourceUrl)), CSVReader.getPreference(separator));
+        try {
+            if (containHeader) {
+                columnNames = listReader.getHeader(containHeader);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return names of the columns, or <code>null</code> if the file has no header
+     */
+    public String[] getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * @return values of the next row, or <code>null</code> if there are no more rows
+     * @throws IOException if any io errors happened
+     */
+    public List<String> next() throws IOException {
+        return listReader.read();
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(listReader);
+    }
+}
@@ -0,0 +1,216 @@
+package com.kms.katalon.core.testdata.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.supercsv.io.CsvListReader;
+import org.supercsv.io.ICsvListReader;
+import org.supercsv.prefs.CsvPreference;
+
+/**
+ * Reads a CSV file without loading it in memory. The file is memory mapped and scanned once to find the offset of
+ * each row, then a row is decoded only when it is requested. The most recently decoded rows are kept.
+ * <p>
+ * Rows are decoded by SuperCSV with the same preference as {@link CSVReader}, so both readers return the same values.
+ * The file must use an encoding in which line feeds and double quotes are single ASCII bytes, which is the case of the
+ * default encodings of the supported platforms.
+ */
+public class CSVIndexedReader {
+
+    private static final int MAX_CACHED_ROWS = 256;
+
+    // Size of each mapped region, a single buffer cannot map more than 2 GB
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private static final int INITIAL_ROW_CAPACITY = 1024;
+
+    private static final byte QUOTE = '"';
+
+    private static final byte LINE_FEED = '\n';
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final CsvPreference preference;
+
+    private final Charset charset = Charset.defaultCharset();
+
+    private final long fileLength;
+
+    private final MappedByteBuffer[] segments;
+
+    // Start offset of each non empty row, the header row included
+    private long[] rowOffsets = new long[INITIAL_ROW_CAPACITY];
+
+    private int rowOffsetCount;
+
+    private final boolean containsHeader;
+
+    private String[] columnNames;
+
+    private final Map<Integer, List<String>> cachedRows = Collections
+            .synchronizedMap(new LinkedHashMap<Integer, List<String>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<String>> eldest) {
+                    return size() > MAX_CACHED_ROWS;
+                }
+            });
+
+    public CSVIndexedReader(String sourceUrl, CSVSeparator separator, boolean containHeader) throws IOException {
+        this.preference = CSVReader.getPreference(separator);
+        this.containsHeader = containHeader;
+        try (RandomAccessFile file = new RandomAccessFile(new File(sourceUrl), "r");
+                FileChannel channel = file.getChannel()) {
+            fileLength = channel.size();
+            int segmentCount = (int) ((fileLength + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(SEGMENT_SIZE, fileLength - position));
+            }
+        }
+        indexRows();
+        if (containHeader && rowOffsetCount > 0) {
+            List<String> header = decodeRow(0);
+            columnNames = header.toArray(new String[header.size()]);
+        }
+    }
+
+    /**
+     * Finds the start of every row in a single pass. Lines end like in a {@link java.io.LineNumberReader}, a line end
+     * inside a quoted value does not end a row, and empty lines are skipped like {@link CsvListReader} does.
+     */
+    private void indexRows() {
+        boolean quoted = false;
+        boolean lineEmpty = true;
+        long lineStart = 0L;
+        for (long position = 0L; position < fileLength; position++) {
+            byte b = getByte(position);
+            if (b == QUOTE) {
+                quoted = !quoted;
+            } else if ((b == LINE_FEED || b == CARRIAGE_RETURN) && !quoted) {
+                if (b == CARRIAGE_RETURN && position + 1 < fileLength && getByte(position + 1) == LINE_FEED) {
+                    position++;
+                }
+                if (!lineEmpty) {
+                    addRowOffset(lineStart);
+                }
+                lineStart = position + 1;
+                lineEmpty = true;
+                continue;
+            }
+            lineEmpty = false;
+        }
+        if (!lineEmpty) {
+            addRowOffset(lineStart);
+        }
+    }
+
+    private void addRowOffset(long offset) {
+        if (rowOffsetCount == rowOffsets.length) {
+            rowOffsets = Arrays.copyOf(rowOffsets, rowOffsets.length * 2);
+        }
+        rowOffsets[rowOffsetCount++] = offset;
+    }
+
+    private byte getByte(long position) {
+        return segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+    }
+
+    private List<String> decodeRow(int rowOffsetIndex) throws IOException {
+        long start = rowOffsets[rowOffsetIndex];
+        long end = rowOffsetIndex + 1 < rowOffsetCount ? rowOffsets[rowOffsetIndex + 1] : fileLength;
+        byte[] bytes = new byte[(int) (end - start)];
+        int copied = 0;
+        while (copied < bytes.length) {
+            long position = start + copied;
+            // Duplicates do not share their position, rows can be decoded concurrently
+            ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)].duplicate();
+            segment.position((int) (position % SEGMENT_SIZE));
+            int length = Math.min(segment.remaining(), bytes.length - copied);
+            segment.get(bytes, copied, length);
+            copied += length;
+        }
+        ICsvListReader rowReader = new CsvListReader(new StringReader(new String(bytes, charset)), preference);
+        try {
+            List<String> row = rowReader.read();
+            return row != null ? row : new ArrayList<String>();
+        } finally {
+            IOUtils.closeQuietly(rowReader);
+        }
+    }
+
+    private int getFirstDataRow() {
+        return containsHeader && rowOffsetCount > 0 ? 1 : 0;
+    }
+
+    /**
+     * @param rowIndex index of a data row, starting from 0, the header row is not counted
+     * @return values of the row
+     */
+    public List<String> getRow(int rowIndex) throws IOException {
+        List<String> row = cachedRows.get(rowIndex);
+        if (row == null) {
+            row = decodeRow(getFirstDataRow() + rowIndex);
+            cachedRows.put(rowIndex, row);
+        }
+        return row;
+    }
+
+    public int getRowCount() {
+        return rowOffsetCount - getFirstDataRow();
+    }
+
+    /**
+     * Get all available data, care should be taken when call this method since all rows are decoded
+     *
+     * @return
+     */
+    public List<List<String>> getData() throws IOException {
+        List<List<String>> data = new ArrayList<List<String>>(getRowCount());
+        for (int rowIndex = 0; rowIndex < getRowCount(); rowIndex++) {
+            data.add(getRow(rowIndex));
+        }
+        return data;
+    }
+
+    public String[] getColumnNames() throws IOException {
+        if (columnNames == null) {
+            columnNames = new String[getColumnCount()];
+        }
+        return columnNames;
+    }
+
+    public int getColumnIndex(String columnName) throws IOException {
+        if (columnName != null && !columnName.isEmpty()) {
+            for (int i = 0; i < getColumnNames().length; i++) {
+                if (columnNames[i] != null && getColumnNames()[i].equals(columnName)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public int getColumnCount() throws IOException {
+        if (containsHeader) {
+            return columnNames != null ? columnNames.length : 0;
+        }
+        return getRowCount() > 0 ? getRow(0).size() : 0;
+    }
+}
@@ -21,17 +21,7 @@ public class CSVReader {
         try {
             this.containsHeader = containHeader;
             FileReader reader = new FileReader(new File(sourceUrl));
-            switch (separator) {
-            case COMMA:
-                listReader = new CsvListReader(reader, CsvPreference.STANDARD_PREFERENCE);
-                break;
-            case SEMICOLON:
-                listReader = new CsvListReader(reader, CsvPreference.EXCEL_NORTH_EUROPE_PREFERENCE);
-                break;
-            case TAB:
-                listReader = new CsvListReader(reader, CsvPreference.TAB_PREFERENCE);
-                break;
-            }
+            listReader = new CsvListReader(reader, getPreference(separator));
             if (containHeader) {
                 columnNames = listReader.getHeader(containHeader);
             }
@@ -45,6 +35,18 @@ public class CSVReader {
         }
     }
 
+    static CsvPreference getPreference(CSVSeparator separator) {
+        switch (separator) {
+        case SEMICOLON:
+            return CsvPreference.EXCEL_NORTH_EUROPE_PREFERENCE;
+        case TAB:
+            return CsvPreference.TAB_PREFERENCE;
+        case COMMA:
+        default:
+            return CsvPreference.STANDARD_PREFERENCE;
+        }
+    }
+
     public String[] getColumnNames() throws IOException {
         if (columnNames == null) {
             columnNames = new String[getColumnCount()];
@@ -83,30 +83,46 @@ public class CsvWriter {
             // Test Suite
             String browser = suiteLog.getBrowser();
 
-            csvWriter.writeHeader(DETAILS_HEADER);
-
-            writeRecord(csvWriter, suiteLog, browser);
+            writeTestSuite(csvWriter, suiteLog);
 
             // Test cases
             for (ILogRecord testLog : filteredTestCaseRecords) {
-                // Blank line
-                csvWriter.write(Arrays.asList(new Object[] { "", "", "", "", "", "", "", "" }), DETAILS_PROCESSORS);
-                // Write test case line
-                writeRecord(csvWriter, testLog, browser);
-
-                // Test steps
-                if (!stepsIncluded) {
-                    continue;
-                }
-                for (ILogRecord step : testLog.getChildRecords()) {
-                    writeRecord(csvWriter, step, browser);
-                }
+                writeTestCase(csvWriter, testLog, browser, stepsIncluded);
             }
         } finally {
             IOUtils.closeQuietly(csvWriter);
         }
     }
 
+    /**
+     * Writes the header and the test suite line of the CSV report of a test suite.
+     */
+    public static void writeTestSuite(ICsvListWriter csvWriter, TestSuiteLogRecord suiteLog) throws IOException {
+        csvWriter.writeHeader(DETAILS_HEADER);
+
+        writeRecord(csvWriter, suiteLog, suiteLog.getBrowser());
+    }
+
+    /**
+     * Writes the lines of a test case and, if <code>stepsIncluded</code>, of its steps, as they appear in the CSV
+     * report of a test suite.
+     */
+    public static void writeTestCase(ICsvListWriter csvWriter, ILogRecord testLog, String browser,
+            boolean stepsIncluded) throws IOException {
+        // Blank line
+        csvWriter.write(Arrays.asList(new Object[] { "", "", "", "", "", "", "", "" }), DETAILS_PROCESSORS);
+        // Write test case line
+        writeRecord(csvWriter, testLog, browser);
+
+        // Test steps
+        if (!stepsIncluded) {
+            return;
+        }
+        for (ILogRecord step : testLog.getChildRecords()) {
+            writeRecord(csvWriter, step, browser);
+        }
+    }
+
     private static void writeRecord(ICsvListWriter csvWriter, ILogRecord logRecord, String browserName)
             throws IOException {
         String tag = "";
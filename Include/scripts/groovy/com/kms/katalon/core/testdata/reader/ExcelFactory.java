@@ -10,7 +10,8 @@ import com.kms.katalon.core.testdata.ExcelData;
 
 public class ExcelFactory {
 
-    private static ExcelProvider[] providers = new ExcelProvider[] { new WorbookProvider(), new HTMLTableProvider() };
+    private static ExcelProvider[] providers = new ExcelProvider[] { new XlsxStreamingProvider(), new WorbookProvider(),
+            new HTMLTableProvider() };
 
     public static ExcelData getExcelDataWithDefaultSheet(String fullFilePath, String sheetName, boolean hasHeaders)
             throws IOException {
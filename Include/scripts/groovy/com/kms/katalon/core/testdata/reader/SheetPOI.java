@@ -371,7 +371,7 @@ public class SheetPOI extends ExcelData {
         }
     }
 
-    private static String getFormatString(String rawFormatString) {
+    static String getFormatString(String rawFormatString) {
         if (rawFormatString == null || rawFormatString.isEmpty()) {
             return rawFormatString;
         }
@@ -0,0 +1,46 @@
+package com.kms.katalon.core.testdata.reader;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Map;
+
+import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.constants.CoreConstants;
+import com.kms.katalon.core.testdata.ExcelData;
+
+/**
+ * Provides {@link XlsxStreamingSheet} for Excel 2007+ files larger than the <code>excelStreamingThreshold</code>
+ * execution setting, in bytes. Smaller files, and files that are not Excel 2007+ files, are left to the other
+ * providers.
+ * <p>
+ * The streaming sheet returns the formula values cached in the file instead of evaluating the formulas, so this
+ * provider is disabled unless the setting is set to zero or more.
+ */
+public class XlsxStreamingProvider implements ExcelProvider {
+    @Override
+    public ExcelData getExcelData(String sourceUrl, boolean hasHeaders) throws Exception {
+        File excelFile = new File(sourceUrl);
+        if (!excelFile.exists()) {
+            throw new FileNotFoundException(excelFile.toString());
+        }
+
+        long threshold = getStreamingThreshold();
+        if (threshold < 0 || excelFile.length() <= threshold) {
+            return null;
+        }
+        return new XlsxStreamingSheet(sourceUrl, hasHeaders);
+    }
+
+    private static long getStreamingThreshold() {
+        long threshold = CoreConstants.DEFAULT_EXCEL_STREAMING_THRESHOLD;
+        if (RunConfiguration.getExecutionProperties() != null) {
+            Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+            Object thresholdValue = generalProperties != null
+                    ? generalProperties.get(RunConfiguration.EXCEL_STREAMING_THRESHOLD) : null;
+            if (thresholdValue instanceof Number) {
+                threshold = ((Number) thresholdValue).longValue();
+            }
+        }
+        return threshold;
+    }
+}
@@ -0,0 +1,536 @@
+package com.kms.katalon.core.testdata.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+
+import com.kms.katalon.core.constants.StringConstants;
+import com.kms.katalon.core.testdata.ExcelData;
+import com.kms.katalon.util.XmlInputFactoryProvider;
+
+/**
+ * Excel 2007+ data read with {@link XSSFReader} instead of a POI workbook. The selected sheet is streamed once and its
+ * cells are kept in a compact columnar store: for each column, a type and a 64-bit value per row. Strings are stored
+ * as indexes in the shared strings table, or in a pool of the other distinct strings of the sheet.
+ * <p>
+ * Formulas are not evaluated, the values cached in the file are used and a formula without a cached value reads as an
+ * empty string. Otherwise this data returns the same values as {@link SheetPOI}.
+ */
+public class XlsxStreamingSheet extends ExcelData {
+    private static final int COLUMN_HEADER_ROW_NUMBER = 0;
+
+    private static final String READ_AS_STRING_PROPERTY = "readAsString";
+
+    private static final String ROW_ELEMENT = "row";
+
+    private static final String CELL_ELEMENT = "c";
+
+    private static final String VALUE_ELEMENT = "v";
+
+    private static final String FORMULA_ELEMENT = "f";
+
+    private static final String INLINE_STRING_ELEMENT = "is";
+
+    private static final String TEXT_ELEMENT = "t";
+
+    private static final String MERGE_CELL_ELEMENT = "mergeCell";
+
+    private static final String REFERENCE_ATTRIBUTE = "r";
+
+    private static final String TYPE_ATTRIBUTE = "t";
+
+    private static final String STYLE_ATTRIBUTE = "s";
+
+    private static final String MERGE_REFERENCE_ATTRIBUTE = "ref";
+
+    private final ReadOnlySharedStringsTable sharedStrings;
+
+    // Data format of each cell style
+    private final String[] styleFormats;
+
+    private final String[] sheetNames;
+
+    private final DataFormatter formatter = new DataFormatter(Locale.getDefault());
+
+    private String sheetName;
+
+    private SheetStore store;
+
+    private String[] columnNames;
+
+    public XlsxStreamingSheet(String sourceUrl, boolean hasHeaders) throws Exception {
+        super(sourceUrl, hasHeaders);
+        OPCPackage pkg = OPCPackage.open(new File(sourceUrl), PackageAccess.READ);
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            sharedStrings = new ReadOnlySharedStringsTable(pkg);
+
+            StylesTable styles = reader.getStylesTable();
+            int styleCount = styles != null ? styles.getNumCellStyles() : 0;
+            styleFormats = new String[styleCount];
+            for (int i = 0; i < styleCount; i++) {
+                styleFormats[i] = styles.getStyleAt(i).getDataFormatString();
+            }
+
+            List<String> names = new ArrayList<String>();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+            sheetNames = names.toArray(new String[names.size()]);
+        } finally {
+            // Closing a read-only package would try to save it
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Get the sheet name of this excel data
+     *
+     * @return the sheet name
+     */
+    @Override
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * Get all sheet names of the parent excel file
+     *
+     * @return an array contains all the sheet name
+     */
+    @Override
+    public String[] getSheetNames() {
+        return sheetNames.clone();
+    }
+
+    /**
+     * Change this excel data to use another sheet with the specify sheet name
+     *
+     * @param sheetName the new sheet name
+     */
+    @Override
+    public void changeSheet(String sheetName) {
+        this.sheetName = sheetName;
+        columnNames = null;
+        store = null;
+        try {
+            store = readSheet(sheetName);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private SheetStore readSheet(String name) throws Exception {
+        OPCPackage pkg = OPCPackage.open(new File(sourceUrl), PackageAccess.READ);
+        try {
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheetData = sheets.next()) {
+                    if (sheets.getSheetName().equals(name)) {
+                        return parseSheet(sheetData);
+                    }
+                }
+            }
+            return null;
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    private SheetStore parseSheet(InputStream sheetData) throws XMLStreamException {
+        XMLInputFactory inputFactory = XmlInputFactoryProvider.newInstance();
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(sheetData);
+        SheetStore sheetStore = new SheetStore();
+        try {
+            int rowIndex = -1;
+            int columnIndex = -1;
+            String cellType = null;
+            int cellStyle = 0;
+            boolean hasFormula = false;
+            String cellValue = null;
+            StringBuilder inlineString = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamReader.START_ELEMENT) {
+                    String element = reader.getLocalName();
+                    if (ROW_ELEMENT.equals(element)) {
+                        String reference = reader.getAttributeValue(null, REFERENCE_ATTRIBUTE);
+                        rowIndex = reference != null ? Integer.parseInt(reference) - 1 : rowIndex + 1;
+                        columnIndex = -1;
+                        sheetStore.startRow(rowIndex);
+                    } else if (CELL_ELEMENT.equals(element)) {
+                        String reference = reader.getAttributeValue(null, REFERENCE_ATTRIBUTE);
+                        columnIndex = reference != null ? new CellReference(reference).getCol() : columnIndex + 1;
+                        cellType = reader.getAttributeValue(null, TYPE_ATTRIBUTE);
+                        String style = reader.getAttributeValue(null, STYLE_ATTRIBUTE);
+                        cellStyle = style != null ? Integer.parseInt(style) : 0;
+                        hasFormula = false;
+                        cellValue = null;
+                        inlineString = null;
+                    } else if (VALUE_ELEMENT.equals(element)) {
+                        cellValue = reader.getElementText();
+                    } else if (FORMULA_ELEMENT.equals(element)) {
+                        hasFormula = true;
+                    } else if (INLINE_STRING_ELEMENT.equals(element)) {
+                        inlineString = new StringBuilder();
+                    } else if (TEXT_ELEMENT.equals(element) && inlineString != null) {
+                        inlineString.append(reader.getElementText());
+                    } else if (MERGE_CELL_ELEMENT.equals(element)) {
+                        sheetStore.addMergedRegion(
+                                CellRangeAddress.valueOf(reader.getAttributeValue(null, MERGE_REFERENCE_ATTRIBUTE)));
+                    }
+                } else if (event == XMLStreamReader.END_ELEMENT && CELL_ELEMENT.equals(reader.getLocalName())) {
+                    addCell(sheetStore, rowIndex, columnIndex, cellType, cellStyle, hasFormula, cellValue,
+                            inlineString);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return sheetStore;
+    }
+
+    private static void addCell(SheetStore sheetStore, int row, int column, String type, int style,
+            boolean hasFormula, String value, StringBuilder inlineString) {
+        if ("s".equals(type)) {
+            sheetStore.setCell(row, column, SheetStore.SHARED_STRING, Integer.parseInt(value.trim()), 0);
+        } else if ("inlineStr".equals(type)) {
+            sheetStore.setString(row, column, inlineString != null ? inlineString.toString() : "");
+        } else if ("b".equals(type)) {
+            boolean booleanValue = "1".equals(value);
+            if (hasFormula) {
+                // Evaluated boolean formulas are formatted by POI
+                sheetStore.setString(row, column, booleanValue ? "TRUE" : "FALSE");
+            } else {
+                sheetStore.setCell(row, column, SheetStore.BOOLEAN, booleanValue ? 1L : 0L, 0);
+            }
+        } else if (value != null && (type == null || "n".equals(type))) {
+            sheetStore.setCell(row, column, SheetStore.NUMERIC,
+                    Double.doubleToRawLongBits(Double.parseDouble(value)), style);
+        } else if (value != null || hasFormula) {
+            // Formula strings, errors and formulas without a cached value
+            sheetStore.setString(row, column, value != null ? value : "");
+        } else {
+            sheetStore.setCell(row, column, SheetStore.BLANK, 0L, 0);
+        }
+    }
+
+    private SheetStore getStore() {
+        return store;
+    }
+
+    @Override
+    protected Object internallyGetValue(int col, int row) throws IOException {
+        int maxRow = getRowNumbers();
+        if (row > maxRow) {
+            throw new IllegalArgumentException(
+                    MessageFormat.format(StringConstants.EXCEL_INVALID_ROW_NUMBER, row, maxRow));
+        }
+
+        int maxColumnAtRow = getMaxColumn(row + getHeaderRowIdx());
+
+        if (maxColumnAtRow < 0) {
+            return null;
+        }
+
+        if (col > maxColumnAtRow) {
+            return null;
+        }
+
+        // check if cell index is in a merged region, the same way SheetPOI does
+        CellRangeAddress mergedRegion = getStore().getMergedRegion(row, col);
+        if (mergedRegion != null) {
+            return getCellAt(mergedRegion.getFirstColumn(), mergedRegion.getFirstRow());
+        }
+
+        return getCellAt(col, row + getHeaderRowIdx());
+    }
+
+    private Object getCellAt(int col, int row) {
+        String readAsString = this.getProperty(READ_AS_STRING_PROPERTY);
+        boolean asString = readAsString == null || (Boolean.valueOf(readAsString).booleanValue());
+        SheetStore sheetStore = getStore();
+        long value = sheetStore.getValue(row, col);
+        switch (sheetStore.getType(row, col)) {
+            case SheetStore.SHARED_STRING:
+                return sharedStrings.getEntryAt((int) value);
+            case SheetStore.STRING:
+                return sheetStore.getString((int) value);
+            case SheetStore.NUMERIC:
+                double number = Double.longBitsToDouble(value);
+                if (!asString) {
+                    return number;
+                }
+                int style = sheetStore.getStyle(row, col);
+                return formatter.formatRawCellContents(number, -1,
+                        SheetPOI.getFormatString(style < styleFormats.length ? styleFormats[style] : null));
+            case SheetStore.BOOLEAN:
+                return asString ? Boolean.toString(value != 0L) : Boolean.valueOf(value != 0L);
+            case SheetStore.BLANK:
+                return "";
+            default:
+                return null;
+        }
+    }
+
+    protected int getColumnIndex(String colName) throws IOException {
+        if (colName == null) {
+            throw new IllegalArgumentException("Column name cannot be null");
+        }
+
+        String[] columnNames = getColumnNames();
+        for (int i = 0; i < columnNames.length; i++) {
+            if (colName.equals(columnNames[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected Object internallyGetValue(String colName, int row) throws IOException {
+        int col = getColumnIndex(colName);
+
+        if (col < 0) {
+            throw new IllegalArgumentException("Column not found");
+        }
+
+        return internallyGetValue(col, row);
+    }
+
+    /**
+     * Get the max column of a row
+     *
+     * @param rowIndex the row index
+     * @return the max column of a row, or -1 if the row index is invalid
+     */
+    @Override
+    public int getMaxColumn(int rowIndex) {
+        return getStore().getLastCellNum(rowIndex);
+    }
+
+    /**
+     * Get all column names of the test data
+     *
+     * @return an array that contains names of all columns
+     * @throws IOException if any io errors happened
+     */
+    @Override
+    public String[] getColumnNames() throws IOException {
+        if (ArrayUtils.isEmpty(columnNames)) {
+            int maxColumnCounts = getColumnNumbers();
+
+            columnNames = new String[maxColumnCounts];
+            if (hasHeaders) {
+                for (int i = 0; i < maxColumnCounts; i++) {
+                    columnNames[i] = (String) getCellAt(i, COLUMN_HEADER_ROW_NUMBER);
+                }
+            }
+        }
+        return columnNames;
+    }
+
+    /**
+     * Get total rows of the test data
+     *
+     * @return total rows of the test data
+     */
+    @Override
+    public int getRowNumbers() throws IOException {
+        return getStore().getLastRowNum() + 1 - getHeaderRowIdx();
+    }
+
+    /**
+     * Get total column of the test data
+     *
+     * @return total columns of the test data
+     * @throws IOException if any io errors happened
+     */
+    @Override
+    public int getColumnNumbers() throws IOException {
+        return Math.max(0, getStore().getColumnCount());
+    }
+
+    /**
+     * Cells of a sheet, stored by column.
+     */
+    private static class SheetStore {
+        // Cell types, NONE is a missing cell
+        private static final byte NONE = 0;
+
+        private static final byte SHARED_STRING = 1;
+
+        private static final byte STRING = 2;
+
+        private static final byte NUMERIC = 3;
+
+        private static final byte BOOLEAN = 4;
+
+        private static final byte BLANK = 5;
+
+        private static final int INITIAL_ROW_CAPACITY = 64;
+
+        private final List<Column> columns = new ArrayList<Column>();
+
+        // Last cell number of each row as POI counts it, -1 for a row without cells, -2 for a missing row
+        private int[] lastCellNums = new int[INITIAL_ROW_CAPACITY];
+
+        private int lastRowNum = -1;
+
+        private int columnCount = -1;
+
+        private final List<String> strings = new ArrayList<String>();
+
+        private final Map<String, Integer> stringIndexes = new HashMap<String, Integer>();
+
+        private final List<CellRangeAddress> mergedRegions = new ArrayList<CellRangeAddress>();
+
+        private SheetStore() {
+            Arrays.fill(lastCellNums, -2);
+        }
+
+        private void startRow(int row) {
+            ensureRowCapacity(row + 1);
+            lastCellNums[row] = -1;
+            lastRowNum = Math.max(lastRowNum, row);
+            columnCount = Math.max(columnCount, -1);
+        }
+
+        private void ensureRowCapacity(int rowCount) {
+            if (rowCount > lastCellNums.length) {
+                int oldLength = lastCellNums.length;
+                lastCellNums = Arrays.copyOf(lastCellNums, Math.max(rowCount, oldLength * 2));
+                Arrays.fill(lastCellNums, oldLength, lastCellNums.length, -2);
+            }
+        }
+
+        private void setString(int row, int column, String value) {
+            Integer index = stringIndexes.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.add(value);
+                stringIndexes.put(value, index);
+            }
+            setCell(row, column, STRING, index, 0);
+        }
+
+        private void setCell(int row, int column, byte type, long value, int style) {
+            while (columns.size() <= column) {
+                columns.add(new Column());
+            }
+            columns.get(column).set(row, type, value, style);
+            lastCellNums[row] = Math.max(lastCellNums[row], column + 1);
+            columnCount = Math.max(columnCount, column + 1);
+        }
+
+        private void addMergedRegion(CellRangeAddress mergedRegion) {
+            mergedRegions.add(mergedRegion);
+        }
+
+        private CellRangeAddress getMergedRegion(int row, int column) {
+            for (CellRangeAddress mergedRegion : mergedRegions) {
+                if (mergedRegion.isInRange(row, column)) {
+                    return mergedRegion;
+                }
+            }
+            return null;
+        }
+
+        private byte getType(int row, int column) {
+            return column < columns.size() ? columns.get(column).getType(row) : NONE;
+        }
+
+        private long getValue(int row, int column) {
+            return column < columns.size() ? columns.get(column).getValue(row) : 0L;
+        }
+
+        private int getStyle(int row, int column) {
+            return column < columns.size() ? columns.get(column).getStyle(row) : 0;
+        }
+
+        private String getString(int index) {
+            return strings.get(index);
+        }
+
+        private int getLastCellNum(int row) {
+            if (row < 0 || row > lastRowNum || lastCellNums[row] == -2) {
+                return -1;
+            }
+            return lastCellNums[row];
+        }
+
+        /**
+         * @return the index of the last row, 0 for a sheet without rows like POI
+         */
+        private int getLastRowNum() {
+            return Math.max(0, lastRowNum);
+        }
+
+        private int getColumnCount() {
+            return columnCount;
+        }
+    }
+
+    private static class Column {
+        private byte[] types = new byte[0];
+
+        private long[] values = new long[0];
+
+        // Only allocated once a numeric cell of the column has a style
+        private int[] styles;
+
+        private void set(int row, byte type, long value, int style) {
+            if (row >= types.length) {
+                int capacity = Math.max(row + 1, types.length * 2);
+                types = Arrays.copyOf(types, capacity);
+                values = Arrays.copyOf(values, capacity);
+                if (styles != null) {
+                    styles = Arrays.copyOf(styles, capacity);
+                }
+            }
+            types[row] = type;
+            values[row] = value;
+            if (style != 0 && styles == null) {
+                styles = new int[types.length];
+            }
+            if (styles != null) {
+                styles[row] = style;
+            }
+        }
+
+        private byte getType(int row) {
+            return row >= 0 && row < types.length ? types[row] : SheetStore.NONE;
+        }
+
+        private long getValue(int row) {
+            return row >= 0 && row < values.length ? values[row] : 0L;
+        }
+
+        private int getStyle(int row) {
+            return styles != null && row >= 0 && row < styles.length ? styles[row] : 0;
+        }
+    }
+}
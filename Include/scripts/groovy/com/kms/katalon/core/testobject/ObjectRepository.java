@@ -21,7 +21,6 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.dom4j.DocumentException;
 import org.dom4j.Element;
-import org.dom4j.io.SAXReader;
 
 import com.google.common.net.UrlEscapers;
 import com.google.common.reflect.TypeToken;
@@ -32,6 +31,7 @@ import com.kms.katalon.core.main.ScriptEngine;
 import com.kms.katalon.core.testobject.MobileTestObject.MobileLocatorStrategy;
 import com.kms.katalon.core.testobject.impl.HttpTextBodyContent;
 import com.kms.katalon.core.testobject.internal.impl.HttpBodyContentReader;
+import com.kms.katalon.core.testobject.internal.impl.TestObjectTemplateCache;
 import com.kms.katalon.core.testobject.internal.impl.WindowsObjectRepository;
 import com.kms.katalon.core.util.StrSubstitutor;
 import com.kms.katalon.core.util.internal.ExceptionsUtil;
@@ -219,7 +219,7 @@ public class ObjectRepository {
     public static TestObject readTestObjectFile(String testObjectId, File objectFile, String projectDir,
             Map<String, Object> variables) {
         try {
-            Element rootElement = new SAXReader().read(objectFile).getRootElement();
+            Element rootElement = TestObjectTemplateCache.getInstance().getRootElement(testObjectId, objectFile);
             String elementName = rootElement.getName();
             if (WEB_ELEMENT_TYPE_NAME.equals(elementName)) {
                 return findWebUIObject(testObjectId, rootElement, variables);
@@ -501,7 +501,7 @@ public class ObjectRepository {
     @SuppressWarnings("unchecked")
     public static RequestObject findRequestObject(String requestObjectId, File objectFile) {
         try {
-            Element reqElement = new SAXReader().read(objectFile).getRootElement();
+            Element reqElement = TestObjectTemplateCache.getInstance().getRootElement(requestObjectId, objectFile);
             
             List<Object> variableElements = reqElement.elements("variables");
             Map<String, Object> variables = Collections.emptyMap();
@@ -0,0 +1,105 @@
+package com.kms.katalon.core.testobject;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only views of a parsed response body made of maps and lists, e.g. the result of <code>JsonSlurper</code>.
+ * <p>
+ * The nested maps and lists are wrapped when they are read, so a view is created in constant time whatever the size of
+ * the body. Changing a view throws an {@link UnsupportedOperationException}.
+ */
+final class ParsedBodyView {
+
+    private ParsedBodyView() {
+        // Disable default constructor
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object of(Object value) {
+        if (value instanceof MapView || value instanceof ListView) {
+            return value;
+        }
+        if (value instanceof Map) {
+            return new MapView((Map<Object, Object>) value);
+        }
+        if (value instanceof List) {
+            return new ListView((List<Object>) value);
+        }
+        return value;
+    }
+
+    private static class MapView extends AbstractMap<Object, Object> {
+        private final Map<Object, Object> map;
+
+        private MapView(Map<Object, Object> map) {
+            this.map = map;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return of(map.get(key));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    Iterator<Entry<Object, Object>> entries = map.entrySet().iterator();
+                    return new Iterator<Entry<Object, Object>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Object, Object> next() {
+                            Entry<Object, Object> entry = entries.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), of(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return map.size();
+                }
+            };
+        }
+    }
+
+    private static class ListView extends AbstractList<Object> {
+        private final List<Object> list;
+
+        private ListView(List<Object> list) {
+            this.list = list;
+        }
+
+        @Override
+        public Object get(int index) {
+            return of(list.get(index));
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+}
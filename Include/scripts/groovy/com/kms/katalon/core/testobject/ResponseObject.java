@@ -1,12 +1,16 @@
 package com.kms.katalon.core.testobject;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.lang.ref.SoftReference;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.transform.OutputKeys;
@@ -20,6 +24,7 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathFactory;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
@@ -54,6 +59,10 @@ public class ResponseObject implements PerformanceResourceTiming, HttpMessage {
 
     private HttpBodyContent responseBodyContent;
 
+    private SoftReference<String> decodedResponseText;
+
+    private final Map<String, Object> parsedBodies = new HashMap<>();
+
     public ResponseObject() {
     }
 
@@ -69,6 +78,7 @@ public class ResponseObject implements PerformanceResourceTiming, HttpMessage {
      */
     // TODO: Detect the source to see if it is JSON, XML, HTML or plain text
     public String getResponseBodyContent() throws Exception {
+        String responseText = this.responseText != null ? this.responseText : getDecodedResponseText();
         if (responseText != null) {
             if (contentType != null && contentType.startsWith("application/xml")) {
                 DocumentBuilder db = DocumentBuilderProvider.newBuilderInstance();
@@ -94,9 +104,39 @@ public class ResponseObject implements PerformanceResourceTiming, HttpMessage {
      * @throws IOException if content could not be parsed to String.
      */
     public String getResponseText() throws IOException {
-        ByteArrayOutputStream outstream = new ByteArrayOutputStream();
-        responseBodyContent.writeTo(outstream);
-        return outstream.toString(getContentCharset());
+        if (responseBodyContent == null) {
+            return responseText;
+        }
+        return getDecodedResponseText();
+    }
+
+    private String getDecodedResponseText() throws IOException {
+        if (responseBodyContent == null) {
+            return null;
+        }
+        String decodedText = decodedResponseText != null ? decodedResponseText.get() : null;
+        if (decodedText == null) {
+            try (InputStream inputStream = responseBodyContent.getInputStream()) {
+                decodedText = IOUtils.toString(inputStream, getContentCharset());
+            }
+            // Softly referenced so that the text of a large body can be reclaimed and decoded again when needed
+            decodedResponseText = new SoftReference<>(decodedText);
+        }
+        return decodedText;
+    }
+
+    /**
+     * Get the raw response body as a stream, without decoding it to text. Large response bodies are not held in
+     * memory, so this is the preferred way to read downloaded files or big exports.
+     * 
+     * @return a new stream of the raw response body. Callers are responsible for closing it.
+     * @throws IOException if the response body could not be opened
+     */
+    public InputStream getResponseBodyStream() throws IOException {
+        if (responseBodyContent != null) {
+            return responseBodyContent.getInputStream();
+        }
+        return new ByteArrayInputStream(StringUtils.defaultString(responseText).getBytes(getContentCharset()));
     }
 
     /**
@@ -107,6 +147,7 @@ public class ResponseObject implements PerformanceResourceTiming, HttpMessage {
      */
     public void setResponseText(String responseText) {
         responseBodyContent = new HttpTextBodyContent(responseText);
+        clearBodyCaches();
         this.responseText = responseText;
     }
 
@@ -126,6 +167,37 @@ public class ResponseObject implements PerformanceResourceTiming, HttpMessage {
      */
     public void setContentType(String contentType) {
         this.contentType = contentType;
+        clearBodyCaches();
+    }
+
+    /**
+     * Get the response body parsed by the given parser.
+     * <p>
+     * The body is only parsed on the first call for each <code>format</code> until the body of this response is
+     * changed. A body parsed to maps and lists, e.g. by <code>JsonSlurper</code>, is returned as a read-only view.
+     * Other parsed bodies are returned as they are, so the parser must return an object that cannot be changed.
+     * 
+     * @param format a name identifying the parser, e.g. "json"
+     * @param parser parses the response body
+     * @return the parsed response body, as a read-only view if it is made of maps and lists
+     * @throws Exception if the response body could not be parsed
+     */
+    public Object getParsedBody(String format, Callable<Object> parser) throws Exception {
+        synchronized (parsedBodies) {
+            if (parsedBodies.containsKey(format)) {
+                return ParsedBodyView.of(parsedBodies.get(format));
+            }
+            Object parsedBody = parser.call();
+            parsedBodies.put(format, parsedBody);
+            return ParsedBodyView.of(parsedBody);
+        }
+    }
+
+    private void clearBodyCaches() {
+        decodedResponseText = null;
+        synchronized (parsedBodies) {
+            parsedBodies.clear();
+        }
     }
 
     private String nodeToString(Node node) throws TransformerException {
@@ -275,6 +347,7 @@ public class ResponseObject implements PerformanceResourceTiming, HttpMessage {
     
     public void setBodyContent(HttpBodyContent bodyContent) {
         this.responseBodyContent = bodyContent;
+        clearBodyCaches();
     }
 
     /**
@@ -291,6 +364,7 @@ public class ResponseObject implements PerformanceResourceTiming, HttpMessage {
 
     public void setContentCharset(String contentCharset) {
         this.contentCharset = contentCharset;
+        clearBodyCaches();
     }
     
     @Override
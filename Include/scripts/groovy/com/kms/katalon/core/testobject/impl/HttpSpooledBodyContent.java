@@ -0,0 +1,266 @@
+package com.kms.katalon.core.testobject.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.DeferredFileOutputStream;
+import org.apache.commons.lang.StringUtils;
+
+import com.kms.katalon.core.testobject.HttpBodyContent;
+
+/**
+ * Represents the body content of a HTTP message (request/response) that keeps the raw bytes as they were received.
+ * <p>
+ * Small bodies are kept in memory. Bodies larger than the spool threshold are written to a temporary file, so they
+ * never have to be held in the heap as a whole. The file is deleted by {@link #dispose()}, or once the content is no
+ * longer referenced, when the next body is spooled. An open stream of the content keeps its file until it is closed.
+ * The files left when the JVM exits are deleted then. The content is only decoded to text when a caller asks for it.
+ */
+public class HttpSpooledBodyContent implements HttpBodyContent {
+
+    private static final String DF_CONTENT_TYPE = "text/plain";
+
+    private static final String TEMP_FILE_PREFIX = "response-body-";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Spool files of the contents that may still be read
+    private static final Map<File, SpoolFileReference> spoolFiles = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<HttpSpooledBodyContent> releasedContents = new ReferenceQueue<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (File spoolFile : spoolFiles.keySet()) {
+                spoolFile.delete();
+            }
+        }));
+    }
+
+    private final byte[] bytes;
+
+    private final File file;
+
+    private final long contentLength;
+
+    private final String charset;
+
+    private final String contentType;
+
+    // Streams of the spool file that are not closed yet, the file is only deleted once they are all closed
+    private int openStreams;
+
+    private boolean disposed;
+
+    private HttpSpooledBodyContent(byte[] bytes, File file, long contentLength, String charset, String contentType) {
+        this.bytes = bytes;
+        this.file = file;
+        this.contentLength = contentLength;
+        this.charset = charset;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Reads the given stream to its end. The stream is not closed.
+     *
+     * @param inputStream the content to read
+     * @param spoolThreshold number of bytes above which the content is written to a temporary file instead of being
+     * kept in memory. Non-positive values keep the content in memory regardless of its size.
+     * @param maxContentLength the maximum number of bytes to read. Non-positive values mean unlimited.
+     * @param charset the character set of the content
+     * @param contentType the content type of the content
+     * @return the read content, or <code>null</code> if the stream holds more than <code>maxContentLength</code> bytes.
+     * In this case, the stream is only read up to the limit.
+     * @throws IOException if the stream cannot be read or the temporary file cannot be written
+     */
+    public static HttpSpooledBodyContent read(InputStream inputStream, int spoolThreshold, long maxContentLength,
+            String charset, String contentType) throws IOException {
+        deleteReleasedSpoolFiles();
+        DeferredFileOutputStream outputStream = new DeferredFileOutputStream(
+                spoolThreshold > 0 ? spoolThreshold : Integer.MAX_VALUE, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, null);
+        long contentLength = 0L;
+        boolean exceededLimit = false;
+        boolean completed = false;
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int nRead;
+            while ((nRead = inputStream.read(buffer)) != -1) {
+                contentLength += nRead;
+                if (maxContentLength > 0 && contentLength > maxContentLength) {
+                    exceededLimit = true;
+                    break;
+                }
+                outputStream.write(buffer, 0, nRead);
+            }
+            completed = !exceededLimit;
+        } finally {
+            outputStream.close();
+            File spoolFile = outputStream.getFile();
+            if (spoolFile != null && !completed) {
+                spoolFile.delete();
+            }
+        }
+        if (exceededLimit) {
+            return null;
+        }
+        if (outputStream.isInMemory()) {
+            return new HttpSpooledBodyContent(outputStream.getData(), null, contentLength, charset, contentType);
+        }
+        HttpSpooledBodyContent content = new HttpSpooledBodyContent(null, outputStream.getFile(), contentLength,
+                charset, contentType);
+        spoolFiles.put(content.file, new SpoolFileReference(content));
+        return content;
+    }
+
+    private static void deleteReleasedSpoolFiles() {
+        Reference<? extends HttpSpooledBodyContent> reference;
+        while ((reference = releasedContents.poll()) != null) {
+            File spoolFile = ((SpoolFileReference) reference).file;
+            spoolFile.delete();
+            spoolFiles.remove(spoolFile);
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        if (StringUtils.isEmpty(contentType)) {
+            return DF_CONTENT_TYPE;
+        }
+        return contentType;
+    }
+
+    /**
+     * @return the number of bytes that were actually read
+     */
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return null;
+    }
+
+    /**
+     * @throws IOException if the content has been disposed or its file cannot be opened
+     */
+    @Override
+    public InputStream getInputStream() throws IOException, UnsupportedOperationException {
+        if (file != null) {
+            synchronized (this) {
+                if (disposed) {
+                    throw new IOException("The spooled content has been disposed");
+                }
+                InputStream inputStream = new SpoolFileInputStream();
+                openStreams++;
+                return inputStream;
+            }
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public void writeTo(OutputStream outstream) throws IOException {
+        if (file != null) {
+            try (InputStream inputStream = getInputStream()) {
+                IOUtils.copy(inputStream, outstream);
+            }
+        } else {
+            outstream.write(bytes);
+        }
+        outstream.flush();
+    }
+
+    /**
+     * @return true if the content has been spooled to a temporary file, false if it is kept in memory
+     */
+    public boolean isSpooled() {
+        return file != null;
+    }
+
+    /**
+     * Deletes the temporary file of a spooled content, once the streams that are still open are closed. The content
+     * cannot be read afterwards.
+     */
+    public synchronized void dispose() {
+        if (file == null || disposed) {
+            return;
+        }
+        disposed = true;
+        if (openStreams == 0) {
+            deleteFile();
+        }
+    }
+
+    private synchronized void closeStream() {
+        openStreams--;
+        if (disposed && openStreams == 0) {
+            deleteFile();
+        }
+    }
+
+    private void deleteFile() {
+        file.delete();
+        SpoolFileReference reference = spoolFiles.remove(file);
+        if (reference != null) {
+            reference.clear();
+        }
+    }
+
+    public String getCharset() {
+        return charset;
+    }
+
+    /**
+     * Stream of the spool file. It references its content, so that the file is not deleted as released while the
+     * stream is still in use.
+     */
+    private class SpoolFileInputStream extends FileInputStream {
+        private boolean closed;
+
+        private SpoolFileInputStream() throws IOException {
+            super(file);
+        }
+
+        @Override
+        public void close() throws IOException {
+            boolean wasOpen;
+            synchronized (this) {
+                wasOpen = !closed;
+                closed = true;
+            }
+            try {
+                super.close();
+            } finally {
+                if (wasOpen) {
+                    closeStream();
+                }
+            }
+        }
+    }
+
+    /**
+     * Enqueued once its content is no longer referenced, so that the spool file of the content can be deleted
+     */
+    private static class SpoolFileReference extends PhantomReference<HttpSpooledBodyContent> {
+        private final File file;
+
+        private SpoolFileReference(HttpSpooledBodyContent content) {
+            super(content, releasedContents);
+            this.file = content.file;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.kms.katalon.core.testobject.internal.impl;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dom4j.DocumentException;
+import org.dom4j.Element;
+import org.dom4j.io.SAXReader;
+
+/**
+ * Project-wide cache of parsed test object files.
+ * <p>
+ * Entries hold the root element of an object file <b>before</b> any variable substitution, so the same template can
+ * be reused for every lookup regardless of the variables passed to <code>findTestObject</code>. Callers must treat
+ * the returned element as read-only and build a new test object from it on each lookup.
+ * <p>
+ * An entry is invalidated when the backing file's last modified time or length changes.
+ */
+public class TestObjectTemplateCache {
+
+    private static final TestObjectTemplateCache INSTANCE = new TestObjectTemplateCache();
+
+    private final Map<String, CachedTemplate> templates = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private TestObjectTemplateCache() {
+        // Singleton
+    }
+
+    public static TestObjectTemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the parsed root element of the given object file, reading it from disk only if it has not been cached
+     * yet or has been modified since it was cached.
+     *
+     * @param testObjectId full id of the test object, used as cache key
+     * @param objectFile the test object file
+     * @return the root element of the object file. Must not be modified by callers.
+     * @throws DocumentException if the object file cannot be parsed
+     */
+    public Element getRootElement(String testObjectId, File objectFile) throws DocumentException {
+        long lastModified = objectFile.lastModified();
+        long length = objectFile.length();
+        CachedTemplate template = templates.get(testObjectId);
+        if (template != null && template.isValidFor(objectFile, lastModified, length)) {
+            hitCount.incrementAndGet();
+            return template.rootElement;
+        }
+        missCount.incrementAndGet();
+        Element rootElement = new SAXReader().read(objectFile).getRootElement();
+        templates.put(testObjectId, new CachedTemplate(objectFile, lastModified, length, rootElement));
+        return rootElement;
+    }
+
+    public void invalidate(String testObjectId) {
+        templates.remove(testObjectId);
+    }
+
+    public void clear() {
+        templates.clear();
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private static class CachedTemplate {
+        private final File file;
+
+        private final long lastModified;
+
+        private final long length;
+
+        private final Element rootElement;
+
+        private CachedTemplate(File file, long lastModified, long length, Element rootElement) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.rootElement = rootElement;
+        }
+
+        private boolean isValidFor(File objectFile, long lastModified, long length) {
+            return this.lastModified == lastModified && this.length == length
+                    && file.getAbsoluteFile().equals(objectFile.getAbsoluteFile());
+        }
+    }
+}
@@ -12,7 +12,6 @@ import java.util.Map.Entry;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.dom4j.DocumentException;
 import org.dom4j.Element;
-import org.dom4j.io.SAXReader;
 
 import com.kms.katalon.core.constants.StringConstants;
 import com.kms.katalon.core.logging.KeywordLogger;
@@ -48,7 +47,7 @@ public class WindowsObjectRepository {
             
             StrSubstitutor strSubtitutor = new StrSubstitutor(variablesStringMap);
 
-            Element element = new SAXReader().read(objectFile).getRootElement();
+            Element element = TestObjectTemplateCache.getInstance().getRootElement(testObjectId, objectFile);
 
             String locator = element.elementText("locator");
             locator = strSubtitutor.replace(locator);
@@ -0,0 +1,261 @@
+package com.kms.katalon.core.webservice.common;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.testobject.RequestObject;
+import com.kms.katalon.core.testobject.ResponseObject;
+import com.kms.katalon.core.webservice.constants.RequestHeaderConstants;
+import com.kms.katalon.core.webservice.helper.WebServiceCommonHelper;
+
+/**
+ * Sends requests on a bounded pool of worker threads and returns their responses as {@link CompletableFuture}s.
+ * <p>
+ * The number of worker threads limits how many requests are in flight at the same time. Requests to the same host
+ * are further limited by a per-host cap: requests over the cap wait in a queue of their host, without holding a worker
+ * thread, and are sent by the worker that completes a request to the same host. When the queue of a host is full, the
+ * submitting thread waits for room in it.
+ * <p>
+ * Each request goes through {@link WebServiceCommonHelper#sendRequest}, with the execution settings of the thread
+ * that submitted it, so timeouts, response size limits, HAR logging and the timing fields of {@link ResponseObject}
+ * behave like <code>sendRequest</code>.
+ */
+public class AsyncRequestSender {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 32;
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST = 8;
+
+    public static final int DEFAULT_MAX_WAITING_REQUESTS_PER_HOST = 1000;
+
+    // How long the JVM shutdown waits for the requests in flight of the default sender
+    private static final long DEFAULT_SENDER_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final AtomicInteger senderNumber = new AtomicInteger();
+
+    private static AsyncRequestSender defaultSender;
+
+    private final ExecutorService executor;
+
+    private final int maxConcurrentRequestsPerHost;
+
+    private final int maxWaitingRequestsPerHost;
+
+    private final Map<String, HostQueue> hostQueues = new ConcurrentHashMap<>();
+
+    public AsyncRequestSender(int maxConcurrentRequests, int maxConcurrentRequestsPerHost) {
+        this(maxConcurrentRequests, maxConcurrentRequestsPerHost, DEFAULT_MAX_WAITING_REQUESTS_PER_HOST);
+    }
+
+    public AsyncRequestSender(int maxConcurrentRequests, int maxConcurrentRequestsPerHost,
+            int maxWaitingRequestsPerHost) {
+        if (maxConcurrentRequests <= 0 || maxConcurrentRequestsPerHost <= 0 || maxWaitingRequestsPerHost <= 0) {
+            throw new IllegalArgumentException("Concurrent and waiting request limits must be positive");
+        }
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+        this.maxWaitingRequestsPerHost = maxWaitingRequestsPerHost;
+        this.executor = Executors.newFixedThreadPool(maxConcurrentRequests,
+                new RequestThreadFactory(this, senderNumber.incrementAndGet()));
+    }
+
+    /**
+     * Returns the sender shared by the async request keywords, created with the limits of the execution settings.
+     * It is shut down when the JVM exits, after waiting a few seconds for the requests in flight.
+     */
+    public static synchronized AsyncRequestSender getDefault() {
+        if (defaultSender == null) {
+            Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+            AsyncRequestSender sender = new AsyncRequestSender(
+                    getIntProperty(generalProperties, RunConfiguration.REQUEST_MAX_CONCURRENT_REQUESTS,
+                            DEFAULT_MAX_CONCURRENT_REQUESTS),
+                    getIntProperty(generalProperties, RunConfiguration.REQUEST_MAX_CONCURRENT_REQUESTS_PER_HOST,
+                            DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST),
+                    getIntProperty(generalProperties, RunConfiguration.REQUEST_MAX_WAITING_REQUESTS_PER_HOST,
+                            DEFAULT_MAX_WAITING_REQUESTS_PER_HOST));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                sender.shutdown();
+                try {
+                    sender.awaitTermination(DEFAULT_SENDER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            defaultSender = sender;
+        }
+        return defaultSender;
+    }
+
+    private static int getIntProperty(Map<String, Object> properties, String key, int defaultValue) {
+        if (properties == null || !(properties.get(key) instanceof Number)) {
+            return defaultValue;
+        }
+        int value = ((Number) properties.get(key)).intValue();
+        return value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * Submits a request. If the queue of its host is full, waits until there is room in it, unless the calling thread
+     * is a worker thread of this sender.
+     * 
+     * @return a future that completes with the response, or completes exceptionally if the request cannot be sent or
+     * the calling thread is interrupted while waiting
+     */
+    public CompletableFuture<ResponseObject> sendAsync(RequestObject request) {
+        WebServiceCommonHelper.checkRequestObject(request);
+        // Workers are shared by all the submitting threads, each request is sent with the settings of its own
+        Map<String, Object> executionSetting = RunConfiguration.getExecutionSetting();
+        String logFolder = RunConfiguration.getReportFolder();
+        CompletableFuture<ResponseObject> future = new CompletableFuture<>();
+        try {
+            hostQueues.computeIfAbsent(getHost(request), host -> new HostQueue()).submit(() -> {
+                Map<String, Object> workerExecutionSetting = RunConfiguration.getExecutionSetting();
+                RunConfiguration.setExecutionSetting(executionSetting);
+                try {
+                    HarLogger harLogger = new HarLogger();
+                    harLogger.initHarFile();
+                    ResponseObject responseObject = WebServiceCommonHelper.sendRequest(request);
+                    harLogger.logHarFile(request, responseObject, logFolder);
+                    future.complete(responseObject);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    RunConfiguration.setExecutionSetting(workerExecutionSetting);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public List<CompletableFuture<ResponseObject>> sendAllAsync(List<RequestObject> requests) {
+        return requests.stream().map(this::sendAsync).collect(Collectors.toList());
+    }
+
+    /**
+     * Stops accepting new requests. Requests that were already submitted are still sent.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Waits for the submitted requests to be sent after a {@link #shutdown()}.
+     * 
+     * @return true if all the requests have been sent, false if the timeout elapsed before
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    private static String getHost(RequestObject request) {
+        String url = RequestHeaderConstants.SOAP.equalsIgnoreCase(request.getServiceType())
+                ? StringUtils.defaultIfEmpty(request.getSoapServiceEndpoint(), request.getWsdlAddress())
+                : request.getRestUrl();
+        try {
+            return StringUtils.defaultString(new URI(StringUtils.defaultString(url)).getHost());
+        } catch (URISyntaxException e) {
+            return StringUtils.EMPTY;
+        }
+    }
+
+    private boolean isWorkerThread() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof RequestThread && ((RequestThread) thread).sender == this;
+    }
+
+    /**
+     * Requests to one host, at most <code>maxConcurrentRequestsPerHost</code> of them are handed to the worker threads
+     * and at most <code>maxWaitingRequestsPerHost</code> of them wait for a worker
+     */
+    private class HostQueue {
+        private final Deque<Runnable> waitingRequests = new ArrayDeque<>();
+
+        private int runningRequests;
+
+        private void submit(Runnable request) throws InterruptedException {
+            synchronized (this) {
+                // A worker would wait for itself, its requests are queued over the limit
+                while (runningRequests >= maxConcurrentRequestsPerHost
+                        && waitingRequests.size() >= maxWaitingRequestsPerHost && !isWorkerThread()) {
+                    wait();
+                }
+                if (runningRequests >= maxConcurrentRequestsPerHost) {
+                    waitingRequests.addLast(request);
+                    return;
+                }
+                runningRequests++;
+            }
+            try {
+                executor.execute(() -> run(request));
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    runningRequests--;
+                }
+                throw e;
+            }
+        }
+
+        private void run(Runnable request) {
+            // The worker keeps sending the requests waiting for this host, so they are sent even after shutdown
+            Runnable nextRequest = request;
+            while (nextRequest != null) {
+                nextRequest.run();
+                synchronized (this) {
+                    nextRequest = waitingRequests.pollFirst();
+                    if (nextRequest == null) {
+                        runningRequests--;
+                    }
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private static class RequestThread extends Thread {
+        private final AsyncRequestSender sender;
+
+        private RequestThread(AsyncRequestSender sender, Runnable runnable, String name) {
+            super(runnable, name);
+            this.sender = sender;
+        }
+    }
+
+    private static class RequestThreadFactory implements ThreadFactory {
+        private final AsyncRequestSender sender;
+
+        private final int senderNumber;
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        private RequestThreadFactory(AsyncRequestSender sender, int senderNumber) {
+            this.sender = sender;
+            this.senderNumber = senderNumber;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new RequestThread(sender, runnable,
+                    "async-request-" + senderNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
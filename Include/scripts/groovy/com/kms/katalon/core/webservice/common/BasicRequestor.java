@@ -1,6 +1,8 @@
 package com.kms.katalon.core.webservice.common;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
@@ -10,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.http.Header;
@@ -25,21 +28,29 @@ import com.google.api.client.auth.oauth.OAuthParameters;
 import com.google.api.client.auth.oauth.OAuthRsaSigner;
 import com.google.api.client.auth.oauth.OAuthSigner;
 import com.google.api.client.http.GenericUrl;
+import com.kms.katalon.core.configuration.RunConfiguration;
 import com.kms.katalon.core.model.SSLClientCertificateSettings;
 import com.kms.katalon.core.network.ProxyInformation;
 import com.kms.katalon.core.testobject.ConditionType;
+import com.kms.katalon.core.testobject.HttpBodyContent;
 import com.kms.katalon.core.testobject.RequestObject;
 import com.kms.katalon.core.testobject.ResponseObject;
 import com.kms.katalon.core.testobject.TestObjectProperty;
 import com.kms.katalon.core.testobject.impl.HttpFormDataBodyContent;
+import com.kms.katalon.core.testobject.impl.HttpSpooledBodyContent;
 import com.kms.katalon.core.testobject.impl.HttpTextBodyContent;
 import com.kms.katalon.core.webservice.constants.RequestHeaderConstants;
+import com.kms.katalon.core.webservice.exception.ResponseSizeLimitException;
+import com.kms.katalon.core.webservice.exception.SendRequestException;
 import com.kms.katalon.core.webservice.helper.WebServiceCommonHelper;
 import com.kms.katalon.core.webservice.setting.SSLCertificateOption;
 import com.kms.katalon.core.webservice.setting.WebServiceSettingStore;
+import com.kms.katalon.core.webservice.util.WebServiceCommonUtil;
 
 public abstract class BasicRequestor implements Requestor {
 
+    private static final int DEFAULT_RESPONSE_BODY_SPOOL_THRESHOLD = 1024 * 1024;
+
     protected String projectDir;
 
     protected ProxyInformation proxyInformation;
@@ -66,7 +77,7 @@ public abstract class BasicRequestor implements Requestor {
                 getSSLSettings());
         long waitingTime = System.currentTimeMillis() - startTime;
 
-        ResponseObject responseObject = toResponseObject(httpResponse);
+        ResponseObject responseObject = toResponseObject(httpResponse, requestObject.getMaxResponseSize());
         responseObject.setWaitingTime(waitingTime);
 
         return responseObject;
@@ -210,6 +221,11 @@ public abstract class BasicRequestor implements Requestor {
         return null;
     }
 
+    /**
+     * @deprecated Decodes the whole response body in memory, without checking the response size limit. Please use
+     * {@link #toResponseObject(HttpResponse, long)} instead.
+     */
+    @Deprecated
     protected ResponseObject toResponseObject(HttpResponse httpResponse) {
         long startTime = System.currentTimeMillis();
         int statusCode = httpResponse.getStatusLine().getStatusCode();
@@ -245,16 +261,106 @@ public abstract class BasicRequestor implements Requestor {
         return responseObject;
     }
 
+    /**
+     * Reads the response body as raw bytes without decoding it. Bodies larger than the spool threshold of the
+     * execution settings are written to a temporary file instead of being kept in memory.
+     * 
+     * @param httpResponse the response to read
+     * @param maxResponseSize the maximum size of the response (headers and body) in bytes. The size is checked
+     * against the bytes actually read, so it also applies to chunked responses and responses with a wrong
+     * <b>Content-Length</b> header.
+     * @throws SendRequestException wrapping a {@link ResponseSizeLimitException} if the response exceeds
+     * <code>maxResponseSize</code>
+     */
+    protected ResponseObject toResponseObject(HttpResponse httpResponse, long maxResponseSize)
+            throws SendRequestException {
+        int statusCode = httpResponse.getStatusLine().getStatusCode();
+        long contentDownloadTime = 0L;
+        long headerLength = WebServiceCommonHelper.calculateHeaderLength(httpResponse);
+        String contentType = getResponseMimeType(httpResponse);
+        String charset = getResponseCharset(httpResponse);
+
+        ResponseObject responseObject = new ResponseObject();
+        HttpBodyContent bodyContent = new HttpTextBodyContent(StringUtils.EMPTY, charset, contentType);
+
+        HttpEntity responseEntity = httpResponse.getEntity();
+        if (responseEntity != null) {
+            long maxBodyLength = WebServiceCommonUtil.isLimitedRequestResponseSize(maxResponseSize)
+                    ? Math.max(maxResponseSize - headerLength, 1L) : 0L;
+            long startTime = System.currentTimeMillis();
+            InputStream contentStream = null;
+            try {
+                contentStream = responseEntity.getContent();
+                if (contentStream != null) {
+                    bodyContent = HttpSpooledBodyContent.read(contentStream, getResponseBodySpoolThreshold(),
+                            maxBodyLength, charset, contentType);
+                    if (bodyContent == null) {
+                        // Close the response before the stream so that the rest of the body is discarded instead
+                        // of being read to release the connection
+                        if (httpResponse instanceof Closeable) {
+                            IOUtils.closeQuietly((Closeable) httpResponse);
+                        }
+                        throw new SendRequestException(new ResponseSizeLimitException());
+                    }
+                }
+            } catch (IOException e) {
+                bodyContent = new HttpTextBodyContent(ExceptionUtils.getFullStackTrace(e), charset, contentType);
+            } finally {
+                // Releases the connection back to the pool, also when the body could not be read
+                IOUtils.closeQuietly(contentStream);
+            }
+            contentDownloadTime = System.currentTimeMillis() - startTime;
+        }
+
+        responseObject.setContentType(getResponseContentType(httpResponse));
+        responseObject.setHeaderFields(getResponseHeaderFields(httpResponse));
+        responseObject.setStatusCode(statusCode);
+        responseObject.setResponseBodySize(bodyContent.getContentLength());
+        responseObject.setResponseHeaderSize(headerLength);
+        responseObject.setContentDownloadTime(contentDownloadTime);
+        responseObject.setBodyContent(bodyContent);
+        responseObject.setContentCharset(charset);
+
+        return responseObject;
+    }
+
+    private static int getResponseBodySpoolThreshold() {
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        if (generalProperties != null
+                && generalProperties.get(RunConfiguration.RESPONSE_BODY_SPOOL_THRESHOLD) instanceof Number) {
+            return ((Number) generalProperties.get(RunConfiguration.RESPONSE_BODY_SPOOL_THRESHOLD)).intValue();
+        }
+        return DEFAULT_RESPONSE_BODY_SPOOL_THRESHOLD;
+    }
+
+    /**
+     * @deprecated The body content is set by {@link #toResponseObject(HttpResponse, long)}.
+     */
+    @Deprecated
     protected void setResponseBodyContent(
             HttpResponse httpResponse,
             String responseBody,
             ResponseObject responseObject) {
+        String charset = getResponseCharset(httpResponse);
+        HttpTextBodyContent textBodyContent = new HttpTextBodyContent(responseBody, charset,
+                getResponseMimeType(httpResponse));
+        responseObject.setBodyContent(textBodyContent);
+        responseObject.setContentCharset(charset);
+    }
+
+    private String getResponseMimeType(HttpResponse httpResponse) {
         String contentTypeHeader = getResponseContentType(httpResponse);
-        String contentType = contentTypeHeader;
-        String charset = "UTF-8";
         if (contentTypeHeader != null && contentTypeHeader.contains(";")) {
             // Content-Type: [content-type]; charset=[charset]
-            contentType = contentTypeHeader.split(";")[0].trim();
+            return contentTypeHeader.split(";")[0].trim();
+        }
+        return contentTypeHeader;
+    }
+
+    private String getResponseCharset(HttpResponse httpResponse) {
+        String contentTypeHeader = getResponseContentType(httpResponse);
+        String charset = "UTF-8";
+        if (contentTypeHeader != null && contentTypeHeader.contains(";")) {
             int charsetIdx = contentTypeHeader.lastIndexOf("charset=");
             if (charsetIdx >= 0) {
                 int separatorIdx = StringUtils.indexOf(contentTypeHeader, ";", charsetIdx);
@@ -265,9 +371,7 @@ public abstract class BasicRequestor implements Requestor {
                         .replace("\"", "");
             }
         }
-        HttpTextBodyContent textBodyContent = new HttpTextBodyContent(responseBody, charset, contentType);
-        responseObject.setBodyContent(textBodyContent);
-        responseObject.setContentCharset(charset);
+        return charset;
     }
 
     protected String getResponseContentType(HttpResponse httpResponse) {
@@ -0,0 +1,95 @@
+package com.kms.katalon.core.webservice.common;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A future that reports its failure on the thread that gets its result, instead of the thread that completes it.
+ * <p>
+ * The failure is reported once, by the first call to {@link #get()}, {@link #get(long, TimeUnit)}, {@link #join()}
+ * or {@link #getNow(Object)} that throws it. So it is logged in the test step that waits for the result rather than on
+ * a worker thread, which does not belong to any test step.
+ */
+public class FailureReportingFuture<T> extends CompletableFuture<T> {
+
+    private final Consumer<Throwable> failureReporter;
+
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    private FailureReportingFuture(Consumer<Throwable> failureReporter) {
+        this.failureReporter = failureReporter;
+    }
+
+    /**
+     * @param future the future to complete the returned future with
+     * @param failureReporter reports the cause of the failure, on the thread that gets the result
+     */
+    public static <T> FailureReportingFuture<T> of(CompletableFuture<T> future, Consumer<Throwable> failureReporter) {
+        FailureReportingFuture<T> reportingFuture = new FailureReportingFuture<>(failureReporter);
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                reportingFuture.completeExceptionally(getCause(error));
+            } else {
+                reportingFuture.complete(result);
+            }
+        });
+        return reportingFuture;
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        try {
+            return super.get();
+        } catch (ExecutionException | CancellationException e) {
+            report(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+            return super.get(timeout, unit);
+        } catch (ExecutionException | CancellationException e) {
+            report(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public T join() {
+        try {
+            return super.join();
+        } catch (CompletionException | CancellationException e) {
+            report(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public T getNow(T valueIfAbsent) {
+        try {
+            return super.getNow(valueIfAbsent);
+        } catch (CompletionException | CancellationException e) {
+            report(e);
+            throw e;
+        }
+    }
+
+    private void report(Throwable error) {
+        if (reported.compareAndSet(false, true)) {
+            failureReporter.accept(getCause(error));
+        }
+    }
+
+    private static Throwable getCause(Throwable error) {
+        return (error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null
+                ? error.getCause() : error;
+    }
+}
@@ -5,6 +5,11 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
@@ -61,13 +66,24 @@ public class HttpUtil {
 
     private static final String TLS = "TLS";
 
+    private static final int DEFAULT_VALIDATE_AFTER_INACTIVITY = 1;
+
     private static PoolingHttpClientConnectionManager connectionManager;
 
     private static final String SOCKET_FACTORY_REGISTRY = "http.socket-factory-registry";
 
+    // Clients are keyed by redirect policy, proxy and timeouts. They share the connection manager above.
+    private static final Map<List<Object>, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+
+    // Socket factory registries are keyed by HTTPS protocol, certificate option and client key store
+    private static final Map<List<Object>, Registry<ConnectionSocketFactory>> socketFactoryRegistries = new ConcurrentHashMap<>();
+
+    // Key managers are keyed by key store path, password and last modified time
+    private static final Map<List<Object>, KeyManager[]> keyManagers = new ConcurrentHashMap<>();
+
     static {
         connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setValidateAfterInactivity(1);
+        connectionManager.setValidateAfterInactivity(getValidateAfterInactivity());
         connectionManager.setMaxTotal(2000);
         connectionManager.setDefaultMaxPerRoute(500);
     }
@@ -112,13 +128,12 @@ public class HttpUtil {
 
         try {
             String url = request.getURI().toURL().toString();
-            HttpClientBuilder clientBuilder = getClientBuilder(
+            CloseableHttpClient httpClient = getHttpClient(
                     url,
                     followRedirects,
                     proxyInformation,
                     connectionTimeout,
                     socketTimeout);
-            CloseableHttpClient httpClient = clientBuilder.build();
             HttpContext httpContext = getDefaultHttpContext(certificateOption, clientCertSettings);
 
             CloseableHttpResponse response = null;
@@ -142,7 +157,6 @@ public class HttpUtil {
                 }
             }
 
-            IOUtils.closeQuietly(httpClient);
             return response;
         } catch (
                 URISyntaxException
@@ -175,6 +189,71 @@ public class HttpUtil {
         }   
     }
 
+    /**
+     * Sets how long, in milliseconds, a pooled connection may stay idle before it is re-validated when leased again.
+     * Non-positive values disable the validation.
+     */
+    public static void setValidateAfterInactivity(int validateAfterInactivity) {
+        connectionManager.setValidateAfterInactivity(validateAfterInactivity);
+    }
+
+    /**
+     * Closes and discards all cached HTTP clients, SSL socket factories and client certificate key managers.
+     */
+    public static void clearCache() {
+        httpClients.values().forEach(IOUtils::closeQuietly);
+        httpClients.clear();
+        socketFactoryRegistries.clear();
+        keyManagers.clear();
+    }
+
+    private static int getValidateAfterInactivity() {
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        if (generalProperties != null
+                && generalProperties.get(RunConfiguration.REQUEST_VALIDATE_AFTER_INACTIVITY) instanceof Number) {
+            return ((Number) generalProperties.get(RunConfiguration.REQUEST_VALIDATE_AFTER_INACTIVITY)).intValue();
+        }
+        return DEFAULT_VALIDATE_AFTER_INACTIVITY;
+    }
+
+    private static CloseableHttpClient getHttpClient(
+            String url,
+            boolean followRedirects,
+            ProxyInformation proxyInformation,
+            int connectionTimeout,
+            int socketTimeout) throws URISyntaxException, IOException {
+        List<Object> clientKey = Arrays.asList(
+                followRedirects,
+                getProxyKey(proxyInformation),
+                WebServiceCommonUtil.getValidRequestTimeout(connectionTimeout),
+                WebServiceCommonUtil.getValidRequestTimeout(socketTimeout));
+        CloseableHttpClient httpClient = httpClients.get(clientKey);
+        if (httpClient == null) {
+            httpClient = getClientBuilder(url, followRedirects, proxyInformation, connectionTimeout, socketTimeout)
+                    .build();
+            CloseableHttpClient existingClient = httpClients.putIfAbsent(clientKey, httpClient);
+            if (existingClient != null) {
+                IOUtils.closeQuietly(httpClient);
+                httpClient = existingClient;
+            }
+        }
+        return httpClient;
+    }
+
+    private static List<Object> getProxyKey(ProxyInformation proxyInformation) {
+        if (proxyInformation == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(
+                proxyInformation.getProxyOption(),
+                proxyInformation.getProxyServerType(),
+                proxyInformation.getProxyServerAddress(),
+                proxyInformation.getProxyServerPort(),
+                proxyInformation.getUsername(),
+                proxyInformation.getPassword(),
+                proxyInformation.getExceptionList());
+    }
+
     private static HttpClientBuilder getClientBuilder(
             String url,
             boolean followRedirects,
@@ -249,17 +328,43 @@ public class HttpUtil {
             IOException {
 
         HttpContext httpContext = new BasicHttpContext();
-        SSLContext sc = SSLContext.getInstance(getHttpsProtocol());
-        sc.init(getKeyManagers(clientCertSettings), getTrustManagers(certificateOption), null);
-        Registry<ConnectionSocketFactory> reg = RegistryBuilder
-                .<ConnectionSocketFactory>create()
-                .register("http", PlainConnectionSocketFactory.INSTANCE)
-                .register("https", new SSLConnectionSocketFactory(sc, getHostnameVerifier(certificateOption)))
-                .build();
-        httpContext.setAttribute(SOCKET_FACTORY_REGISTRY, reg);
+        httpContext.setAttribute(SOCKET_FACTORY_REGISTRY,
+                getSocketFactoryRegistry(certificateOption, clientCertSettings));
         return httpContext;
     }
 
+    private static Registry<ConnectionSocketFactory> getSocketFactoryRegistry(
+            SSLCertificateOption certificateOption,
+            SSLClientCertificateSettings clientCertSettings)
+            throws GeneralSecurityException,
+            IOException {
+        String httpsProtocol = getHttpsProtocol();
+        List<Object> registryKey = Arrays.asList(httpsProtocol, certificateOption, getKeyStoreKey(clientCertSettings));
+        Registry<ConnectionSocketFactory> reg = socketFactoryRegistries.get(registryKey);
+        if (reg == null) {
+            SSLContext sc = SSLContext.getInstance(httpsProtocol);
+            sc.init(getKeyManagers(clientCertSettings), getTrustManagers(certificateOption), null);
+            reg = RegistryBuilder
+                    .<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.INSTANCE)
+                    .register("https", new SSLConnectionSocketFactory(sc, getHostnameVerifier(certificateOption)))
+                    .build();
+            socketFactoryRegistries.put(registryKey, reg);
+        }
+        return reg;
+    }
+
+    private static List<Object> getKeyStoreKey(SSLClientCertificateSettings clientCertSettings) {
+        if (clientCertSettings == null || StringUtils.isBlank(clientCertSettings.getKeyStoreFile())) {
+            return Collections.emptyList();
+        }
+        File keyStoreFile = new File(clientCertSettings.getKeyStoreFile());
+        return Arrays.asList(
+                keyStoreFile.getAbsolutePath(),
+                StringUtils.defaultString(clientCertSettings.getKeyStorePassword()),
+                keyStoreFile.lastModified());
+    }
+
     private static String getHttpsProtocol() {
         if (RunConfiguration.getProperty(RunConfiguration.HTTPS_PROTOCOL) != null) {
             return (String) RunConfiguration.getProperty(RunConfiguration.HTTPS_PROTOCOL);
@@ -301,11 +406,18 @@ public class HttpUtil {
                     ? clientCertSettings.getKeyStorePassword()
                     : StringUtils.EMPTY;
             if (keyStoreFile.exists()) {
+                List<Object> keyStoreKey = getKeyStoreKey(clientCertSettings);
+                KeyManager[] cachedKeyManagers = keyManagers.get(keyStoreKey);
+                if (cachedKeyManagers != null) {
+                    return cachedKeyManagers;
+                }
                 KeyManagerFactory keyManagerFactory = KeyManagerFactory
                         .getInstance(KeyManagerFactory.getDefaultAlgorithm());
                 KeyMaterial km = new KeyMaterial(keyStoreFile, keyStorePassword.toCharArray());
                 keyManagerFactory.init(km.getKeyStore(), keyStorePassword.toCharArray());
-                return keyManagerFactory.getKeyManagers();
+                KeyManager[] loadedKeyManagers = keyManagerFactory.getKeyManagers();
+                keyManagers.put(keyStoreKey, loadedKeyManagers);
+                return loadedKeyManagers;
             }
         }
         return new KeyManager[0];
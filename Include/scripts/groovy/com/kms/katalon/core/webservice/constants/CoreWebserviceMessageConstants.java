@@ -14,10 +14,16 @@ public class CoreWebserviceMessageConstants extends NLS {
     public static String KW_STR_NOT_FOUND_IN_RES;
 
     public static String KW_LOG_FAILED_CANNOT_SEND_REQUEST;
+
+    public static String KW_LOG_FAILED_CANNOT_SUBMIT_ASYNC_REQUESTS;
     
     public static String KW_LOG_FAILED_CANNOT_SEND_REQUEST_AND_VERIFY;
 
     public static String KW_LOG_PASSED_SEND_REQUEST_SUCCESS;
+
+    public static String KW_LOG_INFO_SUBMITTED_ASYNC_REQUESTS;
+
+    public static String KW_LOG_WARNING_ASYNC_REQUEST_FAILED;
     
     public static String KW_LOG_PASSED_SEND_REQUEST_AND_VERIFY_SUCCESS;
 
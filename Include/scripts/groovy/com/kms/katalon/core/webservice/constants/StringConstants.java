@@ -10,8 +10,11 @@ public class StringConstants {
     public static final String KW_LOG_FAILED_ACTUAL_ELEMENT_TEXT_IS = CoreWebserviceMessageConstants.KW_LOG_FAILED_ACTUAL_ELEMENT_TEXT_IS;
     public static final String KW_STR_NOT_FOUND_IN_RES = CoreWebserviceMessageConstants.KW_STR_NOT_FOUND_IN_RES;
     public static final String KW_LOG_FAILED_CANNOT_SEND_REQUEST = CoreWebserviceMessageConstants.KW_LOG_FAILED_CANNOT_SEND_REQUEST;
+    public static final String KW_LOG_FAILED_CANNOT_SUBMIT_ASYNC_REQUESTS = CoreWebserviceMessageConstants.KW_LOG_FAILED_CANNOT_SUBMIT_ASYNC_REQUESTS;
     public static final String KW_LOG_FAILED_CANNOT_SEND_REQUEST_AND_VERIFY = CoreWebserviceMessageConstants.KW_LOG_FAILED_CANNOT_SEND_REQUEST_AND_VERIFY;
     public static final String KW_LOG_PASSED_SEND_REQUEST_SUCCESS = CoreWebserviceMessageConstants.KW_LOG_PASSED_SEND_REQUEST_SUCCESS;
+    public static final String KW_LOG_INFO_SUBMITTED_ASYNC_REQUESTS = CoreWebserviceMessageConstants.KW_LOG_INFO_SUBMITTED_ASYNC_REQUESTS;
+    public static final String KW_LOG_WARNING_ASYNC_REQUEST_FAILED = CoreWebserviceMessageConstants.KW_LOG_WARNING_ASYNC_REQUEST_FAILED;
     public static final String KW_LOG_PASSED_SEND_REQUEST_AND_VERIFY_SUCCESS = CoreWebserviceMessageConstants.KW_LOG_PASSED_SEND_REQUEST_AND_VERIFY_SUCCESS;
     public static final String KW_LOG_FAILED_CANNOT_VERIFY_ELEMENT_COUNT = CoreWebserviceMessageConstants.KW_LOG_FAILED_CANNOT_VERIFY_ELEMENT_COUNT;
     public static final String KW_LOG_FAILED_CANNOT_GET_ELEMENT_COUNT = CoreWebserviceMessageConstants.KW_LOG_FAILED_CANNOT_GET_ELEMENT_COUNT;
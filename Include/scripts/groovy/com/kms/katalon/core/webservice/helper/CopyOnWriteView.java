@@ -0,0 +1,246 @@
+package com.kms.katalon.core.webservice.helper;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Views of a parsed body made of maps and lists that can be changed without changing the body.
+ * <p>
+ * A view reads the body until it is changed. Only then the map or list of the view is copied, without the maps and
+ * lists it holds, which are views themselves. So a view is created in constant time and a change only copies the
+ * changed maps and lists.
+ */
+final class CopyOnWriteView {
+
+    private CopyOnWriteView() {
+        // Disable default constructor
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object of(Object value) {
+        if (value instanceof MapView || value instanceof ListView) {
+            return value;
+        }
+        if (value instanceof Map) {
+            return new MapView((Map<Object, Object>) value);
+        }
+        if (value instanceof List) {
+            return new ListView((List<Object>) value);
+        }
+        return value;
+    }
+
+    private static boolean isContainer(Object value) {
+        return value instanceof Map || value instanceof List;
+    }
+
+    private static class MapView extends AbstractMap<Object, Object> {
+        // The viewed map until this view is changed, then its own copy
+        private Map<Object, Object> map;
+
+        private boolean copied;
+
+        // Views of the values read before this view is copied, so that their changes are kept by the copy
+        private Map<Object, Object> valueViews;
+
+        private MapView(Map<Object, Object> map) {
+            this.map = map;
+        }
+
+        private Object view(Object key, Object value) {
+            if (!isContainer(value)) {
+                return value;
+            }
+            if (copied) {
+                Object view = of(value);
+                if (view != value) {
+                    map.put(key, view);
+                }
+                return view;
+            }
+            if (valueViews == null) {
+                valueViews = new HashMap<>();
+            }
+            Object view = valueViews.get(key);
+            if (view == null) {
+                view = of(value);
+                valueViews.put(key, view);
+            }
+            return view;
+        }
+
+        private void copy() {
+            if (copied) {
+                return;
+            }
+            Map<Object, Object> copy = new LinkedHashMap<>(map);
+            if (valueViews != null) {
+                copy.putAll(valueViews);
+                valueViews = null;
+            }
+            map = copy;
+            copied = true;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return view(key, map.get(key));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            copy();
+            return map.put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            copy();
+            return map.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            copy();
+            map.clear();
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    Iterator<Object> keys = new ArrayList<>(map.keySet()).iterator();
+                    return new Iterator<Entry<Object, Object>>() {
+                        private Object lastKey;
+
+                        @Override
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Object, Object> next() {
+                            lastKey = keys.next();
+                            return new SimpleEntry<Object, Object>(lastKey, get(lastKey)) {
+                                private static final long serialVersionUID = 1L;
+
+                                @Override
+                                public Object setValue(Object value) {
+                                    super.setValue(value);
+                                    return put(getKey(), value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            MapView.this.remove(lastKey);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return map.size();
+                }
+            };
+        }
+    }
+
+    private static class ListView extends AbstractList<Object> {
+        // The viewed list until this view is changed, then its own copy
+        private List<Object> list;
+
+        private boolean copied;
+
+        // Views of the items read before this view is copied, so that their changes are kept by the copy
+        private Map<Integer, Object> itemViews;
+
+        private ListView(List<Object> list) {
+            this.list = list;
+        }
+
+        private void copy() {
+            if (copied) {
+                return;
+            }
+            List<Object> copy = new ArrayList<>(list);
+            if (itemViews != null) {
+                for (Map.Entry<Integer, Object> itemView : itemViews.entrySet()) {
+                    copy.set(itemView.getKey(), itemView.getValue());
+                }
+                itemViews = null;
+            }
+            list = copy;
+            copied = true;
+        }
+
+        @Override
+        public Object get(int index) {
+            Object item = list.get(index);
+            if (!isContainer(item)) {
+                return item;
+            }
+            if (copied) {
+                Object view = of(item);
+                if (view != item) {
+                    list.set(index, view);
+                }
+                return view;
+            }
+            if (itemViews == null) {
+                itemViews = new HashMap<>();
+            }
+            Object view = itemViews.get(index);
+            if (view == null) {
+                view = of(item);
+                itemViews.put(index, view);
+            }
+            return view;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Object set(int index, Object item) {
+            copy();
+            return list.set(index, item);
+        }
+
+        @Override
+        public void add(int index, Object item) {
+            copy();
+            list.add(index, item);
+            modCount++;
+        }
+
+        @Override
+        public Object remove(int index) {
+            copy();
+            modCount++;
+            return list.remove(index);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.kms.katalon.core.webservice.helper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.codehaus.groovy.runtime.InvokerHelper;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+
+/**
+ * A compiled locator of the web service keywords, e.g. <code>items[0].name</code> followed by an optional function
+ * such as <code>size()</code>.
+ * <p>
+ * Locators made of property names and indexes are evaluated directly through the Groovy runtime, with the same
+ * property and <code>getAt</code> dispatch that the equivalent Groovy expression would use. Other locators are
+ * compiled to a Groovy script once and the script class is reused. Compiled locators are cached, so a locator is only
+ * parsed the first time it is used. Each script class has its own class loader, which is discarded with the locator
+ * when it is evicted from the cache.
+ * <p>
+ * The parsed document may be shared by several locators. Functions and scripts are given copy-on-write views of the
+ * maps and lists they are evaluated against, and the located maps and lists are returned as such views, so the document
+ * is never changed and a map or list is only copied when it is changed.
+ *
+ * @see CopyOnWriteView
+ */
+class LocatorExpression {
+
+    private static final int MAX_CACHED_LOCATORS = 1000;
+
+    private static final String JSON_ROOT_VARIABLE = "root";
+
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("([A-Za-z_$][A-Za-z0-9_$]*)?((?:\\[-?\\d{1,9}\\])*)");
+
+    private static final Pattern INDEX_PATTERN = Pattern.compile("\\[(-?\\d{1,9})\\]");
+
+    private static final Pattern ROOT_INDEX_PATTERN = Pattern.compile("\\[\\d+\\]");
+
+    private static final Pattern FUNCTION_PATTERN = Pattern.compile("([A-Za-z_$][A-Za-z0-9_$]*)\\(\\)");
+
+    // Compiled locators, least recently used first
+    private static final Map<String, LocatorExpression> compiledLocators = Collections
+            .synchronizedMap(new LinkedHashMap<String, LocatorExpression>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LocatorExpression> eldest) {
+                    if (size() <= MAX_CACHED_LOCATORS) {
+                        return false;
+                    }
+                    eldest.getValue().discard();
+                    return true;
+                }
+            });
+
+    private static final String SCRIPT_FILE_NAME = "LocatorScript.groovy";
+
+    // Property names and indexes to navigate, or null if this locator is evaluated by a script
+    private final List<Object> steps;
+
+    private final String function;
+
+    private final String scriptText;
+
+    private final String rootVariable;
+
+    private GroovyClassLoader scriptClassLoader;
+
+    private Class<?> scriptClass;
+
+    private LocatorExpression(List<Object> steps, String function) {
+        this.steps = steps;
+        this.function = function;
+        this.scriptText = null;
+        this.rootVariable = null;
+    }
+
+    private LocatorExpression(String scriptText, String rootVariable) {
+        this.steps = null;
+        this.function = null;
+        this.scriptText = scriptText;
+        this.rootVariable = rootVariable;
+    }
+
+    /**
+     * @param locator a locator whose first token names the root element, e.g. <code>root.items.item[0]</code>
+     * @param groovyFunction a function called on the located element, or <code>null</code>
+     */
+    static LocatorExpression forXml(String locator, String groovyFunction) {
+        return compiledLocators.computeIfAbsent("xml:" + locator + ":" + groovyFunction,
+                key -> compileXml(locator, groovyFunction));
+    }
+
+    /**
+     * @param locator a locator relative to the JSON root, e.g. <code>items[0].name</code> or <code>[0].name</code>
+     * @param groovyFunction a function called on the located element, or <code>null</code>
+     */
+    static LocatorExpression forJson(String locator, String groovyFunction) {
+        return compiledLocators.computeIfAbsent("json:" + locator + ":" + groovyFunction,
+                key -> compileJson(locator, groovyFunction));
+    }
+
+    static void clearCache() {
+        synchronized (compiledLocators) {
+            for (LocatorExpression locatorExpression : compiledLocators.values()) {
+                locatorExpression.discard();
+            }
+            compiledLocators.clear();
+        }
+    }
+
+    private static LocatorExpression compileXml(String locator, String groovyFunction) {
+        String[] tokens = locator.split("\\.");
+        String rootName = tokens[0];
+        String locatorExp = String.join(".", tokens);
+        if (groovyFunction != null) {
+            locatorExp += "." + groovyFunction;
+        }
+        if (IDENTIFIER_PATTERN.matcher(rootName).matches()) {
+            List<Object> steps = parseSteps(tokens, 1);
+            if (steps != null && (groovyFunction == null || FUNCTION_PATTERN.matcher(groovyFunction).matches())) {
+                return new LocatorExpression(steps, getFunctionName(groovyFunction));
+            }
+        }
+        return new LocatorExpression("return " + locatorExp, rootName);
+    }
+
+    private static LocatorExpression compileJson(String locator, String groovyFunction) {
+        String[] tokens = locator.split("\\.");
+        boolean needAppendRoot = !ROOT_INDEX_PATTERN.matcher(tokens[0]).matches();
+        String path = String.join(".", tokens);
+        String locatorExp = path;
+        if (groovyFunction != null) {
+            if (!locatorExp.isEmpty()) {
+                locatorExp += ".";
+            }
+            locatorExp += groovyFunction;
+        }
+        List<Object> steps = null;
+        if (!needAppendRoot) {
+            steps = parseSteps(tokens, 1);
+            List<Object> rootIndexes = parseIndexes(tokens[0]);
+            if (steps != null && !rootIndexes.isEmpty()) {
+                steps.addAll(0, rootIndexes);
+            } else {
+                steps = null;
+            }
+        } else if (!path.isEmpty()) {
+            steps = parseSteps(tokens, 0);
+        } else if (groovyFunction != null) {
+            steps = new ArrayList<>();
+        }
+        if (steps != null && (groovyFunction == null || FUNCTION_PATTERN.matcher(groovyFunction).matches())) {
+            return new LocatorExpression(steps, getFunctionName(groovyFunction));
+        }
+        String scriptText = needAppendRoot ? "return " + JSON_ROOT_VARIABLE + "." + locatorExp
+                : "return " + JSON_ROOT_VARIABLE + locatorExp;
+        return new LocatorExpression(scriptText, JSON_ROOT_VARIABLE);
+    }
+
+    private static List<Object> parseSteps(String[] tokens, int startIndex) {
+        List<Object> steps = new ArrayList<>();
+        for (int i = startIndex; i < tokens.length; i++) {
+            Matcher matcher = TOKEN_PATTERN.matcher(tokens[i]);
+            if (!matcher.matches() || matcher.group(1) == null) {
+                return null;
+            }
+            steps.add(matcher.group(1));
+            steps.addAll(parseIndexes(matcher.group(2)));
+        }
+        return steps;
+    }
+
+    private static List<Object> parseIndexes(String indexes) {
+        List<Object> steps = new ArrayList<>();
+        Matcher matcher = INDEX_PATTERN.matcher(indexes);
+        while (matcher.find()) {
+            steps.add(Integer.valueOf(matcher.group(1)));
+        }
+        return steps;
+    }
+
+    private static String getFunctionName(String groovyFunction) {
+        return groovyFunction != null ? groovyFunction.substring(0, groovyFunction.length() - 2) : null;
+    }
+
+    /**
+     * Evaluates this locator against a parsed document.
+     *
+     * @param root the result of <code>JsonSlurper</code> or <code>XmlSlurper</code>, or a read-only view of it. It is
+     * not modified.
+     */
+    Object evaluate(Object root) {
+        if (steps == null) {
+            Binding binding = new Binding();
+            binding.setVariable(rootVariable, CopyOnWriteView.of(root));
+            return InvokerHelper.createScript(getScriptClass(), binding).run();
+        }
+        Object current = root;
+        for (Object step : steps) {
+            current = step instanceof Integer ? InvokerHelper.invokeMethod(current, "getAt", step)
+                    : InvokerHelper.getProperty(current, (String) step);
+        }
+        current = CopyOnWriteView.of(current);
+        if (function != null) {
+            current = InvokerHelper.invokeMethod(current, function, InvokerHelper.EMPTY_ARGS);
+        }
+        return current;
+    }
+
+    private synchronized Class<?> getScriptClass() {
+        if (scriptClass == null) {
+            scriptClassLoader = new GroovyClassLoader(LocatorExpression.class.getClassLoader());
+            scriptClass = scriptClassLoader.parseClass(scriptText, SCRIPT_FILE_NAME);
+        }
+        return scriptClass;
+    }
+
+    /**
+     * Releases the class loader of the script class, a locator that is still being evaluated keeps working.
+     */
+    private synchronized void discard() {
+        if (scriptClassLoader == null) {
+            return;
+        }
+        scriptClassLoader.clearCache();
+        try {
+            scriptClassLoader.close();
+        } catch (IOException e) {
+            // Nothing is held by a class loader without class path
+        }
+        scriptClassLoader = null;
+    }
+}
@@ -0,0 +1,228 @@
+package com.kms.katalon.core.webservice.helper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.xml.sax.SAXException;
+
+import groovy.lang.Closure;
+import groovy.util.XmlSlurper;
+import groovy.util.slurpersupport.GPathResult;
+import groovy.util.slurpersupport.NamespaceAwareHashMap;
+import groovy.util.slurpersupport.Node;
+import groovy.util.slurpersupport.NodeChild;
+
+/**
+ * An XML document parsed by <code>XmlSlurper</code> whose nodes cannot be changed, so that it can be shared by the
+ * locators evaluated against the same response.
+ * <p>
+ * The nodes of a slurped document are changed in place by <code>replaceNode</code>, <code>replaceBody</code>,
+ * <code>appendNode</code>, <code>&lt;&lt;</code> or by setting an attribute. The parsed nodes are copied once to nodes
+ * that throw an {@link UnsupportedOperationException} instead.
+ */
+final class ReadOnlyXmlDocument {
+
+    private final Node rootNode;
+
+    private final Map<String, String> namespaceTagHints;
+
+    private ReadOnlyXmlDocument(Node rootNode, Map<String, String> namespaceTagHints) {
+        this.rootNode = rootNode;
+        this.namespaceTagHints = namespaceTagHints;
+    }
+
+    static ReadOnlyXmlDocument parse(String xmlText) throws IOException, SAXException, ParserConfigurationException {
+        Map<String, String> namespaceTagHints = new HashMap<>();
+        XmlSlurper slurper = new XmlSlurper() {
+            @Override
+            public void startPrefixMapping(String tag, String uri) throws SAXException {
+                super.startPrefixMapping(tag, uri);
+                namespaceTagHints.put(tag, uri);
+            }
+        };
+        Node parsedRootNode = (Node) slurper.parseText(xmlText).nodeIterator().next();
+        return new ReadOnlyXmlDocument(new ReadOnlyNode(null, parsedRootNode),
+                Collections.unmodifiableMap(namespaceTagHints));
+    }
+
+    /**
+     * @return a new root element of this document, the namespaces declared on it are not seen by the other roots
+     */
+    GPathResult getRoot() {
+        return new NodeChild(rootNode, null, namespaceTagHints);
+    }
+
+    private static class ReadOnlyNode extends Node {
+
+        private final boolean sealed;
+
+        private ReadOnlyNode(Node parent, Node node) {
+            super(parent, node.name(), new ReadOnlyAttributes(node.attributes()),
+                    getAttributeNamespaces(node.attributes()), node.namespaceURI());
+            for (Object child : node.children()) {
+                super.addChild(child instanceof Node ? new ReadOnlyNode(this, (Node) child) : child);
+            }
+            sealed = true;
+        }
+
+        /**
+         * @return the namespaces of the qualified attributes, whose names are <code>{namespace}localName</code>
+         */
+        private static Map<Object, Object> getAttributeNamespaces(Map<?, ?> attributes) {
+            Map<Object, Object> attributeNamespaces = new HashMap<>();
+            for (Object name : attributes.keySet()) {
+                String attributeName = String.valueOf(name);
+                int namespaceEnd = attributeName.indexOf('}');
+                if (attributeName.startsWith("{") && namespaceEnd > 0) {
+                    attributeNamespaces.put(name, attributeName.substring(1, namespaceEnd));
+                }
+            }
+            return attributeNamespaces;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public List children() {
+            return Collections.unmodifiableList(super.children());
+        }
+
+        @Override
+        public void addChild(Object child) {
+            if (sealed) {
+                throw new UnsupportedOperationException();
+            }
+            super.addChild(child);
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public void replaceNode(Closure replacementClosure, GPathResult result) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void replaceBody(Object newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void appendNode(Object newValue, GPathResult result) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Attributes of a read-only node. <code>NodeChild</code> only sets the namespace tag hints of the map, which are the
+     * same for all the roots of a document.
+     */
+    private static class ReadOnlyAttributes extends NamespaceAwareHashMap {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean sealed;
+
+        @SuppressWarnings("unchecked")
+        private ReadOnlyAttributes(Map<?, ?> attributes) {
+            super.putAll((Map<String, String>) attributes);
+            sealed = true;
+        }
+
+        @Override
+        public String put(String key, String value) {
+            if (sealed) {
+                throw new UnsupportedOperationException();
+            }
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends String> map) {
+            if (sealed) {
+                throw new UnsupportedOperationException();
+            }
+            super.putAll(map);
+        }
+
+        @Override
+        public String remove(Object key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String putIfAbsent(String key, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String replace(String key, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean replace(String key, String oldValue, String newValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super String, ? extends String> function) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String computeIfAbsent(String key, Function<? super String, ? extends String> mappingFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String computeIfPresent(String key,
+                BiFunction<? super String, ? super String, ? extends String> remappingFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String compute(String key,
+                BiFunction<? super String, ? super String, ? extends String> remappingFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String merge(String key, String value,
+                BiFunction<? super String, ? super String, ? extends String> remappingFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(super.keySet());
+        }
+
+        @Override
+        public Collection<String> values() {
+            return Collections.unmodifiableCollection(super.values());
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return Collections.unmodifiableSet(super.entrySet());
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.kms.katalon.core.webservice.helper;
 
+import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.Map;
 
+import javax.xml.parsers.ParserConfigurationException;
+
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpResponse;
+import org.xml.sax.SAXException;
 
 import com.kms.katalon.core.configuration.RunConfiguration;
 import com.kms.katalon.core.logging.KeywordLogger;
@@ -15,13 +19,18 @@ import com.kms.katalon.core.webservice.common.ServiceRequestFactory;
 import com.kms.katalon.core.webservice.constants.StringConstants;
 import com.kms.katalon.core.webservice.util.WebServiceCommonUtil;
 
-import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
+import groovy.json.JsonSlurper;
+import groovy.util.XmlSlurper;
+import groovy.util.slurpersupport.GPathResult;
 
 public class WebServiceCommonHelper {
 	
     private static final KeywordLogger logger = KeywordLogger.getInstance(WebServiceCommonHelper.class);
 
+    private static final String PARSED_XML_BODY = "xml";
+
+    private static final String PARSED_JSON_BODY = "json";
+
     public static ResponseObject sendRequest(RequestObject request) throws Exception {
         configRequestTimeout(request);
         configRequestResponseSizeLimit(request);
@@ -91,127 +100,76 @@ public class WebServiceCommonHelper {
 		}
 	}
 	
-	public static Object parseAndExecuteExpressionForXml(String locator, String groovyFunction, String xmlText){
-		String[] tokens = locator.split("\\.");
-		String rootName = "";
-		String locatorExp = "";
-		for(int i=0; i<tokens.length; i++){
-			String token = tokens[i];
-			locatorExp += token;
-			if(i < tokens.length -1){
-				locatorExp += ".";
-			}
-			else if(i == tokens.length -1){
-				locatorExp += "." + groovyFunction;
-			}
-			if(i==0){
-				rootName = token;
-			}
-		}
-		StringBuilder groovyScript = new StringBuilder();
-		groovyScript.append("def "+ rootName +" = new XmlSlurper().parseText(xmlText);");
-		groovyScript.append("return " + locatorExp);
-
-		Binding binding = new Binding();
-		binding.setVariable("xmlText", xmlText);
-		GroovyShell shell = new GroovyShell(binding);
-		return shell.evaluate(groovyScript.toString());
-	}
+    public static Object parseAndExecuteExpressionForXml(String locator, String groovyFunction, String xmlText) {
+        return LocatorExpression.forXml(locator, groovyFunction).evaluate(parseXml(xmlText));
+    }
 
-	public static Object parseAndGetPropertyValueForXml(String locator, String xmlText){
-        String[] tokens = locator.split("\\.");
-        String rootName = "";
-        String locatorExp = "";
-        for (int i = 0; i < tokens.length; i++) {
-            String token = tokens[i];
-            locatorExp += token;
-            if (i < tokens.length - 1) {
-                locatorExp += ".";
-            }
+    public static Object parseAndGetPropertyValueForXml(String locator, String xmlText) {
+        return LocatorExpression.forXml(locator, null).evaluate(parseXml(xmlText));
+    }
 
-            if (i == 0) {
-                rootName = token;
-            }
-        }
-        StringBuilder groovyScript = new StringBuilder();
-        groovyScript.append("def " + rootName + " = new XmlSlurper().parseText(xmlText);");
-        groovyScript.append("return " + locatorExp);
-
-        Binding binding = new Binding();
-        binding.setVariable("xmlText", xmlText);
-        GroovyShell shell = new GroovyShell(binding);
-        return shell.evaluate(groovyScript.toString());
-	}
+    public static Object parseAndExecuteExpressionForJson(String locator, String groovyFunction, String jsonText) {
+        return LocatorExpression.forJson(locator, groovyFunction).evaluate(new JsonSlurper().parseText(jsonText));
+    }
 
-	public static Object parseAndExecuteExpressionForJson(String locator, String groovyFunction, String jsonText){
-		boolean needAppendRoot = true;
-		String[] tokens = locator.split("\\.");
-		String locatorExp = "";
-		for(int i=0; i<tokens.length; i++){
-			String token = tokens[i];
-			locatorExp += token;
-			if(i == 0){
-				if(token.matches("\\[\\d+\\]")){
-					needAppendRoot = false;	
-				}
-			}
-			if(i < tokens.length -1){
-				locatorExp += ".";
-			}
-			else if(i == tokens.length -1){
-				if(!locatorExp.equals("")){
-					locatorExp += ".";
-				}
-				locatorExp += groovyFunction;
-			}
-		}
-		StringBuilder groovyScript = new StringBuilder();
-		groovyScript.append("import groovy.json.JsonSlurper;");
-		groovyScript.append("def root = new JsonSlurper().parseText(jsonText);");
-		if(needAppendRoot){
-			groovyScript.append("return root." + locatorExp +";");	
-		}
-		else{
-			groovyScript.append("return root" + locatorExp +";");
-		}
+    public static Object parseAndGetPropertyValueForJson(String locator, String jsonText) {
+        return LocatorExpression.forJson(locator, null).evaluate(new JsonSlurper().parseText(jsonText));
+    }
 
-		Binding binding = new Binding();
-		binding.setVariable("jsonText", jsonText);
-		GroovyShell shell = new GroovyShell(binding);
-		return shell.evaluate(groovyScript.toString());
-	}
+    /**
+     * Same as {@link #parseAndExecuteExpressionForXml(String, String, String)} but the response body is only parsed
+     * once for all the locators evaluated against the same response. The parsed body cannot be changed.
+     */
+    public static Object parseAndExecuteExpressionForXml(String locator, String groovyFunction,
+            ResponseObject responseObject) throws Exception {
+        return LocatorExpression.forXml(locator, groovyFunction).evaluate(getParsedXmlBody(responseObject));
+    }
 
-	public static Object parseAndGetPropertyValueForJson(String locator, String jsonText){
-		boolean needAppendRoot = true;
-		String[] tokens = locator.split("\\.");
-		String locatorExp = "";
-		for(int i=0; i<tokens.length; i++){
-			String token = tokens[i];
-			locatorExp += token;
-			if(i == 0){
-				if(token.matches("\\[\\d+\\]")){
-					needAppendRoot = false;	
-				}
-			}
-			if(i < tokens.length -1){
-				locatorExp += ".";
-			}
-		}
-		StringBuilder groovyScript = new StringBuilder();
-		groovyScript.append("import groovy.json.JsonSlurper;");
-		groovyScript.append("def root = new JsonSlurper().parseText(jsonText);");
-		if(needAppendRoot){
-			groovyScript.append("return root." + locatorExp +";");	
-		}
-		else{
-			groovyScript.append("return root" + locatorExp +";");
-		}
-		
-		Binding binding = new Binding();
-		binding.setVariable("jsonText", jsonText);
-		GroovyShell shell = new GroovyShell(binding);
-		return shell.evaluate(groovyScript.toString());
-	}
+    /**
+     * Same as {@link #parseAndGetPropertyValueForXml(String, String)} but the response body is only parsed once for
+     * all the locators evaluated against the same response. The parsed body cannot be changed.
+     */
+    public static Object parseAndGetPropertyValueForXml(String locator, ResponseObject responseObject)
+            throws Exception {
+        return LocatorExpression.forXml(locator, null).evaluate(getParsedXmlBody(responseObject));
+    }
+
+    /**
+     * Same as {@link #parseAndExecuteExpressionForJson(String, String, String)} but the response body is only parsed
+     * once for all the locators evaluated against the same response.
+     */
+    public static Object parseAndExecuteExpressionForJson(String locator, String groovyFunction,
+            ResponseObject responseObject) throws Exception {
+        return LocatorExpression.forJson(locator, groovyFunction).evaluate(getParsedJsonBody(responseObject));
+    }
+
+    /**
+     * Same as {@link #parseAndGetPropertyValueForJson(String, String)} but the response body is only parsed once for
+     * all the locators evaluated against the same response.
+     */
+    public static Object parseAndGetPropertyValueForJson(String locator, ResponseObject responseObject)
+            throws Exception {
+        return LocatorExpression.forJson(locator, null).evaluate(getParsedJsonBody(responseObject));
+    }
+
+    private static Object getParsedXmlBody(ResponseObject responseObject) throws Exception {
+        ReadOnlyXmlDocument document = (ReadOnlyXmlDocument) responseObject.getParsedBody(PARSED_XML_BODY,
+                () -> ReadOnlyXmlDocument.parse(responseObject.getResponseBodyContent()));
+        return document.getRoot();
+    }
+
+    private static Object getParsedJsonBody(ResponseObject responseObject) throws Exception {
+        return responseObject.getParsedBody(PARSED_JSON_BODY,
+                () -> new JsonSlurper().parseText(responseObject.getResponseBodyContent()));
+    }
+
+    private static GPathResult parseXml(String xmlText) {
+        try {
+            return new XmlSlurper().parseText(xmlText);
+        } catch (IOException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
 
     public static long calculateHeaderLength(HttpURLConnection conn) {
         long headerLength = conn.getHeaderFields().entrySet().stream().mapToLong(e -> {
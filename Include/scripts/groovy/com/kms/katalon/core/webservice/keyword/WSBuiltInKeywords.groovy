@@ -1,5 +1,7 @@
 package com.kms.katalon.core.webservice.keyword;
 
+import java.util.concurrent.CompletableFuture
+
 import com.kms.katalon.core.annotation.Keyword
 import com.kms.katalon.core.exception.StepErrorException
 import com.kms.katalon.core.exception.StepFailedException
@@ -64,6 +66,56 @@ public class WSBuiltInKeywords extends BuiltinKeywords {
     public static ResponseObject sendRequestAndVerify(RequestObject request) throws Exception {
         return (ResponseObject) KeywordExecutor.executeKeywordForPlatform(KeywordExecutor.PLATFORM_WEB_SERVICE, "sendRequestAndVerify", request)
     }
+
+    /**
+     * Send a HTTP Request to web server without waiting for the response. The request is sent on a bounded pool of worker threads, see <code>maxConcurrentRequests</code> and <code>maxConcurrentRequestsPerHost</code> execution settings
+     * @param request the object represents for a HTTP Request, user need to define it from Object Repository->New->Web Service Request, and get it by ObjectRepository.findRequestObject("requestObjectId")
+     * @param flowControl
+     * @return a future that completes with the response, or completes exceptionally if the request cannot be sent. The failure is logged as a warning by the first <code>get()</code> or <code>join()</code> that throws it
+     * @throws Exception
+     */
+    @CompileStatic
+    @Keyword(keywordObject = StringConstants.KW_CATEGORIZE_REQUEST)
+    public static CompletableFuture<ResponseObject> sendRequestAsync(RequestObject request, FailureHandling flowControl) throws Exception {
+        return (CompletableFuture<ResponseObject>) KeywordExecutor.executeKeywordForPlatform(KeywordExecutor.PLATFORM_WEB_SERVICE, "sendRequestAsync", request, flowControl)
+    }
+
+    /**
+     * Send a HTTP Request to web server without waiting for the response. The request is sent on a bounded pool of worker threads, see <code>maxConcurrentRequests</code> and <code>maxConcurrentRequestsPerHost</code> execution settings
+     * @param request the object represents for a HTTP Request, user need to define it from Object Repository->New->Web Service Request, and get it by ObjectRepository.findRequestObject("requestObjectId")
+     * @return a future that completes with the response, or completes exceptionally if the request cannot be sent. The failure is logged as a warning by the first <code>get()</code> or <code>join()</code> that throws it
+     * @throws Exception
+     */
+    @CompileStatic
+    @Keyword(keywordObject = StringConstants.KW_CATEGORIZE_REQUEST)
+    public static CompletableFuture<ResponseObject> sendRequestAsync(RequestObject request) throws Exception {
+        return (CompletableFuture<ResponseObject>) KeywordExecutor.executeKeywordForPlatform(KeywordExecutor.PLATFORM_WEB_SERVICE, "sendRequestAsync", request)
+    }
+
+    /**
+     * Send multiple independent HTTP Requests to web server concurrently without waiting for their responses
+     * @param requests the objects represent for HTTP Requests
+     * @param flowControl
+     * @return futures of the responses, in the same order as the requests. The failure of a request is logged as a warning by the first <code>get()</code> or <code>join()</code> of its future that throws it
+     * @throws Exception
+     */
+    @CompileStatic
+    @Keyword(keywordObject = StringConstants.KW_CATEGORIZE_REQUEST)
+    public static List<CompletableFuture<ResponseObject>> sendRequestsAsync(List<RequestObject> requests, FailureHandling flowControl) throws Exception {
+        return (List<CompletableFuture<ResponseObject>>) KeywordExecutor.executeKeywordForPlatform(KeywordExecutor.PLATFORM_WEB_SERVICE, "sendRequestsAsync", requests, flowControl)
+    }
+
+    /**
+     * Send multiple independent HTTP Requests to web server concurrently without waiting for their responses
+     * @param requests the objects represent for HTTP Requests
+     * @return futures of the responses, in the same order as the requests. The failure of a request is logged as a warning by the first <code>get()</code> or <code>join()</code> of its future that throws it
+     * @throws Exception
+     */
+    @CompileStatic
+    @Keyword(keywordObject = StringConstants.KW_CATEGORIZE_REQUEST)
+    public static List<CompletableFuture<ResponseObject>> sendRequestsAsync(List<RequestObject> requests) throws Exception {
+        return (List<CompletableFuture<ResponseObject>>) KeywordExecutor.executeKeywordForPlatform(KeywordExecutor.PLATFORM_WEB_SERVICE, "sendRequestsAsync", requests)
+    }
     
     /**
      * Get the number of expected elements (JSON/XML) in the response (output) of a web service call
@@ -38,8 +38,8 @@ class GetElementPropertyValueKeyword extends WebserviceAbstractKeyword {
         return KeywordMain.runKeyword({
             WebServiceCommonHelper.checkResponseObject(response);
             Object retValue = response.isXmlContentType() ?
-                WebServiceCommonHelper.parseAndGetPropertyValueForXml(locator, response.getResponseBodyContent()) :
-                WebServiceCommonHelper.parseAndGetPropertyValueForJson(locator, response.getResponseBodyContent())
+                WebServiceCommonHelper.parseAndGetPropertyValueForXml(locator, response) :
+                WebServiceCommonHelper.parseAndGetPropertyValueForJson(locator, response)
             return retValue
         }, flowControl, StringConstants.KW_LOG_FAILED_CANNOT_GET_ELEMENT_PROPERTY_VALUE)
     }
@@ -37,8 +37,8 @@ class GetElementTextKeyword extends WebserviceAbstractKeyword {
         Object retValue = KeywordMain.runKeyword({
             WebServiceCommonHelper.checkResponseObject(response)
             Object retValue = response.isXmlContentType() ?
-                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "text()", response.getResponseBodyContent()) :
-                    WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "text()", response.getResponseBodyContent())
+                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "text()", response) :
+                    WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "text()", response)
             return retValue
         }, flowControl, StringConstants.KW_LOG_FAILED_CANNOT_GET_ELEMENT_TEXT)
         return String.valueOf(retValue)
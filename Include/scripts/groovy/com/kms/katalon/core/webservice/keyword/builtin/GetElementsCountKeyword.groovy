@@ -37,8 +37,8 @@ class GetElementsCountKeyword extends WebserviceAbstractKeyword {
         Object retValue = KeywordMain.runKeyword({
             WebServiceCommonHelper.checkResponseObject(response)
             Object retValue = response.isXmlContentType() ?
-                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "size()", response.getResponseBodyContent())
-                    : WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "size()", response.getResponseBodyContent())
+                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "size()", response)
+                    : WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "size()", response)
             return retValue
         }, flowControl, StringConstants.KW_LOG_FAILED_CANNOT_GET_ELEMENT_COUNT)
         int count = Integer.parseInt(String.valueOf(retValue))
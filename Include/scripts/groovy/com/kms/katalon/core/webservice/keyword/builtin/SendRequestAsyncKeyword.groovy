@@ -0,0 +1,60 @@
+package com.kms.katalon.core.webservice.keyword.builtin
+
+import java.text.MessageFormat
+import java.util.concurrent.CompletableFuture
+import java.util.function.Consumer
+
+import com.kms.katalon.core.annotation.internal.Action
+import com.kms.katalon.core.configuration.RunConfiguration
+import com.kms.katalon.core.keyword.internal.KeywordMain
+import com.kms.katalon.core.keyword.internal.SupportLevel
+import com.kms.katalon.core.model.FailureHandling
+import com.kms.katalon.core.testobject.RequestObject
+import com.kms.katalon.core.testobject.ResponseObject
+import com.kms.katalon.core.util.internal.ExceptionsUtil
+import com.kms.katalon.core.webservice.common.AsyncRequestSender
+import com.kms.katalon.core.webservice.common.FailureReportingFuture
+import com.kms.katalon.core.webservice.constants.StringConstants
+import com.kms.katalon.core.webservice.keyword.internal.WebserviceAbstractKeyword
+
+import groovy.transform.CompileStatic
+
+@Action(value = "sendRequestAsync")
+public class SendRequestAsyncKeyword extends WebserviceAbstractKeyword {
+
+    @CompileStatic
+    @Override
+    public SupportLevel getSupportLevel(Object ...params) {
+        return super.getSupportLevel(params)
+    }
+
+    @CompileStatic
+    @Override
+    public Object execute(Object ...params) {
+        RequestObject request = (RequestObject) params[0]
+        FailureHandling flowControl = (FailureHandling)(params.length > 1 && params[1] instanceof FailureHandling ? params[1] : RunConfiguration.getDefaultFailureHandling())
+        return sendRequestAsync(request, flowControl)
+    }
+
+    @CompileStatic
+    public CompletableFuture<ResponseObject> sendRequestAsync(RequestObject request, FailureHandling flowControl) throws Exception {
+        Object object = KeywordMain.runKeyword({
+            CompletableFuture<ResponseObject> future = logFailureWhenJoined(AsyncRequestSender.getDefault().sendAsync(request))
+            logger.logInfo(MessageFormat.format(StringConstants.KW_LOG_INFO_SUBMITTED_ASYNC_REQUESTS, 1))
+            return future
+        }, flowControl, StringConstants.KW_LOG_FAILED_CANNOT_SUBMIT_ASYNC_REQUESTS)
+        if (object instanceof CompletableFuture) {
+            return (CompletableFuture<ResponseObject>) object
+        }
+        return null
+    }
+
+    @CompileStatic
+    private CompletableFuture<ResponseObject> logFailureWhenJoined(CompletableFuture<ResponseObject> future) {
+        // Transport failures happen after the step has ended on a worker thread, they are logged by the step that gets the response
+        return FailureReportingFuture.of(future, { Throwable cause ->
+            logger.logWarning(MessageFormat.format(StringConstants.KW_LOG_WARNING_ASYNC_REQUEST_FAILED,
+                    ExceptionsUtil.getMessageForThrowable(cause)))
+        } as Consumer<Throwable>)
+    }
+}
@@ -48,8 +48,8 @@ public class VerifyElementPropertyValueKeyword extends WebserviceAbstractKeyword
         Object object = KeywordMain.runKeyword({
             WebServiceCommonHelper.checkResponseObject(response)
             Object retValue = response.isXmlContentType() ?
-                    WebServiceCommonHelper.parseAndGetPropertyValueForXml(locator, response.getResponseBodyContent()) :
-                    WebServiceCommonHelper.parseAndGetPropertyValueForJson(locator, response.getResponseBodyContent())
+                    WebServiceCommonHelper.parseAndGetPropertyValueForXml(locator, response) :
+                    WebServiceCommonHelper.parseAndGetPropertyValueForJson(locator, response)
             
             boolean isEqual = String.valueOf(value).equals(String.valueOf(retValue))
             if (!isEqual) {
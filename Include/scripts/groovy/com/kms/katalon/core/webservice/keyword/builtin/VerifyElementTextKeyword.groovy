@@ -45,8 +45,8 @@ public class VerifyElementTextKeyword extends WebserviceAbstractKeyword {
         Object object = KeywordMain.runKeyword({
             WebServiceCommonHelper.checkResponseObject(response)
             Object retValue = response.isXmlContentType() ?
-                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "text()", response.getResponseBodyContent()) :
-                    WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "text()", response.getResponseBodyContent())
+                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "text()", response) :
+                    WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "text()", response)
             boolean isEqual = (text.equals(String.valueOf(retValue)))
             if (!isEqual) {
                 KeywordMain.stepFailed(MessageFormat.format(StringConstants.KW_LOG_FAILED_ACTUAL_ELEMENT_TEXT_IS, [text, retValue] as Object[]), flowControl, null, null)
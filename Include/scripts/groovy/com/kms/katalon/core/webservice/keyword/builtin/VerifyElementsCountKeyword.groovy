@@ -45,8 +45,8 @@ public class VerifyElementsCountKeyword extends WebserviceAbstractKeyword {
         Object object = KeywordMain.runKeyword({
             WebServiceCommonHelper.checkResponseObject(response)
             Object retValue = response.isXmlContentType() ?
-                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "size()", response.getResponseBodyContent())
-                    : WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "size()", response.getResponseBodyContent())
+                    WebServiceCommonHelper.parseAndExecuteExpressionForXml(locator, "size()", response)
+                    : WebServiceCommonHelper.parseAndExecuteExpressionForJson(locator, "size()", response)
             int actualValue = Integer.parseInt(String.valueOf(retValue))
             boolean isEqual = (count == actualValue)
             if (!isEqual) {
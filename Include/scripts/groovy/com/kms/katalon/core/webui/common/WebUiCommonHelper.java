@@ -50,10 +50,14 @@ import com.kms.katalon.core.util.internal.ExceptionsUtil;
 import com.kms.katalon.core.common.XPathBuilder;
 import com.kms.katalon.core.common.XPathBuilder.PropertyType;
 import com.kms.katalon.core.webui.common.internal.BrokenTestObject;
+import com.kms.katalon.core.webui.common.internal.ElementPollingStrategy;
+import com.kms.katalon.core.webui.common.internal.ElementPollingStrategy.ElementPoller;
+import com.kms.katalon.core.webui.common.internal.ExponentialBackoffPollingStrategy;
 import com.kms.katalon.core.webui.common.internal.ImageLocatorController;
 import com.kms.katalon.core.webui.common.internal.SelfHealingController;
 import com.kms.katalon.core.webui.constants.CoreWebuiMessageConstants;
 import com.kms.katalon.core.webui.constants.StringConstants;
+import com.kms.katalon.core.webui.constants.WebUICommonScriptConstants;
 import com.kms.katalon.core.webui.driver.DriverFactory;
 import com.kms.katalon.core.webui.exception.WebElementNotFoundException;
 import com.kms.katalon.core.webui.util.FileUtil;
@@ -61,6 +65,8 @@ import com.kms.katalon.core.webui.util.FileUtil;
 public class WebUiCommonHelper extends KeywordHelper {
     
     private static final KeywordLogger logger = KeywordLogger.getInstance(WebUiCommonHelper.class);
+
+    private static ElementPollingStrategy elementPollingStrategy;
     
     public static final String CSS_LOCATOR_PROPERTY_NAME = "css";
     
@@ -128,6 +134,7 @@ public class WebUiCommonHelper extends KeywordHelper {
                 webDriver = webDriver.switchTo().window(windowId);
                 if (webDriver.getTitle().equals(title)) {
                     webDriver.close();
+                    DriverFactory.invalidateWindowState();
                     return true;
                 }
             }
@@ -159,6 +166,7 @@ public class WebUiCommonHelper extends KeywordHelper {
             for (String windowId : availableWindows) {
                 if (webDriver.switchTo().window(windowId).getCurrentUrl().equals(url)) {
                     webDriver.close();
+                    DriverFactory.invalidateWindowState();
                     return true;
                 }
             }
@@ -189,6 +197,7 @@ public class WebUiCommonHelper extends KeywordHelper {
             if (index >= 0 && index < availableWindows.size()) {
                 webDriver.switchTo().window(availableWindows.get(index));
                 webDriver.close();
+                DriverFactory.invalidateWindowState();
                 return true;
             }
             Thread.sleep(200);
@@ -710,6 +719,23 @@ public class WebUiCommonHelper extends KeywordHelper {
         return documentRect.intersects(elementRect);
     }
 
+    /**
+     * Sets the strategy used to poll the browser while looking up web elements.
+     * 
+     * @param pollingStrategy the strategy to use, or <code>null</code> to use the
+     * {@link ExponentialBackoffPollingStrategy} configured in the execution settings
+     */
+    public static void setElementPollingStrategy(ElementPollingStrategy pollingStrategy) {
+        elementPollingStrategy = pollingStrategy;
+    }
+
+    public static ElementPollingStrategy getElementPollingStrategy() {
+        if (elementPollingStrategy != null) {
+            return elementPollingStrategy;
+        }
+        return ExponentialBackoffPollingStrategy.fromExecutionSettings();
+    }
+
     public static List<WebElement> findWebElements(TestObject testObject, int timeout) throws Exception {
         timeout = WebUiCommonHelper.checkTimeout(timeout);
         
@@ -934,7 +960,7 @@ public class WebUiCommonHelper extends KeywordHelper {
 
         logger.logDebug(MessageFormat.format(CoreWebuiMessageConstants.MSG_INFO_WEB_ELEMENT_HAVE_PARENT_SHADOW_ROOT,
                 testObject.getObjectId(), testObject.getParentObject().getObjectId()));
-        long startTime = System.currentTimeMillis();
+        ElementPoller poller = getElementPollingStrategy().start(timeout);
         do {
             try {
                 isSwitchToParentFrame = switchToParentFrame(parentObject);
@@ -964,7 +990,11 @@ public class WebUiCommonHelper extends KeywordHelper {
                     switchToDefaultContent();
                 }
             }
-        } while ((System.currentTimeMillis() - startTime) / 1000 <= timeout);
+            if (foundElements != null && !foundElements.isEmpty()) {
+                break;
+            }
+        } while (poller.awaitNextPoll());
+        logPollCount(testObject, poller);
 
         return FindElementsResult.from(foundElements, cssLocator, SelectorMethod.CSS, StringUtils.EMPTY);
     }
@@ -1008,7 +1038,7 @@ public class WebUiCommonHelper extends KeywordHelper {
 
         List<WebElement> foundElements = Collections.emptyList();
 
-        long startTime = System.currentTimeMillis();
+        ElementPoller poller = getElementPollingStrategy().start(timeout);
         do {
             try {
                 foundElements = webDriver.findElements(defaultLocator);
@@ -1020,7 +1050,8 @@ public class WebUiCommonHelper extends KeywordHelper {
             } catch (NoSuchElementException e) {
                 // not found element yet, moving on
             }
-        } while ((System.currentTimeMillis() - startTime) / 1000 <= timeout);
+        } while (poller.awaitNextPoll());
+        logPollCount(testObject, poller);
 
         if (foundElements == null || foundElements.isEmpty()) {
             logger.logInfo(MessageFormat.format(StringConstants.KW_LOG_INFO_CANNOT_FIND_WEB_ELEMENT_BY_LOCATOR,
@@ -1046,8 +1077,22 @@ public class WebUiCommonHelper extends KeywordHelper {
         String screenshotPath = StringUtils.EMPTY;
 
         boolean hasFound = false;
-        long startTime = System.currentTimeMillis();
+        boolean useBatchEvaluation = shouldBatchEvaluateSmartXPaths(webDriver);
+        ElementPoller poller = getElementPollingStrategy().start(timeout);
         do {
+            // Evaluate all candidates in a single script call, then replay the result in order below
+            Pair<Integer, List<WebElement>> batchMatch = null;
+            if (useBatchEvaluation) {
+                try {
+                    batchMatch = findFirstMatchingXPathInBrowser(webDriver, allXPaths);
+                } catch (WebDriverException e) {
+                    logger.logDebug(MessageFormat.format(
+                            StringConstants.KW_LOG_DEBUG_CANNOT_BATCH_EVALUATE_SMART_XPATHS,
+                            ExceptionsUtil.getMessageForThrowable(e)));
+                    useBatchEvaluation = false;
+                }
+            }
+
             for (int i = 0; i < allXPaths.size(); i++) {
                 selectedXPath = allXPaths.get(i);
                 String xpathValue = selectedXPath.getValue();
@@ -1055,11 +1100,15 @@ public class WebUiCommonHelper extends KeywordHelper {
                     continue;
                 }
     
-                By bySelectedXPath = By.xpath(selectedXPath.getValue());
-                try {
-                    foundElements = webDriver.findElements(bySelectedXPath);
-                } catch (NoSuchElementException e) {
-                    // do nothing
+                if (batchMatch != null) {
+                    foundElements = batchMatch.getLeft() == i ? batchMatch.getRight() : null;
+                } else {
+                    By bySelectedXPath = By.xpath(selectedXPath.getValue());
+                    try {
+                        foundElements = webDriver.findElements(bySelectedXPath);
+                    } catch (NoSuchElementException e) {
+                        // do nothing
+                    }
                 }
     
                 if (foundElements != null && !foundElements.isEmpty()) {
@@ -1076,7 +1125,8 @@ public class WebUiCommonHelper extends KeywordHelper {
                 }
             }
             hasFound = foundElements != null && !foundElements.isEmpty();
-        } while (!hasFound && (System.currentTimeMillis() - startTime) / 1000 <= timeout);
+        } while (!hasFound && poller.awaitNextPoll());
+        logPollCount(testObject, poller);
 
         if (selectedXPath == null) {
             SelfHealingController.logInfo(StringConstants.KW_LOG_INFO_COULD_NOT_FIND_ANY_WEB_ELEMENT_WITH_SMART_XPATHS);
@@ -1086,6 +1136,45 @@ public class WebUiCommonHelper extends KeywordHelper {
         return FindElementsResult.from(foundElements, selectedXPath.getValue(), SelectorMethod.XPATH, screenshotPath);
     }
 
+    private static boolean shouldBatchEvaluateSmartXPaths(WebDriver webDriver) {
+        if (!(webDriver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        if (generalProperties == null) {
+            return true;
+        }
+        return !Boolean.FALSE
+                .equals(generalProperties.get(StringConstants.CONF_PROPERTY_BATCH_SMART_XPATH_EVALUATION));
+    }
+
+    /**
+     * Evaluates all Smart XPaths of a test object in one round trip.
+     * 
+     * @return index of the first matching XPath and its elements, or index <code>-1</code> if none matches
+     * @throws WebDriverException if the script cannot be executed
+     */
+    @SuppressWarnings("unchecked")
+    private static Pair<Integer, List<WebElement>> findFirstMatchingXPathInBrowser(WebDriver webDriver,
+            List<TestObjectXpath> xpaths) throws WebDriverException {
+        List<String> xpathValues = xpaths.stream()
+                .map(xpath -> StringUtils.defaultString(xpath.getValue()))
+                .collect(Collectors.toList());
+        Object result = ((JavascriptExecutor) webDriver)
+                .executeScript(WebUICommonScriptConstants.FIND_FIRST_MATCHING_XPATH_SCRIPT, xpathValues);
+        if (!(result instanceof List) || ((List<?>) result).size() != 2) {
+            return Pair.of(-1, Collections.emptyList());
+        }
+        List<Object> match = (List<Object>) result;
+        return Pair.of(((Number) match.get(0)).intValue(), (List<WebElement>) match.get(1));
+    }
+
+    private static void logPollCount(TestObject testObject, ElementPoller poller) {
+        logger.logDebug(MessageFormat.format(StringConstants.KW_LOG_DEBUG_WEB_ELEMENT_LOOKUP_POLLS,
+                testObject.getObjectId(), String.valueOf(poller.getPollCount()),
+                String.valueOf(poller.getElapsedTime())));
+    }
+
     private static FindElementsResult findElementsByImage(TestObject testObject, int timeout) {
         WebDriver webDriver = DriverFactory.getWebDriver();
         String screenshot = testObject.getSelectorCollection().get(SelectorMethod.IMAGE);
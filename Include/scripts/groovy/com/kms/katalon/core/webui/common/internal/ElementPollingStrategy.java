@@ -0,0 +1,36 @@
+package com.kms.katalon.core.webui.common.internal;
+
+/**
+ * Decides how often a web element lookup polls the browser until the element is found or the timeout expires.
+ */
+public interface ElementPollingStrategy {
+
+    /**
+     * Starts a new lookup. The first poll is always performed immediately.
+     * 
+     * @param timeoutInSeconds timeout of the lookup
+     * @return a poller that tracks the state of this lookup
+     */
+    ElementPoller start(int timeoutInSeconds);
+
+    interface ElementPoller {
+
+        /**
+         * Waits until the next poll is due.
+         * 
+         * @return <code>true</code> if the lookup should poll again, <code>false</code> if it should stop because the
+         * timeout expired, the poll limit was reached or the thread was interrupted
+         */
+        boolean awaitNextPoll();
+
+        /**
+         * @return number of polls performed so far, including the first one
+         */
+        int getPollCount();
+
+        /**
+         * @return milliseconds elapsed since the lookup started
+         */
+        long getElapsedTime();
+    }
+}
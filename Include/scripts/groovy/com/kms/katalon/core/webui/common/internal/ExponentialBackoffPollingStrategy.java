@@ -0,0 +1,132 @@
+package com.kms.katalon.core.webui.common.internal;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.kms.katalon.core.configuration.RunConfiguration;
+import com.kms.katalon.core.webui.constants.StringConstants;
+
+/**
+ * Polls with an interval that starts at a minimum value and grows exponentially up to a maximum value. A random
+ * jitter is added to every interval so that parallel executions do not hit a remote grid in lock step.
+ */
+public class ExponentialBackoffPollingStrategy implements ElementPollingStrategy {
+
+    public static final long DEFAULT_MIN_INTERVAL = 50;
+
+    public static final long DEFAULT_MAX_INTERVAL = 1000;
+
+    public static final double DEFAULT_MULTIPLIER = 2;
+
+    public static final double DEFAULT_JITTER_RATIO = 0.2;
+
+    // No limit
+    public static final int DEFAULT_MAX_POLLS = 0;
+
+    private final long minInterval;
+
+    private final long maxInterval;
+
+    private final double multiplier;
+
+    private final double jitterRatio;
+
+    private final int maxPolls;
+
+    /**
+     * @param minInterval minimum interval between two polls in milliseconds
+     * @param maxInterval maximum interval between two polls in milliseconds
+     * @param multiplier factor the interval grows by after every poll
+     * @param jitterRatio maximum random extra delay, as a ratio of the current interval
+     * @param maxPolls maximum number of polls per lookup, <code>0</code> for no limit
+     */
+    public ExponentialBackoffPollingStrategy(long minInterval, long maxInterval, double multiplier, double jitterRatio,
+            int maxPolls) {
+        if (minInterval < 0 || maxInterval < minInterval || multiplier < 1 || jitterRatio < 0 || maxPolls < 0) {
+            throw new IllegalArgumentException("Invalid polling configuration");
+        }
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.multiplier = multiplier;
+        this.jitterRatio = jitterRatio;
+        this.maxPolls = maxPolls;
+    }
+
+    /**
+     * Creates a strategy from the execution settings, using default values for the missing ones.
+     */
+    public static ExponentialBackoffPollingStrategy fromExecutionSettings() {
+        Map<String, Object> generalProperties = RunConfiguration.getExecutionGeneralProperties();
+        long minInterval = getLongProperty(generalProperties, StringConstants.CONF_PROPERTY_ELEMENT_POLLING_MIN_INTERVAL,
+                DEFAULT_MIN_INTERVAL);
+        long maxInterval = Math.max(minInterval, getLongProperty(generalProperties,
+                StringConstants.CONF_PROPERTY_ELEMENT_POLLING_MAX_INTERVAL, DEFAULT_MAX_INTERVAL));
+        int maxPolls = (int) getLongProperty(generalProperties, StringConstants.CONF_PROPERTY_ELEMENT_POLLING_MAX_POLLS,
+                DEFAULT_MAX_POLLS);
+        return new ExponentialBackoffPollingStrategy(minInterval, maxInterval, DEFAULT_MULTIPLIER,
+                DEFAULT_JITTER_RATIO, maxPolls);
+    }
+
+    private static long getLongProperty(Map<String, Object> properties, String key, long defaultValue) {
+        if (properties == null || !(properties.get(key) instanceof Number)) {
+            return defaultValue;
+        }
+        return Math.max(0, ((Number) properties.get(key)).longValue());
+    }
+
+    @Override
+    public ElementPoller start(int timeoutInSeconds) {
+        return new BackoffPoller(timeoutInSeconds);
+    }
+
+    private class BackoffPoller implements ElementPoller {
+        private final long startTime;
+
+        private final long deadline;
+
+        private long currentInterval;
+
+        private int pollCount;
+
+        private BackoffPoller(int timeoutInSeconds) {
+            startTime = System.currentTimeMillis();
+            // Like the lookup loops did before, poll until the elapsed whole seconds are over the timeout, so that a
+            // timeout of 0 still polls for about a second
+            deadline = startTime + (Math.max(0, timeoutInSeconds) + 1) * 1000L;
+            currentInterval = minInterval;
+            pollCount = 1;
+        }
+
+        @Override
+        public boolean awaitNextPoll() {
+            if (maxPolls > 0 && pollCount >= maxPolls) {
+                return false;
+            }
+            long remainingTime = deadline - System.currentTimeMillis();
+            if (remainingTime <= 0) {
+                return false;
+            }
+            long jitter = (long) (currentInterval * jitterRatio * ThreadLocalRandom.current().nextDouble());
+            long delay = Math.min(Math.min(currentInterval + jitter, maxInterval), remainingTime);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            currentInterval = Math.min(maxInterval, (long) Math.ceil(currentInterval * multiplier));
+            pollCount++;
+            return true;
+        }
+
+        @Override
+        public int getPollCount() {
+            return pollCount;
+        }
+
+        @Override
+        public long getElapsedTime() {
+            return System.currentTimeMillis() - startTime;
+        }
+    }
+}
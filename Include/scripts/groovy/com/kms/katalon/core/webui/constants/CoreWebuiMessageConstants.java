@@ -83,6 +83,8 @@ public class CoreWebuiMessageConstants extends NLS {
 
     public static String DRI_LOG_WARNING_BROWSER_NOT_REACHABLE;
 
+    public static String DRI_LOG_DEBUG_AVOIDED_WINDOW_SWITCHES;
+
     public static String DRI_MSG_UNABLE_REACH_WEB_DRI_TIMEOUT;
 
     public static String DRI_ERROR_MSG_NO_BROWSER_SET;
@@ -178,6 +180,10 @@ public class CoreWebuiMessageConstants extends NLS {
     public static String KW_LOG_INFO_FINDING_WEB_ELEMENT_W_ID;
 
     public static String KW_LOG_INFO_FINDING_WEB_ELEMENT_W_ID_SUCCESS;
+
+    public static String KW_LOG_DEBUG_WEB_ELEMENT_LOOKUP_POLLS;
+
+    public static String KW_LOG_DEBUG_CANNOT_BATCH_EVALUATE_SMART_XPATHS;
     
     public static String KW_LOG_INFO_CANNOT_FIND_WEB_ELEMENT_BY_LOCATOR;
 
@@ -50,6 +50,7 @@ public class StringConstants extends com.kms.katalon.core.constants.StringConsta
 	// DriverFactory
     public static final String DRI_LOG_WARNING_BROWSER_ALREADY_OPENED = CoreWebuiMessageConstants.DRI_LOG_WARNING_BROWSER_ALREADY_OPENED;
     public static final String DRI_LOG_WARNING_BROWSER_NOT_REACHABLE = CoreWebuiMessageConstants.DRI_LOG_WARNING_BROWSER_NOT_REACHABLE;
+    public static final String DRI_LOG_DEBUG_AVOIDED_WINDOW_SWITCHES = CoreWebuiMessageConstants.DRI_LOG_DEBUG_AVOIDED_WINDOW_SWITCHES;
     public static final String DRI_MSG_UNABLE_REACH_WEB_DRI_TIMEOUT = CoreWebuiMessageConstants.DRI_MSG_UNABLE_REACH_WEB_DRI_TIMEOUT;
     public static final String DRI_ERROR_MSG_NO_BROWSER_SET = CoreWebuiMessageConstants.DRI_ERROR_MSG_NO_BROWSER_SET;
     public static final String DRI_ERROR_DRIVER_X_NOT_IMPLEMENTED = CoreWebuiMessageConstants.DRI_ERROR_DRIVER_X_NOT_IMPLEMENTED;
@@ -65,6 +66,10 @@ public class StringConstants extends com.kms.katalon.core.constants.StringConsta
     public static final String CONF_PROPERTY_DEFAULT_PAGE_LOAD_TIMEOUT = "defaultPageLoadTimeout";
     public static final String CONF_PROPERTY_ACTION_DELAY = "actionDelay";
     public static final String CONF_PROPERTY_USE_ACTION_DELAY_IN_SECOND = "useActionDelayInSecond";
+    public static final String CONF_PROPERTY_ELEMENT_POLLING_MIN_INTERVAL = "elementPollingMinInterval";
+    public static final String CONF_PROPERTY_ELEMENT_POLLING_MAX_INTERVAL = "elementPollingMaxInterval";
+    public static final String CONF_PROPERTY_ELEMENT_POLLING_MAX_POLLS = "elementPollingMaxPolls";
+    public static final String CONF_PROPERTY_BATCH_SMART_XPATH_EVALUATION = "batchSmartXPathEvaluation";
     public static final String CONF_PROPERTY_IGNORE_PAGE_LOAD_TIMEOUT_EXCEPTION = "ignorePageLoadTimeoutException";
 	public static final String CONF_PROPERTY_EXECUTED_BROWSER = XML_LOG_BROWSER_TYPE_PROPERTY;
     public static final String CONF_PROPERTY_REMOTE_WEB_DRIVER_URL = "remoteWebDriverUrl";
@@ -120,6 +125,8 @@ public class StringConstants extends com.kms.katalon.core.constants.StringConsta
     public static final String KW_LOG_INFO_FINDING_WEB_ELEMENT_W_ID = CoreWebuiMessageConstants.KW_LOG_INFO_FINDING_WEB_ELEMENT_W_ID;
     public static final String KW_LOG_INFO_CANNOT_FIND_WEB_ELEMENT_BY_LOCATOR = CoreWebuiMessageConstants.KW_LOG_INFO_CANNOT_FIND_WEB_ELEMENT_BY_LOCATOR;
     public static final String KW_LOG_INFO_FINDING_WEB_ELEMENT_W_ID_SUCCESS = CoreWebuiMessageConstants.KW_LOG_INFO_FINDING_WEB_ELEMENT_W_ID_SUCCESS;
+    public static final String KW_LOG_DEBUG_WEB_ELEMENT_LOOKUP_POLLS = CoreWebuiMessageConstants.KW_LOG_DEBUG_WEB_ELEMENT_LOOKUP_POLLS;
+    public static final String KW_LOG_DEBUG_CANNOT_BATCH_EVALUATE_SMART_XPATHS = CoreWebuiMessageConstants.KW_LOG_DEBUG_CANNOT_BATCH_EVALUATE_SMART_XPATHS;
     public static final String KW_LOG_INFO_RETRIEVING_WEB_ELEMENT_FROM_CACHE = CoreWebuiMessageConstants.KW_LOG_INFO_RETRIEVING_WEB_ELEMENT_FROM_CACHE;
     public static final String KW_LOG_INFO_FINDING_WEB_ELEMENT_USING_HEURISTIC_METHOD = CoreWebuiMessageConstants.KW_LOG_INFO_FINDING_WEB_ELEMENT_USING_HEURISTIC_METHOD;
     public static final String KW_LOG_INFO_REPORT_FAILURE_WHEN_USING_HEURISTIC_METHOD = CoreWebuiMessageConstants.KW_LOG_INFO_REPORT_FAILURE_WHEN_USING_HEURISTIC_METHOD;
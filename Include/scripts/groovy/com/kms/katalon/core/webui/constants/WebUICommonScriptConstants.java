@@ -23,4 +23,25 @@ public class WebUICommonScriptConstants {
     public static final String BUILD_LOCATOR_SCRIPT = "var ku_locatorBuilders = new KULocatorBuilders(window); return ku_locatorBuilders.buildAll(arguments[0]);";
 
     public static final String GENERATE_XPATHS_SCRIPT = RECORDER_DEPENDENCIES + BUILD_LOCATOR_SCRIPT;
+
+    /**
+     * Evaluates the XPaths in <code>arguments[0]</code> in order and returns <code>[index, elements]</code> for the
+     * first one that matches at least one element, or <code>null</code> if none matches. Blank or invalid XPaths are
+     * skipped.
+     */
+    public static final String FIND_FIRST_MATCHING_XPATH_SCRIPT = "var xpaths = arguments[0];"
+            + "for (var i = 0; i < xpaths.length; i++) {"
+            + "  if (!xpaths[i]) { continue; }"
+            + "  var result;"
+            + "  try {"
+            + "    result = document.evaluate(xpaths[i], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  } catch (e) { continue; }"
+            + "  var elements = [];"
+            + "  for (var j = 0; j < result.snapshotLength; j++) {"
+            + "    var node = result.snapshotItem(j);"
+            + "    if (node.nodeType === 1) { elements.push(node); }"
+            + "  }"
+            + "  if (elements.length > 0) { return [i, elements]; }"
+            + "}"
+            + "return null;";
 }
@@ -196,6 +196,13 @@ public class DriverFactory {
         }
     };
 
+    private static final ThreadLocal<WindowState> localWindowStateStorage = new ThreadLocal<WindowState>() {
+        @Override
+        protected WindowState initialValue() {
+            return new WindowState();
+        }
+    };
+
     private static final ThreadLocal<EdgeDriverService> localEdgeDriverServiceStorage = new ThreadLocal<EdgeDriverService>() {
         @Override
         protected EdgeDriverService initialValue() {
@@ -264,6 +271,7 @@ public class DriverFactory {
         try {
             SmartWaitWebDriver smartWaitWebDriver = new SmartWaitWebDriver(webDriver);
             smartWaitWebDriver.register(new KatalonSmartEventListener());
+            smartWaitWebDriver.register(new WindowStateEventListener());
             DriverFactory.changeWebDriverWithoutLog(smartWaitWebDriver);
         } catch (Exception e) {
             logger.logInfo(e.getMessage());
@@ -921,6 +929,11 @@ public class DriverFactory {
         verifyWebDriverIsOpen();
         try {
             if (null == getRemoteSessionId(localWebServerStorage.get())) {
+                WindowState windowState = getWindowState();
+                if (windowState.verified) {
+                    windowState.avoidedWindowSwitches++;
+                    return;
+                }
                 switchToAvailableWindow();
             }
         } catch (WebDriverException e) {
@@ -1031,14 +1044,35 @@ public class DriverFactory {
         return false;
     }
 
+    /**
+     * Marks the window state of the active web driver as unknown, so that the next call of {@link #getWebDriver()}
+     * switches to an available window again. Must be called after anything that may close the current window.
+     */
+    public static void invalidateWindowState() {
+        localWindowStateStorage.get().verified = false;
+    }
+
+    private static WindowState getWindowState() {
+        WindowState windowState = localWindowStateStorage.get();
+        WebDriver webDriver = localWebServerStorage.get();
+        if (windowState.webDriver != webDriver) {
+            windowState.webDriver = webDriver;
+            windowState.verified = false;
+            windowState.avoidedWindowSwitches = 0L;
+        }
+        return windowState;
+    }
+
     /**
      * Switch the active web driver to any available window
      */
     public static void switchToAvailableWindow() {
         startExistingBrowserIfPossible();
         verifyWebDriverIsOpen();
+        getWindowState().verified = false;
         try {
             localWebServerStorage.get().switchTo().window("");
+            getWindowState().verified = true;
         } catch (WebDriverException e) {
             if (!(e instanceof NoSuchWindowException) && e.getMessage() != null
                     && !e.getMessage().startsWith(JAVA_SCRIPT_ERROR_H_IS_NULL_MESSAGE)) {
@@ -1049,6 +1083,7 @@ public class DriverFactory {
             for (String windowId : availableWindows) {
                 try {
                     localWebServerStorage.get().switchTo().window(windowId);
+                    getWindowState().verified = true;
                     return;
                 } catch (WebDriverException exception) {
                     if (!(exception instanceof NoSuchWindowException) && e.getMessage() != null
@@ -1462,10 +1497,19 @@ public class DriverFactory {
                 logger.logWarning(StringConstants.DRI_LOG_WARNING_BROWSER_NOT_REACHABLE, null, e);
             }
         }
+        logAvoidedWindowSwitches();
         localWebServerStorage.set(null);
         RunConfiguration.removeDriver(webDriver);
     }
 
+    private static void logAvoidedWindowSwitches() {
+        WindowState windowState = getWindowState();
+        if (windowState.avoidedWindowSwitches > 0) {
+            logger.logDebug(MessageFormat.format(StringConstants.DRI_LOG_DEBUG_AVOIDED_WINDOW_SWITCHES,
+                    windowState.avoidedWindowSwitches));
+        }
+    }
+
     private static void quitIE() {
         try {
             WebDriver webDriver = localWebServerStorage.get();
@@ -1549,4 +1593,16 @@ public class DriverFactory {
         }
         return null;
     }
+
+    /**
+     * Whether the active window of a web driver is known to be available, so that
+     * {@link DriverFactory#getWebDriver()} does not have to switch to it again.
+     */
+    private static class WindowState {
+        private WebDriver webDriver;
+
+        private boolean verified;
+
+        private long avoidedWindowSwitches;
+    }
 }
@@ -0,0 +1,28 @@
+package com.kms.katalon.core.webui.driver;
+
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+/**
+ * Event listener that makes {@link DriverFactory} check the active window again on
+ * <ul>
+ * <li>clicking on an element, since the click may close the current window</li>
+ * <li>any {@link NoSuchWindowException}</li>
+ * </ul>
+ */
+public class WindowStateEventListener extends AbstractWebDriverEventListener {
+
+    @Override
+    public void afterClickOn(WebElement element, WebDriver driver) {
+        DriverFactory.invalidateWindowState();
+    }
+
+    @Override
+    public void onException(Throwable throwable, WebDriver driver) {
+        if (throwable instanceof NoSuchWindowException) {
+            DriverFactory.invalidateWindowState();
+        }
+    }
+}
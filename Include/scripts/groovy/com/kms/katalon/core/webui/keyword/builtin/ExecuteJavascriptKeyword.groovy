@@ -13,6 +13,7 @@ import com.kms.katalon.core.exception.StepFailedException
 import com.kms.katalon.core.keyword.internal.SupportLevel
 import com.kms.katalon.core.model.FailureHandling
 import com.kms.katalon.core.webui.constants.CoreWebuiMessageConstants
+import com.kms.katalon.core.webui.driver.DriverFactory
 import com.kms.katalon.core.webui.keyword.internal.WebUIAbstractKeyword
 import com.kms.katalon.core.webui.keyword.internal.WebUIKeywordMain
 
@@ -46,6 +47,8 @@ public class ExecuteJavaScriptKeyword extends WebUIAbstractKeyword {
             }
             JavascriptExecutor jsExecutor = (JavascriptExecutor) webDriver
             Object result = jsExecutor.executeScript(script, arguments != null ? arguments.toArray() : new Object[0])
+            // The script may have closed the current window
+            DriverFactory.invalidateWindowState()
             logger.logPassed(MessageFormat.format(CoreWebuiMessageConstants.KW_LOG_PASSED_EXECUTE_JS_SUCESSFULLY, script))
             return result
         }, flowControl, true, CoreWebuiMessageConstants.KW_MSG_UNABLE_TO_EXECUTE_JS)